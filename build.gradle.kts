@@ -1,5 +1,6 @@
 plugins {
     kotlin("jvm") version "2.0.20"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "camp.nextstep.edu"
@@ -24,3 +25,16 @@ dependencies {
 tasks.test {
     useJUnitPlatform()
 }
+
+jmh {
+    jmhVersion.set("1.37")
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Runs the PersonService load driver against embedded H2. ex) ./gradlew loadTest --args=\"threads=16 virtual=true\""
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("load.PersonServiceLoadTest")
+}
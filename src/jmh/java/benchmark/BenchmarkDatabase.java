@@ -0,0 +1,40 @@
+package benchmark;
+
+import builder.ddl.DDLBuilderData;
+import builder.ddl.builder.CreateIndexQueryBuilder;
+import builder.ddl.builder.CreateQueryBuilder;
+import builder.ddl.builder.DropQueryBuilder;
+import builder.ddl.dataType.DB;
+import database.DataSourceProperties;
+import database.H2;
+import jdbc.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+//벤치마크마다 독립된 인메모리 H2 DB에 테이블을 생성한다. 웹 서버는 띄우지 않는다.
+public class BenchmarkDatabase {
+
+    private final Connection connection;
+    private final JdbcTemplate jdbcTemplate;
+    private final Class<?> entityClass;
+
+    public BenchmarkDatabase(String name, Class<?> entityClass) throws SQLException {
+        H2 h2 = new H2(new DataSourceProperties("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        this.connection = h2.getConnection();
+        this.jdbcTemplate = new JdbcTemplate(connection);
+        this.entityClass = entityClass;
+        jdbcTemplate.execute(new CreateQueryBuilder().buildQuery(DDLBuilderData.createDDLBuilderData(entityClass, DB.H2)));
+        new CreateIndexQueryBuilder().buildQuery(DDLBuilderData.createDDLBuilderData(entityClass, DB.H2))
+                .forEach(jdbcTemplate::execute);
+    }
+
+    public JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    public void close() throws SQLException {
+        jdbcTemplate.execute(new DropQueryBuilder().buildQuery(DDLBuilderData.createDDLBuilderData(entityClass, DB.H2)));
+        connection.close();
+    }
+}
@@ -0,0 +1,86 @@
+package benchmark;
+
+import builder.dml.query.Condition;
+import org.openjdk.jmh.annotations.*;
+import persistence.EntityManager;
+import persistence.EntityManagerImpl;
+import persistence.PersistenceContextImpl;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+//EntityManagerImpl의 find(영속성 컨텍스트 hit/miss), persist, merge(dirty check), remove 처리량을 측정한다.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityManagerBenchmark {
+
+    private final static long LOADED_ID = 1L;
+    private final static long FIRST_NEW_ID = 1_000_000L;
+
+    @Param({"NARROW", "WIDE"})
+    private EntityWidth width;
+
+    private BenchmarkDatabase database;
+    private EntityManager entityManager;
+    private Object managedEntity;
+    private long nextId;
+    private long mergeCount;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws SQLException {
+        this.database = new BenchmarkDatabase("entity_manager_benchmark", width.getEntityClass());
+        this.entityManager = new EntityManagerImpl(database.getJdbcTemplate());
+        this.entityManager.persist(width.create(LOADED_ID));
+        this.managedEntity = this.entityManager.find(width.getEntityClass(), LOADED_ID);
+        this.nextId = FIRST_NEW_ID;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    @Benchmark
+    public Object findHit() {
+        return entityManager.find(width.getEntityClass(), LOADED_ID);
+    }
+
+    @Benchmark
+    public Object findMiss() {
+        return freshEntityManager().find(width.getEntityClass(), LOADED_ID);
+    }
+
+    //영속성 컨텍스트가 측정 중에 계속 커지지 않도록 호출마다 새 EntityManager로 저장한다.
+    @Benchmark
+    public void persist() {
+        freshEntityManager().persist(width.create(nextId++));
+    }
+
+    @Benchmark
+    public void mergeDirty() {
+        width.change(managedEntity, "changed" + (mergeCount++ & 1));
+        entityManager.merge(managedEntity);
+    }
+
+    //remove 후에도 GONE 상태가 남으므로 호출마다 새 EntityManager를 사용한다.
+    @Benchmark
+    public void persistThenRemove() {
+        EntityManager freshEntityManager = freshEntityManager();
+        Object entity = width.create(nextId++);
+        freshEntityManager.persist(entity);
+        freshEntityManager.remove(entity);
+    }
+
+    @Benchmark
+    public int deleteWhereMiss() {
+        return entityManager.deleteWhere(width.getEntityClass(), Condition.lt("id", 0L));
+    }
+
+    private EntityManager freshEntityManager() {
+        return new EntityManagerImpl(new PersistenceContextImpl(), database.getJdbcTemplate());
+    }
+}
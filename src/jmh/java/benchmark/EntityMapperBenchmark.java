@@ -0,0 +1,67 @@
+package benchmark;
+
+import builder.dml.EntityData;
+import builder.dml.builder.SelectAllQueryBuilder;
+import jdbc.EntityMapper;
+import jdbc.JdbcTemplate;
+import org.openjdk.jmh.annotations.*;
+import persistence.EntityPersister;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//결과 크기별 EntityMapper.mapRow 와 EntityData.createEntityData 처리량을 측정한다.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityMapperBenchmark {
+
+    @Param({"NARROW", "WIDE"})
+    private EntityWidth width;
+
+    @Param({"1", "100", "1000"})
+    private int resultSize;
+
+    private BenchmarkDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private String selectAllQuery;
+    private Object entityInstance;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        this.database = new BenchmarkDatabase("entity_mapper_benchmark", width.getEntityClass());
+        this.jdbcTemplate = database.getJdbcTemplate();
+
+        EntityPersister entityPersister = new EntityPersister(jdbcTemplate);
+        for (long id = 1; id <= resultSize; id++) {
+            entityPersister.persist(EntityData.createEntityData(width.create(id)));
+        }
+        this.entityInstance = width.create(1L);
+        this.selectAllQuery = new SelectAllQueryBuilder().buildQuery(EntityData.createEntityData(entityInstance));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    @Benchmark
+    public List<?> mapRows() {
+        Class<?> entityClass = width.getEntityClass();
+        return jdbcTemplate.query(selectAllQuery, resultSet -> EntityMapper.mapRow(resultSet, entityClass));
+    }
+
+    @Benchmark
+    public EntityData createEntityDataFromInstance() {
+        return EntityData.createEntityData(entityInstance);
+    }
+
+    @Benchmark
+    public EntityData createEntityDataFromClass() {
+        return EntityData.createEntityData(width.getEntityClass(), 1L);
+    }
+}
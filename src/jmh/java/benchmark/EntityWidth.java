@@ -0,0 +1,44 @@
+package benchmark;
+
+import benchmark.entity.WideEntity;
+import entity.Person;
+
+//벤치마크 대상 Entity의 컬럼 수. NARROW는 Person(4컬럼), WIDE는 WideEntity(16컬럼)이다.
+public enum EntityWidth {
+    NARROW(Person.class) {
+        @Override
+        public Object create(long id) {
+            return new Person(id, "name" + id, 29, "test" + id + "@test.com");
+        }
+
+        @Override
+        public void change(Object entity, String value) {
+            ((Person) entity).changeEmail(value);
+        }
+    },
+    WIDE(WideEntity.class) {
+        @Override
+        public Object create(long id) {
+            return new WideEntity(id, "text" + id, 29);
+        }
+
+        @Override
+        public void change(Object entity, String value) {
+            ((WideEntity) entity).changeText(value);
+        }
+    };
+
+    private final Class<?> entityClass;
+
+    EntityWidth(Class<?> entityClass) {
+        this.entityClass = entityClass;
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    public abstract Object create(long id);
+
+    public abstract void change(Object entity, String value);
+}
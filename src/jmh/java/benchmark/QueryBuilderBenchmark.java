@@ -0,0 +1,182 @@
+package benchmark;
+
+import builder.ddl.DDLBuilderData;
+import builder.ddl.DDLColumnData;
+import builder.ddl.DDLIndexData;
+import builder.ddl.builder.AlterQueryBuilder;
+import builder.ddl.builder.CreateIndexQueryBuilder;
+import builder.ddl.builder.CreateQueryBuilder;
+import builder.ddl.builder.DropQueryBuilder;
+import builder.ddl.dataType.DB;
+import builder.dml.EntityData;
+import builder.dml.builder.*;
+import builder.dml.query.AggregateFunction;
+import builder.dml.query.Condition;
+import builder.dml.query.Criteria;
+import builder.dml.query.Order;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+//builder.dml.builder, builder.ddl.builder 의 쿼리 생성 처리량을 측정한다. 메타데이터 생성 비용은 제외한다.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueryBuilderBenchmark {
+
+    private final static int MULTI_ROW_SIZE = 16;
+
+    @Param({"NARROW", "WIDE"})
+    private EntityWidth width;
+
+    private final InsertQueryBuilder insertQueryBuilder = new InsertQueryBuilder();
+    private final UpdateQueryBuilder updateQueryBuilder = new UpdateQueryBuilder();
+    private final DeleteQueryBuilder deleteQueryBuilder = new DeleteQueryBuilder();
+    private final SelectByIdQueryBuilder selectByIdQueryBuilder = new SelectByIdQueryBuilder();
+    private final SelectAllQueryBuilder selectAllQueryBuilder = new SelectAllQueryBuilder();
+    private final SelectQueryBuilder selectQueryBuilder = new SelectQueryBuilder();
+    private final UpdateWhereQueryBuilder updateWhereQueryBuilder = new UpdateWhereQueryBuilder();
+    private final DeleteWhereQueryBuilder deleteWhereQueryBuilder = new DeleteWhereQueryBuilder();
+    private final AggregateQueryBuilder aggregateQueryBuilder = new AggregateQueryBuilder();
+    private final ExistsQueryBuilder existsQueryBuilder = new ExistsQueryBuilder();
+    private final GroupByQueryBuilder groupByQueryBuilder = new GroupByQueryBuilder();
+    private final CreateQueryBuilder createQueryBuilder = new CreateQueryBuilder();
+    private final DropQueryBuilder dropQueryBuilder = new DropQueryBuilder();
+    private final JoinFetchQueryBuilder joinFetchQueryBuilder = new JoinFetchQueryBuilder();
+    private final UpsertQueryBuilder upsertQueryBuilder = new UpsertQueryBuilder(DB.H2.getDialect());
+    private final AlterQueryBuilder alterQueryBuilder = new AlterQueryBuilder();
+    private final CreateIndexQueryBuilder createIndexQueryBuilder = new CreateIndexQueryBuilder();
+
+    private EntityData instanceEntityData;
+    private EntityData classEntityData;
+    private DDLBuilderData ddlBuilderData;
+    private Condition condition;
+    private List<EntityData> multiRowEntityData;
+    private DDLColumnData lastColumn;
+    private DDLIndexData index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.instanceEntityData = EntityData.createEntityData(width.create(1L));
+        this.classEntityData = EntityData.createEntityData(width.getEntityClass(), 1L);
+        this.ddlBuilderData = DDLBuilderData.createDDLBuilderData(width.getEntityClass(), DB.H2);
+        this.condition = Condition.gt("id", 10L).and(Condition.lt("id", 20L));
+        this.multiRowEntityData = LongStream.rangeClosed(1, MULTI_ROW_SIZE)
+                .mapToObj(id -> EntityData.createEntityData(width.create(id)))
+                .toList();
+        List<DDLColumnData> columns = ddlBuilderData.getColumns();
+        this.lastColumn = columns.get(columns.size() - 1);
+        this.index = DDLIndexData.createIndex(ddlBuilderData.getTableName(), "", List.of(lastColumn.columnName()), false);
+    }
+
+    @Benchmark
+    public String insert() {
+        return insertQueryBuilder.buildQuery(instanceEntityData);
+    }
+
+    //같은 Entity MULTI_ROW_SIZE 건을 하나의 insert 쿼리로 저장한다.
+    @Benchmark
+    public String insertMultiRow() {
+        return insertQueryBuilder.buildQuery(multiRowEntityData);
+    }
+
+    @Benchmark
+    public String upsert() {
+        return upsertQueryBuilder.buildQuery(instanceEntityData);
+    }
+
+    @Benchmark
+    public String update() {
+        return updateQueryBuilder.buildQuery(instanceEntityData);
+    }
+
+    @Benchmark
+    public String delete() {
+        return deleteQueryBuilder.buildQuery(instanceEntityData);
+    }
+
+    @Benchmark
+    public String selectById() {
+        return selectByIdQueryBuilder.buildQuery(classEntityData);
+    }
+
+    @Benchmark
+    public String selectAll() {
+        return selectAllQueryBuilder.buildQuery(classEntityData);
+    }
+
+    @Benchmark
+    public String selectCriteria() {
+        Criteria criteria = Criteria.createCriteria()
+                .where(condition)
+                .orderBy(Order.asc("id"))
+                .limit(100);
+        return selectQueryBuilder.buildQuery(classEntityData, criteria);
+    }
+
+    //연관 Entity를 같은 클래스로 두고 PK로 join 한다. 생성되는 쿼리의 형태는 실제 연관관계와 같다.
+    @Benchmark
+    public String joinFetch() {
+        Criteria criteria = Criteria.createCriteria()
+                .where(condition)
+                .orderBy(Order.asc("id"))
+                .limit(100);
+        return joinFetchQueryBuilder.buildQuery(classEntityData, classEntityData, "id", "id", criteria);
+    }
+
+    @Benchmark
+    public String updateWhere() {
+        return updateWhereQueryBuilder.buildQuery(classEntityData, Map.of("id", 1L), condition);
+    }
+
+    @Benchmark
+    public String deleteWhere() {
+        return deleteWhereQueryBuilder.buildQuery(classEntityData, condition);
+    }
+
+    @Benchmark
+    public String aggregate() {
+        return aggregateQueryBuilder.buildQuery(classEntityData, AggregateFunction.COUNT, "*", condition);
+    }
+
+    @Benchmark
+    public String exists() {
+        return existsQueryBuilder.buildQuery(classEntityData, condition);
+    }
+
+    @Benchmark
+    public String groupBy() {
+        return groupByQueryBuilder.buildQuery(classEntityData, "id / 10", AggregateFunction.COUNT, "*", condition);
+    }
+
+    @Benchmark
+    public String create() {
+        return createQueryBuilder.buildQuery(ddlBuilderData);
+    }
+
+    @Benchmark
+    public String drop() {
+        return dropQueryBuilder.buildQuery(ddlBuilderData);
+    }
+
+    @Benchmark
+    public String alterAddColumn() {
+        return alterQueryBuilder.buildAddColumnQuery(ddlBuilderData, lastColumn);
+    }
+
+    @Benchmark
+    public String alterNotNull() {
+        return alterQueryBuilder.buildAlterNotNullQuery(ddlBuilderData.getTableName(), lastColumn);
+    }
+
+    @Benchmark
+    public String createIndex() {
+        return createIndexQueryBuilder.buildQuery(ddlBuilderData.getTableName(), index);
+    }
+}
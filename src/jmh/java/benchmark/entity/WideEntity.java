@@ -0,0 +1,57 @@
+package benchmark.entity;
+
+import jakarta.persistence.*;
+
+@Table(name = "wide_entity")
+@Entity
+public class WideEntity {
+
+    @Id
+    private Long id;
+
+    private String column1;
+    private String column2;
+    private String column3;
+    private String column4;
+    private String column5;
+    private String column6;
+    private String column7;
+    private Integer column8;
+    private Integer column9;
+    private Integer column10;
+    private Integer column11;
+    private Integer column12;
+    private Long column13;
+    private Long column14;
+    private Long column15;
+
+    public WideEntity(Long id, String text, Integer number) {
+        this.id = id;
+        this.column1 = text;
+        this.column2 = text;
+        this.column3 = text;
+        this.column4 = text;
+        this.column5 = text;
+        this.column6 = text;
+        this.column7 = text;
+        this.column8 = number;
+        this.column9 = number;
+        this.column10 = number;
+        this.column11 = number;
+        this.column12 = number;
+        this.column13 = id;
+        this.column14 = id;
+        this.column15 = id;
+    }
+
+    public WideEntity() {
+    }
+
+    public void changeText(String text) {
+        this.column1 = text;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,17 @@
+package load;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+//조회/삭제 대상 키(1 ~ keySpace)를 고르는 분포
+public interface KeyDistribution {
+
+    long nextKey(ThreadLocalRandom random);
+
+    static KeyDistribution of(String name, long keySpace) {
+        return switch (name) {
+            case "uniform" -> new UniformKeyDistribution(keySpace);
+            case "zipfian" -> new ZipfianKeyDistribution(keySpace);
+            default -> throw new IllegalArgumentException("지원하지 않는 키 분포입니다. distribution: " + name);
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package load;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+//부하 설정. 비율은 합이 1이 되도록 정규화한다.
+public record LoadConfig(
+        int threads,
+        boolean virtualThreads,
+        double readRatio,
+        double saveRatio,
+        double deleteRatio,
+        String distribution,
+        long keySpace,
+        Duration duration,
+        SessionMode sessionMode,
+        int poolSize,
+        int batchSize
+) {
+
+    private final static String DELIMITER = "=";
+
+    //key=value 형태의 인자로 설정을 만든다. ex) threads=16 virtual=true read=0.9 save=0.05 delete=0.05 pool=4 batch=10
+    //pool이 0이면 작업자마다 커넥션을 하나씩 사용하고, 1 이상이면 그 크기의 커넥션 풀을 작업자들이 함께 사용한다.
+    //batch가 1보다 크면 저장 요청 한번에 batch 건을 persistAll로 저장한다.
+    public static LoadConfig parse(String... args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] keyValue = arg.split(DELIMITER, 2);
+            if (keyValue.length == 2) {
+                options.put(keyValue[0], keyValue[1]);
+            }
+        }
+        double readRatio = Double.parseDouble(options.getOrDefault("read", "0.9"));
+        double saveRatio = Double.parseDouble(options.getOrDefault("save", "0.05"));
+        double deleteRatio = Double.parseDouble(options.getOrDefault("delete", "0.05"));
+        double totalRatio = readRatio + saveRatio + deleteRatio;
+
+        return new LoadConfig(
+                Integer.parseInt(options.getOrDefault("threads", "8")),
+                Boolean.parseBoolean(options.getOrDefault("virtual", "false")),
+                readRatio / totalRatio,
+                saveRatio / totalRatio,
+                deleteRatio / totalRatio,
+                options.getOrDefault("distribution", "uniform"),
+                Long.parseLong(options.getOrDefault("keys", "10000")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("seconds", "30"))),
+                SessionMode.valueOf(options.getOrDefault("session", SessionMode.PER_OPERATION.name())),
+                Integer.parseInt(options.getOrDefault("pool", "0")),
+                Math.max(1, Integer.parseInt(options.getOrDefault("batch", "1")))
+        );
+    }
+
+    public Operation nextOperation(double random) {
+        if (random < readRatio) {
+            return Operation.FIND_BY_ID;
+        }
+        if (random < readRatio + saveRatio) {
+            return Operation.SAVE;
+        }
+        return Operation.DELETE_BY_ID;
+    }
+
+    public boolean usesPool() {
+        return poolSize > 0;
+    }
+}
@@ -0,0 +1,201 @@
+package load;
+
+import database.ConnectionPool;
+import database.DatabaseServer;
+import jdbc.JdbcTemplate;
+import metrics.LatencyHistogram;
+import persistence.EntityManagerImpl;
+import persistence.PersistenceContext;
+import persistence.PersistenceContextImpl;
+import service.person.PersonService;
+import service.person.request.PersonRequest;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+//설정된 스레드 수만큼 작업자를 띄워 PersonService에 읽기/저장/삭제 요청을 섞어서 보낸다.
+//작업자마다 커넥션을 하나씩 사용하거나, pool 설정이 있으면 요청마다 커넥션 풀에서 빌려 사용한다.
+//지연 시간은 작업자별 히스토그램에, 오류는 예외 타입별로 기록한 뒤 합친다.
+public class LoadDriver {
+
+    private final static int DEFAULT_AGE = 30;
+
+    private final LoadConfig config;
+    private final DatabaseServer server;
+    private final KeyDistribution keyDistribution;
+    private final AtomicLong nextId;
+    private final Queue<Long> savedIds = new ConcurrentLinkedQueue<>();
+
+    public LoadDriver(LoadConfig config, DatabaseServer server) {
+        this.config = config;
+        this.server = server;
+        this.keyDistribution = KeyDistribution.of(config.distribution(), config.keySpace());
+        this.nextId = new AtomicLong(config.keySpace() + 1);
+    }
+
+    //조회 대상이 되는 1 ~ keySpace 데이터를 미리 저장한다.
+    public void preload() throws SQLException {
+        try (Connection connection = server.getConnection()) {
+            PersonService personService = new PersonService(new EntityManagerImpl(new JdbcTemplate(connection)));
+            for (long id = 1; id <= config.keySpace(); id++) {
+                personService.save(createPersonRequest(id));
+            }
+        }
+    }
+
+    public LoadReport run() throws InterruptedException, SQLException {
+        if (!config.usesPool()) {
+            return run(null);
+        }
+        try (ConnectionPool connectionPool = new ConnectionPool(server, config.poolSize())) {
+            return run(connectionPool);
+        }
+    }
+
+    private LoadReport run(ConnectionPool connectionPool) throws InterruptedException {
+        long deadline = System.nanoTime() + config.duration().toNanos();
+        List<Worker> workers = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < config.threads(); i++) {
+            Worker worker = new Worker(deadline, connectionPool);
+            workers.add(worker);
+            threads.add(config.virtualThreads() ? Thread.ofVirtual().start(worker) : Thread.ofPlatform().start(worker));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+
+        Map<Operation, LatencyHistogram> histograms = createHistograms();
+        Map<String, Long> errorCounts = new HashMap<>();
+        for (Worker worker : workers) {
+            worker.histograms.forEach((operation, histogram) -> histograms.get(operation).merge(histogram));
+            worker.errorCounts.forEach((type, count) -> errorCounts.merge(type, count, Long::sum));
+        }
+        return new LoadReport(elapsed, histograms, errorCounts);
+    }
+
+    private Map<Operation, LatencyHistogram> createHistograms() {
+        Map<Operation, LatencyHistogram> histograms = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new LatencyHistogram());
+        }
+        return histograms;
+    }
+
+    private PersonRequest createPersonRequest(long id) {
+        return new PersonRequest(id, "load" + id, DEFAULT_AGE, "load" + id + "@test.com");
+    }
+
+    private class Worker implements Runnable {
+
+        private final long deadline;
+        private final ConnectionPool connectionPool;
+        private final Map<Operation, LatencyHistogram> histograms = createHistograms();
+        private final Map<String, Long> errorCounts = new HashMap<>();
+        //풀을 사용할 때 PER_WORKER면 커넥션이 바뀌어도 작업자의 영속성 컨텍스트를 계속 사용한다.
+        private final PersistenceContext workerPersistenceContext = new PersistenceContextImpl();
+
+        private Worker(long deadline, ConnectionPool connectionPool) {
+            this.deadline = deadline;
+            this.connectionPool = connectionPool;
+        }
+
+        @Override
+        public void run() {
+            if (connectionPool != null) {
+                runWithPool();
+                return;
+            }
+            try (Connection connection = server.getConnection()) {
+                JdbcTemplate jdbcTemplate = new JdbcTemplate(connection);
+                PersonService workerPersonService = new PersonService(new EntityManagerImpl(jdbcTemplate));
+
+                while (System.nanoTime() < deadline) {
+                    PersonService personService = config.sessionMode() == SessionMode.PER_WORKER
+                            ? workerPersonService
+                            : new PersonService(new EntityManagerImpl(jdbcTemplate));
+                    executeAndRecord(personService, System.nanoTime());
+                }
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        //요청마다 풀에서 커넥션을 빌리고 돌려준다. 커넥션을 기다린 시간도 지연 시간에 포함한다.
+        private void runWithPool() {
+            while (System.nanoTime() < deadline) {
+                long startTime = System.nanoTime();
+                Connection connection = connectionPool.acquire();
+                try {
+                    executeAndRecord(pooledPersonService(new JdbcTemplate(connection)), startTime);
+                } finally {
+                    connectionPool.release(connection);
+                }
+            }
+        }
+
+        private PersonService pooledPersonService(JdbcTemplate jdbcTemplate) {
+            PersistenceContext persistenceContext = config.sessionMode() == SessionMode.PER_WORKER
+                    ? workerPersistenceContext
+                    : new PersistenceContextImpl();
+            return new PersonService(new EntityManagerImpl(persistenceContext, jdbcTemplate));
+        }
+
+        private void executeAndRecord(PersonService personService, long startTime) {
+            try {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                Operation operation = execute(config.nextOperation(random.nextDouble()), personService, random);
+                histograms.get(operation).record(System.nanoTime() - startTime);
+            } catch (RuntimeException e) {
+                errorCounts.merge(e.getClass().getName(), 1L, Long::sum);
+            }
+        }
+
+        //실제로 실행한 연산을 반환한다. 삭제할 데이터가 없으면 저장으로 대신한다.
+        private Operation execute(Operation operation, PersonService personService, ThreadLocalRandom random) {
+            if (operation == Operation.FIND_BY_ID) {
+                personService.findById(keyDistribution.nextKey(random));
+                return operation;
+            }
+            Long savedId = operation == Operation.DELETE_BY_ID ? savedIds.poll() : null;
+            if (savedId != null) {
+                personService.deleteById(savedId);
+                return Operation.DELETE_BY_ID;
+            }
+            save(personService);
+            return Operation.SAVE;
+        }
+
+        //batch가 1이면 persist로, 크면 batch 건을 persistAll 한번으로 저장한다.
+        private void save(PersonService personService) {
+            if (config.batchSize() == 1) {
+                long id = nextId.getAndIncrement();
+                personService.save(createPersonRequest(id));
+                savedIds.offer(id);
+                return;
+            }
+            long firstId = nextId.getAndAdd(config.batchSize());
+            List<PersonRequest> personRequests = new ArrayList<>(config.batchSize());
+            for (long id = firstId; id < firstId + config.batchSize(); id++) {
+                personRequests.add(createPersonRequest(id));
+            }
+            personService.saveAll(personRequests);
+            for (long id = firstId; id < firstId + config.batchSize(); id++) {
+                savedIds.offer(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package load;
+
+import metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class LoadReport {
+
+    private final static double NANOS_PER_MICRO = 1_000.0;
+
+    private final Duration elapsed;
+    private final Map<Operation, LatencyHistogram> histograms;
+    private final Map<String, Long> errorCounts;
+
+    //errorCounts는 예외 클래스 이름별 발생 횟수이다.
+    public LoadReport(Duration elapsed, Map<Operation, LatencyHistogram> histograms, Map<String, Long> errorCounts) {
+        this.elapsed = elapsed;
+        this.histograms = new EnumMap<>(histograms);
+        this.errorCounts = new TreeMap<>(errorCounts);
+    }
+
+    public LatencyHistogram getHistogram(Operation operation) {
+        return histograms.get(operation);
+    }
+
+    public long getErrorCount() {
+        return errorCounts.values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    public Map<String, Long> getErrorCounts() {
+        return errorCounts;
+    }
+
+    public double getThroughput() {
+        long totalCount = histograms.values().stream()
+                .mapToLong(LatencyHistogram::getTotalCount)
+                .sum();
+        return totalCount / (elapsed.toNanos() / 1_000_000_000.0);
+    }
+
+    //처리량과 연산별 p50/p99/p999 지연 시간(us), 예외 타입별 오류 수를 출력용 문자열로 만든다.
+    public String format() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("elapsed: %ds, throughput: %.1f ops/s, errors: %d%n", elapsed.toSeconds(), getThroughput(), getErrorCount()));
+        report.append(String.format("%-14s %10s %10s %10s %10s %10s %10s%n", "operation", "count", "mean(us)", "p50(us)", "p99(us)", "p999(us)", "max(us)"));
+        histograms.forEach((operation, histogram) -> report.append(String.format("%-14s %10d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                operation,
+                histogram.getTotalCount(),
+                histogram.getMean() / NANOS_PER_MICRO,
+                histogram.getValueAtPercentile(50) / NANOS_PER_MICRO,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MICRO,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MICRO,
+                histogram.getMaxValue() / NANOS_PER_MICRO)));
+        errorCounts.forEach((type, count) -> report.append(String.format("error %-40s %10d%n", type, count)));
+        return report.toString();
+    }
+}
@@ -0,0 +1,7 @@
+package load;
+
+public enum Operation {
+    FIND_BY_ID,
+    SAVE,
+    DELETE_BY_ID
+}
@@ -0,0 +1,40 @@
+package load;
+
+import builder.ddl.DDLBuilderData;
+import builder.ddl.builder.CreateQueryBuilder;
+import builder.ddl.builder.DropQueryBuilder;
+import builder.ddl.dataType.DB;
+import database.DataSourceProperties;
+import database.DatabaseServer;
+import database.H2;
+import entity.Person;
+import jdbc.JdbcTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+
+//내장 H2에 대해 PersonService 부하를 발생시키고 처리량과 지연 시간 분포를 출력한다.
+//ex) ./gradlew loadTest --args="threads=32 virtual=true read=0.8 save=0.1 delete=0.1 distribution=zipfian seconds=60 session=PER_WORKER pool=8 batch=10"
+public class PersonServiceLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersonServiceLoadTest.class);
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.parse(args);
+        logger.info("Load config: {}", config);
+
+        DatabaseServer server = new H2(new DataSourceProperties("jdbc:h2:mem:load;DB_CLOSE_DELAY=-1", "sa", ""));
+        try (Connection connection = server.getConnection()) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(connection);
+            jdbcTemplate.execute(new CreateQueryBuilder().buildQuery(DDLBuilderData.createDDLBuilderData(Person.class, DB.H2)));
+
+            LoadDriver loadDriver = new LoadDriver(config, server);
+            loadDriver.preload();
+            LoadReport report = loadDriver.run();
+            logger.info("Load report\n{}", report.format());
+
+            jdbcTemplate.execute(new DropQueryBuilder().buildQuery(DDLBuilderData.createDDLBuilderData(Person.class, DB.H2)));
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package load;
+
+//EntityManager(영속성 컨텍스트)를 얼마나 오래 유지할지 정한다.
+public enum SessionMode {
+    //요청마다 새 EntityManager를 사용한다. 영속성 컨텍스트 캐시가 없다.
+    PER_OPERATION,
+    //작업 스레드마다 하나의 EntityManager를 계속 사용한다. 영속성 컨텍스트가 캐시 역할을 한다.
+    PER_WORKER
+}
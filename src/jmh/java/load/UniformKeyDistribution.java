@@ -0,0 +1,17 @@
+package load;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public class UniformKeyDistribution implements KeyDistribution {
+
+    private final long keySpace;
+
+    public UniformKeyDistribution(long keySpace) {
+        this.keySpace = keySpace;
+    }
+
+    @Override
+    public long nextKey(ThreadLocalRandom random) {
+        return random.nextLong(keySpace) + 1;
+    }
+}
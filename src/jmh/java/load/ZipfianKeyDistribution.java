@@ -0,0 +1,50 @@
+package load;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+//YCSB의 Zipfian 생성기(Gray et al.) 방식. 작은 키일수록 자주 선택되어 일부 키에 요청이 몰리는 상황을 만든다.
+public class ZipfianKeyDistribution implements KeyDistribution {
+
+    private final static double DEFAULT_THETA = 0.99;
+
+    private final long keySpace;
+    private final double theta;
+    private final double alpha;
+    private final double zetaN;
+    private final double eta;
+
+    public ZipfianKeyDistribution(long keySpace) {
+        this(keySpace, DEFAULT_THETA);
+    }
+
+    public ZipfianKeyDistribution(long keySpace, double theta) {
+        this.keySpace = keySpace;
+        this.theta = theta;
+        this.alpha = 1.0 / (1.0 - theta);
+        this.zetaN = zeta(keySpace, theta);
+        double zeta2 = zeta(2, theta);
+        this.eta = (1 - Math.pow(2.0 / keySpace, 1 - theta)) / (1 - zeta2 / zetaN);
+    }
+
+    @Override
+    public long nextKey(ThreadLocalRandom random) {
+        double u = random.nextDouble();
+        double uz = u * zetaN;
+        if (uz < 1.0) {
+            return 1;
+        }
+        if (uz < 1.0 + Math.pow(0.5, theta)) {
+            return 2;
+        }
+        long key = 1 + (long) (keySpace * Math.pow(eta * u - eta + 1, alpha));
+        return Math.min(key, keySpace);
+    }
+
+    private static double zeta(long n, double theta) {
+        double sum = 0;
+        for (long i = 1; i <= n; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}
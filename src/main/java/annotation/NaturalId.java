@@ -0,0 +1,12 @@
+package annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+//PK가 아닌 업무상 식별자(ex. email). 값이 유일해야 하며 DDL 생성 시 UNIQUE 제약이 추가된다.
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface NaturalId {
+}
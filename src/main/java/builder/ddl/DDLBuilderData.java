@@ -1,27 +1,41 @@
 package builder.ddl;
 
+import annotation.NaturalId;
 import builder.ddl.dataType.DB;
 import jakarta.persistence.*;
+import util.AssociationUtil;
+import util.ColumnUtil;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class DDLBuilderData {
 
     private final static String ID_ANNOTATION_OVER_ONE = "@Id 어노테이션은 한개를 초과할수 없습니다.";
     private final static String NOT_EXIST_ENTITY_ANNOTATION = "@Entity 어노테이션이 존재하지 않습니다.";
+    private final static String NOT_EXIST_INDEX_COLUMN = "인덱스 컬럼이 테이블에 존재하지 않습니다. column: ";
+    private final static String EMPTY_INDEX_COLUMN = "인덱스 컬럼이 지정되지 않았습니다. index: ";
 
     private final static String PRIMARY_KEY = " PRIMARY KEY";
     private final static String NOT_NULL = " NOT NULL";
     private final static String AUTO_INCREMENT = " AUTO_INCREMENT";
+    private final static String UNIQUE = " UNIQUE";
     private final static String COMMA = ", ";
     private final static String BLANK = " ";
+    private final static int DEFAULT_LENGTH = 255;
+    private final static String COLUMN_LIST_DELIMITER = ",";
+    private final static String UNIQUE_CONSTRAINT = "CONSTRAINT {constraintName} UNIQUE ({columnNames})";
+    private final static String CONSTRAINT_NAME = "{constraintName}";
+    private final static String COLUMN_NAMES = "{columnNames}";
 
     private final String tableName;
     private final List<DDLColumnData> columns;
+    private final List<DDLIndexData> uniqueConstraints;
+    private final List<DDLIndexData> indexes;
     private final DB db;
 
     private <T> DDLBuilderData(Class<T> clazz, DB db) {
@@ -29,26 +43,54 @@ public class DDLBuilderData {
         this.db = db;
         this.tableName = getTableName(clazz);
         this.columns = getDDLColumnData(clazz);
+        this.uniqueConstraints = getUniqueConstraints(clazz);
+        this.indexes = getIndexes(clazz);
     }
 
     public static <T> DDLBuilderData createDDLBuilderData(Class<T> clazz, DB db) {
         return new DDLBuilderData(clazz, db);
     }
 
-    // 테이블 열 정의 생성
+    // 테이블 열 정의 생성, @Table(uniqueConstraints)는 열 정의 뒤에 테이블 제약으로 추가된다.
     public String getColumnDefinitions() {
-        return this.columns.stream()
-                .map(column -> {
-                    String definition = column.columnName() + BLANK + column.columnDataType();
-                    // primary key인 경우 "PRIMARY KEY" 추가
-                    if (column.isNotNull()) definition += NOT_NULL; //false면 NOT_NULL 조건 추가
-                    if (column.isAutoIncrement()) definition += AUTO_INCREMENT; //true면 AutoIncrement 추가
-                    if (column.isPrimaryKey()) definition += PRIMARY_KEY; //PK면 PK조건 추가
-                    return definition;
-                })
+        return Stream.concat(getColumnDefinitionStream(), getUniqueConstraintStream())
                 .collect(Collectors.joining(COMMA));
     }
 
+    // 컬럼 하나의 정의. ALTER TABLE ADD COLUMN 에도 사용한다.
+    public String getColumnDefinition(DDLColumnData column) {
+        String definition = column.columnName() + BLANK + column.columnDataType();
+        // primary key인 경우 "PRIMARY KEY" 추가
+        if (column.isNotNull()) definition += NOT_NULL; //false면 NOT_NULL 조건 추가
+        if (column.isAutoIncrement()) definition += AUTO_INCREMENT; //true면 AutoIncrement 추가
+        if (column.isUnique()) definition += UNIQUE; //true면 UNIQUE 제약 추가 (DB가 유일 인덱스를 만든다)
+        if (column.isPrimaryKey()) definition += PRIMARY_KEY; //PK면 PK조건 추가
+        return definition;
+    }
+
+    public List<DDLColumnData> getColumns() {
+        return columns;
+    }
+
+    public List<DDLIndexData> getUniqueConstraints() {
+        return uniqueConstraints;
+    }
+
+    public List<DDLIndexData> getIndexes() {
+        return indexes;
+    }
+
+    private Stream<String> getColumnDefinitionStream() {
+        return this.columns.stream()
+                .map(this::getColumnDefinition);
+    }
+
+    private Stream<String> getUniqueConstraintStream() {
+        return this.uniqueConstraints.stream()
+                .map(constraint -> UNIQUE_CONSTRAINT.replace(CONSTRAINT_NAME, constraint.indexName())
+                        .replace(COLUMN_NAMES, String.join(COMMA, constraint.columnNames())));
+    }
+
     public String getTableName() {
         return tableName;
     }
@@ -84,8 +126,11 @@ public class DDLBuilderData {
 
     //Column 어노테이션 여부를 확인하여 변수의 컬럼타입을 가져온다.
     private DDLColumnData getColumnAnnotationData(Field field) {
-        if (field.isAnnotationPresent(Transient.class)) {
-            return null;
+        if (field.isAnnotationPresent(Transient.class) || AssociationUtil.isCollection(field)) {
+            return null; // @OneToMany는 상대 테이블의 FK 컬럼으로 매핑된다.
+        }
+        if (AssociationUtil.isReference(field)) {
+            return getJoinColumnData(field);
         }
         String columnName = field.getName();
         boolean isNullable = true;
@@ -95,16 +140,30 @@ public class DDLBuilderData {
             columnName = column.name().isEmpty() ? columnName : column.name();
             return DDLColumnData.createColumn(
                     columnName,
-                    field.getType(),
+                    ColumnUtil.columnType(field),
+                    column.length(),
                     !column.nullable(),
+                    column.unique() || field.isAnnotationPresent(NaturalId.class),
                     this.db
             );
         }
 
         return DDLColumnData.createColumn(
                 columnName,
-                field.getType(),
+                ColumnUtil.columnType(field),
+                DEFAULT_LENGTH,
                 !isNullable,
+                field.isAnnotationPresent(NaturalId.class),
+                this.db
+        );
+    }
+
+    //@ManyToOne 필드는 참조하는 Entity의 PK 타입으로 FK 컬럼을 만든다.
+    private DDLColumnData getJoinColumnData(Field field) {
+        return DDLColumnData.createColumn(
+                AssociationUtil.joinColumnName(field),
+                AssociationUtil.idField(field.getType()).getType(),
+                !AssociationUtil.isNullableJoinColumn(field),
                 this.db
         );
     }
@@ -130,6 +189,50 @@ public class DDLBuilderData {
     }
 
 
+    //@Table(uniqueConstraints)를 테이블 제약으로 가져온다.
+    private List<DDLIndexData> getUniqueConstraints(Class<?> entityClass) {
+        if (!entityClass.isAnnotationPresent(Table.class)) {
+            return List.of();
+        }
+        return Arrays.stream(entityClass.getAnnotation(Table.class).uniqueConstraints())
+                .map(constraint -> DDLIndexData.createUniqueConstraint(
+                        this.tableName, constraint.name(), confirmIndexColumns(constraint.name(), List.of(constraint.columnNames()))))
+                .toList();
+    }
+
+    //@Table(indexes)를 CREATE INDEX로 만들 인덱스로 가져온다. columnList는 "컬럼 [ASC|DESC], ..." 형식이다.
+    private List<DDLIndexData> getIndexes(Class<?> entityClass) {
+        if (!entityClass.isAnnotationPresent(Table.class)) {
+            return List.of();
+        }
+        return Arrays.stream(entityClass.getAnnotation(Table.class).indexes())
+                .map(index -> DDLIndexData.createIndex(
+                        this.tableName, index.name(), confirmIndexColumns(index.name(), splitColumnList(index.columnList())), index.unique()))
+                .toList();
+    }
+
+    private List<String> splitColumnList(String columnList) {
+        return Arrays.stream(columnList.split(COLUMN_LIST_DELIMITER))
+                .map(String::trim)
+                .filter(columnName -> !columnName.isEmpty())
+                .toList();
+    }
+
+    //인덱스 컬럼이 테이블에 존재하는지 확인한다.
+    private List<String> confirmIndexColumns(String indexName, List<String> columnNames) {
+        if (columnNames.isEmpty()) {
+            throw new IllegalArgumentException(EMPTY_INDEX_COLUMN + indexName);
+        }
+        columnNames.stream()
+                .map(DDLIndexData::columnNameOf)
+                .filter(columnName -> this.columns.stream().noneMatch(column -> column.columnName().equalsIgnoreCase(columnName)))
+                .findFirst()
+                .ifPresent(columnName -> {
+                    throw new IllegalArgumentException(NOT_EXIST_INDEX_COLUMN + columnName);
+                });
+        return columnNames;
+    }
+
     //Entity 어노테이션 여부를 확인한다.
     private void confirmEntityAnnotation(Class<?> entityClass) {
         if (!entityClass.isAnnotationPresent(Entity.class)) {
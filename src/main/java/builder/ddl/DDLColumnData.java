@@ -1,35 +1,44 @@
 package builder.ddl;
 
 import builder.ddl.dataType.DB;
-import builder.ddl.dataType.DBDataType;
 
 public record DDLColumnData(
         String columnName,
         String columnDataType,
         boolean isPrimaryKey,
         boolean isNotNull,
-        boolean isAutoIncrement
+        boolean isAutoIncrement,
+        boolean isUnique
 ) {
 
+    private final static int DEFAULT_LENGTH = 255;
+
     // PK 컬럼을 생성한다.
     public static DDLColumnData createPk(String columnName, Class<?> columnDataType, boolean isAutoIncrement, DB db) {
         return new DDLColumnData(
                 columnName,
-                DBDataType.findDataType(db, columnDataType),
+                db.findDataType(columnDataType),
                 true,
                 true,
-                isAutoIncrement
+                isAutoIncrement,
+                false
         );
     }
 
     //일반 컬럼을 생성한다.
     public static DDLColumnData createColumn(String columnName, Class<?> columnDataType, boolean isNotNull, DB db) {
+        return createColumn(columnName, columnDataType, DEFAULT_LENGTH, isNotNull, false, db);
+    }
+
+    //length는 VARCHAR 컬럼의 크기이고, isUnique가 true면 UNIQUE 제약이 추가된다.
+    public static DDLColumnData createColumn(String columnName, Class<?> columnDataType, int length, boolean isNotNull, boolean isUnique, DB db) {
         return new DDLColumnData(
                 columnName,
-                DBDataType.findDataType(db, columnDataType),
+                db.findDataType(columnDataType, length),
                 false,
                 isNotNull,
-                false
+                false,
+                isUnique
         );
     }
 }
@@ -0,0 +1,44 @@
+package builder.ddl;
+
+import java.util.List;
+
+public record DDLIndexData(
+        String indexName,
+        List<String> columnNames,
+        boolean isUnique
+) {
+
+    private final static String INDEX_PREFIX = "idx_";
+    private final static String UNIQUE_PREFIX = "uk_";
+    private final static String UNDERSCORE = "_";
+    private final static String ORDER_PATTERN = "\\s+(?i)(ASC|DESC)$";
+
+    //@Index를 생성한다. 이름이 없으면 idx_테이블_컬럼 으로 만든다.
+    public static DDLIndexData createIndex(String tableName, String indexName, List<String> columnNames, boolean isUnique) {
+        return new DDLIndexData(
+                indexName.isEmpty() ? defaultName(INDEX_PREFIX, tableName, columnNames) : indexName,
+                List.copyOf(columnNames),
+                isUnique
+        );
+    }
+
+    //@UniqueConstraint를 생성한다. 이름이 없으면 uk_테이블_컬럼 으로 만든다.
+    public static DDLIndexData createUniqueConstraint(String tableName, String constraintName, List<String> columnNames) {
+        return new DDLIndexData(
+                constraintName.isEmpty() ? defaultName(UNIQUE_PREFIX, tableName, columnNames) : constraintName,
+                List.copyOf(columnNames),
+                true
+        );
+    }
+
+    //columnList의 "name DESC" 처럼 정렬이 붙은 항목에서 컬럼명만 가져온다.
+    public static String columnNameOf(String columnName) {
+        return columnName.replaceAll(ORDER_PATTERN, "");
+    }
+
+    private static String defaultName(String prefix, String tableName, List<String> columnNames) {
+        return prefix + tableName + UNDERSCORE + String.join(UNDERSCORE, columnNames.stream()
+                .map(DDLIndexData::columnNameOf)
+                .toList());
+    }
+}
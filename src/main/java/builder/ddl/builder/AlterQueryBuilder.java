@@ -0,0 +1,51 @@
+package builder.ddl.builder;
+
+import builder.ddl.DDLBuilderData;
+import builder.ddl.DDLColumnData;
+import builder.ddl.DDLIndexData;
+
+public class AlterQueryBuilder {
+
+    private final static String ADD_COLUMN_QUERY = "ALTER TABLE {tableName} ADD COLUMN {columnDefinition};";
+    private final static String ALTER_DATA_TYPE_QUERY = "ALTER TABLE {tableName} ALTER COLUMN {columnName} SET DATA TYPE {columnDataType};";
+    private final static String SET_NOT_NULL_QUERY = "ALTER TABLE {tableName} ALTER COLUMN {columnName} SET NOT NULL;";
+    private final static String DROP_NOT_NULL_QUERY = "ALTER TABLE {tableName} ALTER COLUMN {columnName} DROP NOT NULL;";
+    private final static String ADD_UNIQUE_QUERY = "ALTER TABLE {tableName} ADD CONSTRAINT {constraintName} UNIQUE ({columnNames});";
+    private final static String TABLE_NAME = "{tableName}";
+    private final static String COLUMN_DEFINITION = "{columnDefinition}";
+    private final static String COLUMN_NAME = "{columnName}";
+    private final static String COLUMN_DATA_TYPE = "{columnDataType}";
+    private final static String CONSTRAINT_NAME = "{constraintName}";
+    private final static String COLUMN_NAMES = "{columnNames}";
+    private final static String COMMA = ", ";
+
+    //기존 테이블에 컬럼을 NULL 허용으로 추가한다. 행이 있는 테이블에는 기본값 없는 NOT NULL 컬럼을 추가할 수 없으므로
+    //NOT NULL 조건은 buildAlterNotNullQuery로 따로 추가한다.
+    public String buildAddColumnQuery(DDLBuilderData ddlBuilderData, DDLColumnData column) {
+        DDLColumnData nullableColumn = new DDLColumnData(column.columnName(), column.columnDataType(),
+                column.isPrimaryKey(), false, column.isAutoIncrement(), column.isUnique());
+        return ADD_COLUMN_QUERY.replace(TABLE_NAME, ddlBuilderData.getTableName())
+                .replace(COLUMN_DEFINITION, ddlBuilderData.getColumnDefinition(nullableColumn));
+    }
+
+    //컬럼의 데이터 타입을 변경한다.
+    public String buildAlterDataTypeQuery(String tableName, DDLColumnData column) {
+        return ALTER_DATA_TYPE_QUERY.replace(TABLE_NAME, tableName)
+                .replace(COLUMN_NAME, column.columnName())
+                .replace(COLUMN_DATA_TYPE, column.columnDataType());
+    }
+
+    //컬럼의 NOT NULL 조건을 변경한다.
+    public String buildAlterNotNullQuery(String tableName, DDLColumnData column) {
+        String query = column.isNotNull() ? SET_NOT_NULL_QUERY : DROP_NOT_NULL_QUERY;
+        return query.replace(TABLE_NAME, tableName)
+                .replace(COLUMN_NAME, column.columnName());
+    }
+
+    //기존 테이블에 UNIQUE 제약을 추가한다.
+    public String buildAddUniqueQuery(String tableName, DDLIndexData constraint) {
+        return ADD_UNIQUE_QUERY.replace(TABLE_NAME, tableName)
+                .replace(CONSTRAINT_NAME, constraint.indexName())
+                .replace(COLUMN_NAMES, String.join(COMMA, constraint.columnNames()));
+    }
+}
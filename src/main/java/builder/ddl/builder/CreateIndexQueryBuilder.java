@@ -0,0 +1,32 @@
+package builder.ddl.builder;
+
+import builder.ddl.DDLBuilderData;
+import builder.ddl.DDLIndexData;
+
+import java.util.List;
+
+public class CreateIndexQueryBuilder {
+
+    private final static String CREATE_INDEX_QUERY = "CREATE {unique}INDEX {indexName} ON {tableName} ({columnNames});";
+    private final static String UNIQUE = "{unique}";
+    private final static String INDEX_NAME = "{indexName}";
+    private final static String TABLE_NAME = "{tableName}";
+    private final static String COLUMN_NAMES = "{columnNames}";
+    private final static String UNIQUE_KEYWORD = "UNIQUE ";
+    private final static String COMMA = ", ";
+
+    //@Table(indexes)마다 create index 쿼리를 만든다. 테이블을 생성한 뒤 실행한다.
+    public List<String> buildQuery(DDLBuilderData ddlBuilderData) {
+        return ddlBuilderData.getIndexes().stream()
+                .map(index -> buildQuery(ddlBuilderData.getTableName(), index))
+                .toList();
+    }
+
+    //create index 쿼리를 생성한다.
+    public String buildQuery(String tableName, DDLIndexData index) {
+        return CREATE_INDEX_QUERY.replace(UNIQUE, index.isUnique() ? UNIQUE_KEYWORD : "")
+                .replace(INDEX_NAME, index.indexName())
+                .replace(TABLE_NAME, tableName)
+                .replace(COLUMN_NAMES, String.join(COMMA, index.columnNames()));
+    }
+}
@@ -4,18 +4,24 @@ import builder.ddl.DDLBuilderData;
 
 public class CreateQueryBuilder {
 
-    private final static String CREATE_QUERY = "CREATE TABLE {tableName} ({columnDefinitions});";
-    private final static String TABLE_NAME = "{tableName}";
-    private final static String COLUMN_DEFINITIONS = "{columnDefinitions}";
+    private final static String CREATE_TABLE = "CREATE TABLE ";
+    private final static String OPEN_PARENTHESIS = " (";
+    private final static String CLOSE_PARENTHESIS = ");";
 
     public String buildQuery(DDLBuilderData ddlBuilderData) {
         return createTableQuery(ddlBuilderData);
     }
 
-    //create 쿼리를 생성한다.
+    //create 쿼리를 생성한다. 템플릿을 치환하지 않고 필요한 크기로 한번에 조립한다.
     private String createTableQuery(DDLBuilderData ddlBuilderData) {
-        // 최종 SQL 쿼리 생성
-        return CREATE_QUERY.replace(TABLE_NAME, ddlBuilderData.getTableName())
-                .replace(COLUMN_DEFINITIONS, ddlBuilderData.getColumnDefinitions());
+        String tableName = ddlBuilderData.getTableName();
+        String columnDefinitions = ddlBuilderData.getColumnDefinitions();
+        return new StringBuilder(CREATE_TABLE.length() + tableName.length() + OPEN_PARENTHESIS.length() + columnDefinitions.length() + CLOSE_PARENTHESIS.length())
+                .append(CREATE_TABLE)
+                .append(tableName)
+                .append(OPEN_PARENTHESIS)
+                .append(columnDefinitions)
+                .append(CLOSE_PARENTHESIS)
+                .toString();
     }
 }
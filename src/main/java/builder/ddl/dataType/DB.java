@@ -1,5 +1,36 @@
 package builder.ddl.dataType;
 
+import builder.dialect.Dialect;
+import builder.dialect.H2CompatibilityDialect;
+import builder.dialect.H2Dialect;
+
 public enum DB {
-    H2
+    H2(new H2Dialect()),
+    //MODE=MySQL 로 실행한 H2
+    H2_COMPATIBILITY(new H2CompatibilityDialect());
+
+    private final Dialect dialect;
+
+    DB(Dialect dialect) {
+        this.dialect = dialect;
+    }
+
+    public Dialect getDialect() {
+        return dialect;
+    }
+
+    // 데이터 타입을 찾는다. DB마다 Dialect가 정해져 있으므로 매번 구현체를 찾지 않는다.
+    public String findDataType(Class<?> clazz) {
+        return this.dialect.getDataType().findDataTypeByClass(clazz);
+    }
+
+    // @Column(length)를 반영한 데이터 타입을 찾는다.
+    public String findDataType(Class<?> clazz, int length) {
+        return this.dialect.getDataType().findDataTypeByClass(clazz, length);
+    }
+
+    // INFORMATION_SCHEMA의 컬럼 타입을 DDL과 비교할 수 있는 데이터 타입으로 바꾼다.
+    public String findDataTypeByMetadata(String dataType, Long length) {
+        return this.dialect.getDataType().findDataTypeByMetadata(dataType, length);
+    }
 }
@@ -6,4 +6,11 @@ public interface DataType {
     // dataType으로 H2DataType을 찾고 반환하는 메소드
     String findDataTypeByClass(Class<?> dataType);
 
+    // 길이를 지정할 수 있는 타입(VARCHAR)은 length로 크기를 정한다.
+    default String findDataTypeByClass(Class<?> dataType, int length) {
+        return findDataTypeByClass(dataType);
+    }
+
+    // INFORMATION_SCHEMA의 DATA_TYPE, 길이를 DDL에 쓰는 데이터 타입으로 바꾼다.
+    String findDataTypeByMetadata(String dataType, Long length);
 }
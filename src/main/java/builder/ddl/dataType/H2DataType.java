@@ -1,19 +1,32 @@
 package builder.ddl.dataType;
 
+import java.sql.Blob;
+import java.sql.Clob;
 import java.util.HashMap;
 import java.util.Map;
 
 public class H2DataType implements DataType{
 
     private static final Map<Class<?>, String> dataTypeMap = new HashMap<>();
+    private static final Map<String, String> metadataTypeMap = new HashMap<>();
 
     static {
         dataTypeMap.put(String.class, "VARCHAR(255)");
         dataTypeMap.put(Integer.class, "INTEGER");
         dataTypeMap.put(Long.class, "BIGINT");
+        dataTypeMap.put(byte[].class, "BLOB");
+        dataTypeMap.put(Blob.class, "BLOB");
+        dataTypeMap.put(Clob.class, "CLOB");
+
+        metadataTypeMap.put("BINARY LARGE OBJECT", "BLOB");
+        metadataTypeMap.put("CHARACTER LARGE OBJECT", "CLOB");
     }
 
     private final static String NOT_ALLOWED_DATATYPE = "지원하지 않은 데이터타입입니다. DataType: ";
+    private final static String NOT_ALLOWED_LENGTH = "컬럼 길이는 1 이상이어야 합니다. length: ";
+    private final static String VARCHAR = "VARCHAR({length})";
+    private final static String LENGTH = "{length}";
+    private final static String CHARACTER_VARYING = "CHARACTER VARYING";
 
     @Override
     public String findDataTypeByClass(Class<?> dataType) {
@@ -23,4 +36,23 @@ public class H2DataType implements DataType{
         }
         return h2DataType;
     }
+
+    @Override
+    public String findDataTypeByClass(Class<?> dataType, int length) {
+        if (dataType != String.class) {
+            return findDataTypeByClass(dataType);
+        }
+        if (length < 1) {
+            throw new IllegalArgumentException(NOT_ALLOWED_LENGTH + length);
+        }
+        return VARCHAR.replace(LENGTH, String.valueOf(length));
+    }
+
+    @Override
+    public String findDataTypeByMetadata(String dataType, Long length) {
+        if (CHARACTER_VARYING.equals(dataType)) {
+            return VARCHAR.replace(LENGTH, String.valueOf(length));
+        }
+        return metadataTypeMap.getOrDefault(dataType, dataType);
+    }
 }
@@ -0,0 +1,9 @@
+package builder.ddl.schema;
+
+//DB에 존재하는 컬럼 정보. columnDataType은 DDL과 같은 형식(VARCHAR(255), BIGINT ...)이다.
+public record ColumnSchema(
+        String columnName,
+        String columnDataType,
+        boolean isNotNull
+) {
+}
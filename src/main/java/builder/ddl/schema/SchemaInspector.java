@@ -0,0 +1,83 @@
+package builder.ddl.schema;
+
+import builder.ddl.dataType.DB;
+import jdbc.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//INFORMATION_SCHEMA에서 테이블의 컬럼, 인덱스, UNIQUE 제약을 읽는다. 테이블 수와 관계없이 세 번의 쿼리로 읽는다.
+public class SchemaInspector {
+
+    private final static String COLUMNS_QUERY = "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, CHARACTER_MAXIMUM_LENGTH, IS_NULLABLE "
+            + "FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = CURRENT_SCHEMA AND TABLE_NAME IN ({tableNames}) "
+            + "ORDER BY TABLE_NAME, ORDINAL_POSITION;";
+    private final static String INDEXES_QUERY = "SELECT TABLE_NAME, INDEX_NAME "
+            + "FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_SCHEMA = CURRENT_SCHEMA AND TABLE_NAME IN ({tableNames});";
+    private final static String UNIQUES_QUERY = "SELECT c.TABLE_NAME, c.CONSTRAINT_NAME, k.COLUMN_NAME "
+            + "FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS c JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE k "
+            + "ON c.CONSTRAINT_SCHEMA = k.CONSTRAINT_SCHEMA AND c.CONSTRAINT_NAME = k.CONSTRAINT_NAME "
+            + "WHERE c.TABLE_SCHEMA = CURRENT_SCHEMA AND c.CONSTRAINT_TYPE = 'UNIQUE' AND c.TABLE_NAME IN ({tableNames});";
+    private final static String TABLE_NAMES = "{tableNames}";
+    private final static String PARAMETER = "?";
+    private final static String COMMA = ", ";
+    private final static String NOT_NULLABLE = "NO";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DB db;
+
+    public SchemaInspector(JdbcTemplate jdbcTemplate, DB db) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.db = db;
+    }
+
+    //테이블명(대문자)별 테이블 정보. DB에 없는 테이블은 결과에 포함되지 않는다.
+    public Map<String, TableSchema> readTables(Collection<String> tableNames) {
+        if (tableNames.isEmpty()) {
+            return Map.of();
+        }
+        Object[] parameters = tableNames.stream().map(TableSchema::toKey).distinct().toArray();
+        String inClause = String.join(COMMA, Collections.nCopies(parameters.length, PARAMETER));
+
+        Map<String, Map<String, ColumnSchema>> columns = new LinkedHashMap<>();
+        this.jdbcTemplate.queryForEach(COLUMNS_QUERY.replace(TABLE_NAMES, inClause), resultSet -> {
+            ColumnSchema column = new ColumnSchema(
+                    resultSet.getString("COLUMN_NAME"),
+                    this.db.findDataTypeByMetadata(resultSet.getString("DATA_TYPE"), resultSet.getLong("CHARACTER_MAXIMUM_LENGTH")),
+                    NOT_NULLABLE.equals(resultSet.getString("IS_NULLABLE"))
+            );
+            return Map.entry(resultSet.getString("TABLE_NAME"), column);
+        }, entry -> columns.computeIfAbsent(entry.getKey(), key -> new LinkedHashMap<>())
+                .put(TableSchema.toKey(entry.getValue().columnName()), entry.getValue()), parameters);
+
+        Map<String, Set<String>> indexNames = new HashMap<>();
+        this.jdbcTemplate.queryForEach(INDEXES_QUERY.replace(TABLE_NAMES, inClause),
+                resultSet -> Map.entry(resultSet.getString("TABLE_NAME"), resultSet.getString("INDEX_NAME")),
+                entry -> indexNames.computeIfAbsent(entry.getKey(), key -> new HashSet<>()).add(TableSchema.toKey(entry.getValue())),
+                parameters);
+
+        //테이블명 -> 제약명 -> 컬럼명
+        Map<String, Map<String, Set<String>>> uniques = new HashMap<>();
+        this.jdbcTemplate.queryForEach(UNIQUES_QUERY.replace(TABLE_NAMES, inClause),
+                resultSet -> List.of(resultSet.getString("TABLE_NAME"), resultSet.getString("CONSTRAINT_NAME"), resultSet.getString("COLUMN_NAME")),
+                row -> uniques.computeIfAbsent(row.get(0), key -> new HashMap<>())
+                        .computeIfAbsent(row.get(1), key -> new HashSet<>())
+                        .add(TableSchema.toKey(row.get(2))),
+                parameters);
+
+        Map<String, TableSchema> tables = new HashMap<>();
+        columns.forEach((tableName, tableColumns) -> tables.put(tableName, new TableSchema(
+                tableName,
+                tableColumns,
+                indexNames.getOrDefault(tableName, Set.of()),
+                Set.copyOf(uniques.getOrDefault(tableName, Map.of()).values())
+        )));
+        return tables;
+    }
+}
@@ -0,0 +1,146 @@
+package builder.ddl.schema;
+
+import builder.ddl.DDLBuilderData;
+import builder.ddl.DDLColumnData;
+import builder.ddl.DDLIndexData;
+import builder.ddl.builder.AlterQueryBuilder;
+import builder.ddl.builder.CreateIndexQueryBuilder;
+import builder.ddl.builder.CreateQueryBuilder;
+import builder.ddl.dataType.DB;
+import jdbc.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+//DB 스키마를 Entity의 DDLBuilderData와 비교하여 검증하거나, 필요한 DDL만 실행한다.
+//테이블을 DROP/CREATE 하지 않으므로 데이터가 있는 DB에서도 변경된 부분만 반영된다. 컬럼, 인덱스를 삭제하지는 않는다.
+//UPDATE는 NOT NULL 조건을 NULL 값이 없을 때만 추가한다. NULL 값이 있는 컬럼은 값을 채운 뒤 다시 실행하면 추가된다.
+//VALIDATE와 diff는 데이터를 조회하지 않고 NOT NULL 조건이 다르면 항상 DDL로 보고한다.
+public class SchemaMigrator {
+
+    private final static String SCHEMA_MISMATCH_MESSAGE = "DB 스키마가 Entity와 일치하지 않습니다. 필요한 DDL: ";
+    private final static String LINE_SEPARATOR = "\n";
+    private final static String COUNT_ROWS_QUERY = "SELECT COUNT(*) FROM {tableName};";
+    private final static String COUNT_NULL_ROWS_QUERY = "SELECT COUNT(*) FROM {tableName} WHERE {columnName} IS NULL;";
+    private final static String TABLE_NAME = "{tableName}";
+    private final static String COLUMN_NAME = "{columnName}";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DB db;
+    private final SchemaInspector schemaInspector;
+    private final CreateQueryBuilder createQueryBuilder = new CreateQueryBuilder();
+    private final CreateIndexQueryBuilder createIndexQueryBuilder = new CreateIndexQueryBuilder();
+    private final AlterQueryBuilder alterQueryBuilder = new AlterQueryBuilder();
+
+    public SchemaMigrator(JdbcTemplate jdbcTemplate, DB db) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.db = db;
+        this.schemaInspector = new SchemaInspector(jdbcTemplate, db);
+    }
+
+    //VALIDATE는 다른 부분이 있으면 예외를 발생시키고, UPDATE는 Entity마다 필요한 DDL을 하나의 batch로 실행한다.
+    public void migrate(SchemaMode schemaMode, List<Class<?>> entityClasses) {
+        Map<Class<?>, List<String>> diffs = diff(entityClasses, schemaMode);
+        if (schemaMode == SchemaMode.VALIDATE) {
+            validate(diffs);
+            return;
+        }
+        diffs.values().stream()
+                .filter(statements -> !statements.isEmpty())
+                .forEach(this.jdbcTemplate::executeBatch);
+    }
+
+    //Entity별로 DB 스키마를 Entity에 맞추기 위해 필요한 DDL. 스키마는 한번만 읽는다.
+    public Map<Class<?>, List<String>> diff(List<Class<?>> entityClasses) {
+        return diff(entityClasses, SchemaMode.VALIDATE);
+    }
+
+    public List<String> diff(Class<?> entityClass) {
+        return diff(List.of(entityClass)).get(entityClass);
+    }
+
+    //UPDATE면 NULL 값이 있는 컬럼의 SET NOT NULL은 실패하므로 미룬다.
+    private Map<Class<?>, List<String>> diff(List<Class<?>> entityClasses, SchemaMode schemaMode) {
+        Map<Class<?>, DDLBuilderData> ddlBuilderDataMap = new LinkedHashMap<>();
+        entityClasses.forEach(entityClass -> ddlBuilderDataMap.put(entityClass, DDLBuilderData.createDDLBuilderData(entityClass, this.db)));
+
+        Map<String, TableSchema> tables = this.schemaInspector.readTables(ddlBuilderDataMap.values().stream()
+                .map(DDLBuilderData::getTableName)
+                .toList());
+
+        Map<Class<?>, List<String>> diffs = new LinkedHashMap<>();
+        ddlBuilderDataMap.forEach((entityClass, ddlBuilderData) ->
+                diffs.put(entityClass, diff(ddlBuilderData, tables.get(TableSchema.toKey(ddlBuilderData.getTableName())), schemaMode)));
+        return diffs;
+    }
+
+    private void validate(Map<Class<?>, List<String>> diffs) {
+        String statements = diffs.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.joining(LINE_SEPARATOR));
+        if (!statements.isEmpty()) {
+            throw new RuntimeException(SCHEMA_MISMATCH_MESSAGE + LINE_SEPARATOR + statements);
+        }
+    }
+
+    //테이블이 없으면 create table, 있으면 없는 컬럼/UNIQUE 제약/인덱스 추가와 다른 컬럼 변경만 만든다.
+    private List<String> diff(DDLBuilderData ddlBuilderData, TableSchema tableSchema, SchemaMode schemaMode) {
+        if (tableSchema == null) {
+            return Stream.concat(
+                    Stream.of(this.createQueryBuilder.buildQuery(ddlBuilderData)),
+                    this.createIndexQueryBuilder.buildQuery(ddlBuilderData).stream()
+            ).toList();
+        }
+
+        String tableName = ddlBuilderData.getTableName();
+        List<String> statements = new ArrayList<>();
+        List<DDLIndexData> uniqueConstraints = new ArrayList<>(ddlBuilderData.getUniqueConstraints());
+        for (DDLColumnData column : ddlBuilderData.getColumns()) {
+            ColumnSchema columnSchema = tableSchema.findColumn(column.columnName());
+            if (columnSchema == null) {
+                //UNIQUE는 컬럼 정의에 포함되어 함께 추가된다. 추가한 컬럼은 모든 행이 NULL이므로 UPDATE는 빈 테이블일 때만 NOT NULL을 추가한다.
+                statements.add(this.alterQueryBuilder.buildAddColumnQuery(ddlBuilderData, column));
+                if (column.isNotNull() && !column.isPrimaryKey()
+                        && (schemaMode == SchemaMode.VALIDATE || countRows(tableName) == 0)) {
+                    statements.add(this.alterQueryBuilder.buildAlterNotNullQuery(tableName, column));
+                }
+                continue;
+            }
+            if (!columnSchema.columnDataType().equalsIgnoreCase(column.columnDataType())) {
+                statements.add(this.alterQueryBuilder.buildAlterDataTypeQuery(tableName, column));
+            }
+            if (columnSchema.isNotNull() != column.isNotNull()
+                    && (!column.isNotNull() || schemaMode == SchemaMode.VALIDATE || countNullRows(tableName, column.columnName()) == 0)) {
+                statements.add(this.alterQueryBuilder.buildAlterNotNullQuery(tableName, column));
+            }
+            if (column.isUnique()) {
+                uniqueConstraints.add(DDLIndexData.createUniqueConstraint(tableName, "", List.of(column.columnName())));
+            }
+        }
+
+        uniqueConstraints.stream()
+                .filter(constraint -> !tableSchema.hasUnique(constraint.columnNames()))
+                .map(constraint -> this.alterQueryBuilder.buildAddUniqueQuery(tableName, constraint))
+                .forEach(statements::add);
+
+        ddlBuilderData.getIndexes().stream()
+                .filter(index -> !tableSchema.hasIndex(index.indexName()))
+                .map(index -> this.createIndexQueryBuilder.buildQuery(tableName, index))
+                .forEach(statements::add);
+        return statements;
+    }
+
+    private long countRows(String tableName) {
+        return this.jdbcTemplate.queryForObject(COUNT_ROWS_QUERY.replace(TABLE_NAME, tableName),
+                resultSet -> resultSet.getLong(1));
+    }
+
+    private long countNullRows(String tableName, String columnName) {
+        return this.jdbcTemplate.queryForObject(COUNT_NULL_ROWS_QUERY.replace(TABLE_NAME, tableName).replace(COLUMN_NAME, columnName),
+                resultSet -> resultSet.getLong(1));
+    }
+}
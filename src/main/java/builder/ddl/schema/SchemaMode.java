@@ -0,0 +1,8 @@
+package builder.ddl.schema;
+
+public enum SchemaMode {
+    //Entity와 DB 스키마가 다르면 예외를 발생시킨다.
+    VALIDATE,
+    //없는 테이블, 컬럼, 인덱스, 제약만 추가하고 컬럼 타입과 NOT NULL 조건을 맞춘다.
+    UPDATE
+}
@@ -0,0 +1,35 @@
+package builder.ddl.schema;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+//DB에 존재하는 테이블 정보. 이름은 모두 대문자로 저장하고 대문자로 비교한다.
+public record TableSchema(
+        String tableName,
+        Map<String, ColumnSchema> columns,
+        Set<String> indexNames,
+        Set<Set<String>> uniqueColumns
+) {
+
+    public ColumnSchema findColumn(String columnName) {
+        return this.columns.get(toKey(columnName));
+    }
+
+    public boolean hasIndex(String indexName) {
+        return this.indexNames.contains(toKey(indexName));
+    }
+
+    //컬럼 순서와 관계없이 같은 컬럼들로 이루어진 UNIQUE 제약이 있는지 확인한다.
+    public boolean hasUnique(Collection<String> columnNames) {
+        return this.uniqueColumns.contains(columnNames.stream()
+                .map(TableSchema::toKey)
+                .collect(Collectors.toSet()));
+    }
+
+    static String toKey(String name) {
+        return name.toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,33 @@
+package builder.dialect;
+
+import builder.ddl.dataType.DataType;
+
+import java.util.List;
+import java.util.Optional;
+
+//DB마다 다른 SQL 문법. DB enum이 구현체를 하나씩 가지고 있어 EntityManager 생성 시 한번만 정해진다.
+public interface Dialect {
+
+    //Java 타입과 DB 컬럼 타입의 매핑
+    DataType getDataType();
+
+    //예약어와 겹치는 이름을 식별자로 쓸 수 있도록 감싼다.
+    String quoteIdentifier(String identifier);
+
+    //OFFSET, LIMIT 절. 파라미터는 isLimitBeforeOffset() 순서로 바인딩된다.
+    String getLimitClause(boolean hasOffset, boolean hasLimit);
+
+    boolean isLimitBeforeOffset();
+
+    //PK가 존재하면 수정하고 없으면 저장하는 쿼리를 한번에 실행한다.
+    String getUpsertQuery(String tableName, String pkName, List<String> columnNames, String values);
+
+    //insert 쿼리로 생성된 PK를 같은 쿼리에서 조회하는 쿼리. 지원하지 않으면 비어 있고 JDBC generated keys를 사용한다.
+    Optional<String> getInsertReturningQuery(String insertQuery, String pkName);
+
+    //조회한 행에 쓰기 잠금을 건다.
+    String getForUpdateClause();
+
+    //여러 행을 하나의 insert 쿼리로 저장한다. rowValues는 행마다 괄호를 제외한 값 목록이다.
+    String getMultiRowInsertQuery(String tableName, String columnNames, List<String> rowValues);
+}
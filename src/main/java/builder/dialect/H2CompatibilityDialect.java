@@ -0,0 +1,61 @@
+package builder.dialect;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+//MySQL 호환 모드(MODE=MySQL)로 실행한 H2. 타입, 잠금, multi-row insert는 H2와 같고
+//LIMIT/OFFSET, ON DUPLICATE KEY UPDATE 를 사용하며 FINAL TABLE 대신 JDBC generated keys로 PK를 가져온다.
+public class H2CompatibilityDialect extends H2Dialect {
+
+    private final static String QUOTE = "`";
+    private final static String OFFSET_CLAUSE = " OFFSET ?";
+    private final static String OFFSET_ONLY_CLAUSE = " OFFSET ? ROWS";
+    private final static String LIMIT_CLAUSE = " LIMIT ?";
+    private final static String UPSERT_QUERY = "INSERT INTO {tableName} ({columnNames}) VALUES ({values}) ON DUPLICATE KEY UPDATE {assignments};";
+    private final static String ASSIGNMENT = "{columnName} = VALUES({columnName})";
+    private final static String TABLE_NAME = "{tableName}";
+    private final static String COLUMN_NAMES = "{columnNames}";
+    private final static String COLUMN_NAME = "{columnName}";
+    private final static String VALUES = "{values}";
+    private final static String ASSIGNMENTS = "{assignments}";
+    private final static String COMMA = ", ";
+
+    @Override
+    public String quoteIdentifier(String identifier) {
+        return QUOTE + identifier + QUOTE;
+    }
+
+    //LIMIT 없이 OFFSET만 있으면 표준 OFFSET 절을 사용한다.
+    @Override
+    public String getLimitClause(boolean hasOffset, boolean hasLimit) {
+        if (!hasLimit) {
+            return hasOffset ? OFFSET_ONLY_CLAUSE : "";
+        }
+        return LIMIT_CLAUSE + (hasOffset ? OFFSET_CLAUSE : "");
+    }
+
+    @Override
+    public boolean isLimitBeforeOffset() {
+        return true;
+    }
+
+    //PK를 제외한 컬럼을 새 값으로 수정한다.
+    @Override
+    public String getUpsertQuery(String tableName, String pkName, List<String> columnNames, String values) {
+        String assignments = columnNames.stream()
+                .filter(columnName -> !columnName.equals(pkName))
+                .map(columnName -> ASSIGNMENT.replace(COLUMN_NAME, columnName))
+                .collect(Collectors.joining(COMMA));
+        return UPSERT_QUERY.replace(TABLE_NAME, tableName)
+                .replace(COLUMN_NAMES, String.join(COMMA, columnNames))
+                .replace(VALUES, values)
+                .replace(ASSIGNMENTS, assignments);
+    }
+
+    //FINAL TABLE을 쓰지 않고 JDBC generated keys로 생성된 PK를 가져온다.
+    @Override
+    public Optional<String> getInsertReturningQuery(String insertQuery, String pkName) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,81 @@
+package builder.dialect;
+
+import builder.ddl.dataType.DataType;
+import builder.ddl.dataType.H2DataType;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+//H2 기본 모드. 표준 OFFSET/FETCH, MERGE ... KEY, FINAL TABLE 을 사용한다.
+public class H2Dialect implements Dialect {
+
+    private final static String QUOTE = "\"";
+    private final static String OFFSET_CLAUSE = " OFFSET ? ROWS";
+    private final static String LIMIT_CLAUSE = " FETCH FIRST ? ROWS ONLY";
+    private final static String UPSERT_QUERY = "MERGE INTO {tableName} ({columnNames}) KEY ({pkName}) VALUES ({values});";
+    private final static String MULTI_ROW_INSERT_QUERY = "INSERT INTO {tableName} ({columnNames}) VALUES {rows};";
+    private final static String ROW = "({values})";
+    private final static String ROWS = "{rows}";
+    private final static String INSERT_RETURNING_QUERY = "SELECT {pkName} FROM FINAL TABLE ({insertQuery});";
+    private final static String FOR_UPDATE_CLAUSE = " FOR UPDATE";
+    private final static String TABLE_NAME = "{tableName}";
+    private final static String COLUMN_NAMES = "{columnNames}";
+    private final static String PK_NAME = "{pkName}";
+    private final static String VALUES = "{values}";
+    private final static String INSERT_QUERY = "{insertQuery}";
+    private final static String SEMICOLON = ";";
+    private final static String COMMA = ", ";
+
+    private final DataType dataType = new H2DataType();
+
+    @Override
+    public DataType getDataType() {
+        return dataType;
+    }
+
+    @Override
+    public String quoteIdentifier(String identifier) {
+        return QUOTE + identifier + QUOTE;
+    }
+
+    @Override
+    public String getLimitClause(boolean hasOffset, boolean hasLimit) {
+        return (hasOffset ? OFFSET_CLAUSE : "") + (hasLimit ? LIMIT_CLAUSE : "");
+    }
+
+    @Override
+    public boolean isLimitBeforeOffset() {
+        return false;
+    }
+
+    @Override
+    public String getUpsertQuery(String tableName, String pkName, List<String> columnNames, String values) {
+        return UPSERT_QUERY.replace(TABLE_NAME, tableName)
+                .replace(COLUMN_NAMES, String.join(COMMA, columnNames))
+                .replace(PK_NAME, pkName)
+                .replace(VALUES, values);
+    }
+
+    @Override
+    public String getMultiRowInsertQuery(String tableName, String columnNames, List<String> rowValues) {
+        return MULTI_ROW_INSERT_QUERY.replace(TABLE_NAME, tableName)
+                .replace(COLUMN_NAMES, columnNames)
+                .replace(ROWS, rowValues.stream()
+                        .map(values -> ROW.replace(VALUES, values))
+                        .collect(Collectors.joining(COMMA)));
+    }
+
+    //insert 결과 행을 FINAL TABLE로 조회하여 PK를 가져온다.
+    @Override
+    public Optional<String> getInsertReturningQuery(String insertQuery, String pkName) {
+        String query = insertQuery.endsWith(SEMICOLON) ? insertQuery.substring(0, insertQuery.length() - SEMICOLON.length()) : insertQuery;
+        return Optional.of(INSERT_RETURNING_QUERY.replace(PK_NAME, pkName)
+                .replace(INSERT_QUERY, query));
+    }
+
+    @Override
+    public String getForUpdateClause() {
+        return FOR_UPDATE_CLAUSE;
+    }
+}
@@ -1,6 +1,6 @@
 package builder.dml;
 
-import util.StringUtil;
+import util.ColumnUtil;
 
 public class DMLColumnData {
 
@@ -8,6 +8,7 @@ public class DMLColumnData {
     private Class<?> columnType;
     private Object columnValue;
     private boolean isPrimaryKey;
+    private boolean isLazy;
 
     private DMLColumnData(String columnName, Class<?> columnType, Object columnValue, boolean isPrimaryKey) {
         this.columnName = columnName;
@@ -16,6 +17,11 @@ public class DMLColumnData {
         this.isPrimaryKey = isPrimaryKey;
     }
 
+    private DMLColumnData(String columnName, Class<?> columnType, Object columnValue, boolean isPrimaryKey, boolean isLazy) {
+        this(columnName, columnType, columnValue, isPrimaryKey);
+        this.isLazy = isLazy;
+    }
+
     private DMLColumnData(String columnName, Class<?> columnType, boolean isPrimaryKey) {
         this.columnName = columnName;
         this.columnType = columnType;
@@ -38,10 +44,19 @@ public class DMLColumnData {
         return new DMLColumnData(columnName, columnType, columnValue, false);
     }
 
+    //@Basic(fetch = LAZY) 컬럼은 isLazy가 true 이다.
+    public static DMLColumnData creatInstanceColumn(String columnName, Class<?> columnType, Object columnValue, boolean isLazy) {
+        return new DMLColumnData(columnName, columnType, columnValue, false, isLazy);
+    }
+
     public static DMLColumnData createEntityColumn(String columnName) {
         return new DMLColumnData(columnName);
     }
 
+    public static DMLColumnData createEntityColumn(String columnName, boolean isLazy) {
+        return new DMLColumnData(columnName, null, null, false, isLazy);
+    }
+
     public String getColumnName() {
         return columnName;
     }
@@ -58,12 +73,11 @@ public class DMLColumnData {
         return isPrimaryKey;
     }
 
-    //Value가 String.class 이면 작은따옴표로 묶어준다.
-    public String getColumnValueByType() {
-        if (this.columnType == String.class) {
-            return StringUtil.wrapSingleQuote(this.columnValue);
-        }
+    public boolean isLazy() {
+        return isLazy;
+    }
 
-        return String.valueOf(this.columnValue);
+    public boolean isLob() {
+        return ColumnUtil.isLob(this.columnType);
     }
 }
@@ -1,12 +1,14 @@
 package builder.dml;
 
 import jakarta.persistence.*;
-import util.StringUtil;
+import util.AssociationUtil;
+import util.ColumnUtil;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -15,8 +17,7 @@ public class EntityData {
     private final static String PK_NOT_EXIST_MESSAGE = "PK 컬럼을 찾을 수 없습니다.";
     private final static String NOT_EXIST_ENTITY_ANNOTATION = "@Entity 어노테이션이 존재하지 않습니다.";
     private final static String GET_FIELD_VALUE_ERROR_MESSAGE = "필드 값을 가져오는 중 에러가 발생했습니다.";
-    private final static String COMMA = ", ";
-    private final static String EQUALS = "=";
+    private final static String NOT_EXIST_COLUMN_MESSAGE = "존재하지 않는 컬럼입니다. : ";
 
     private final String tableName;
     private List<DMLColumnData> columns;
@@ -76,36 +77,54 @@ public class EntityData {
         return entityInstance;
     }
 
-    public String wrapString() {
-        return (this.id instanceof String) ? StringUtil.wrapSingleQuote(this.id) : String.valueOf(this.id);
+    //Entity 클래스의 메타데이터. 미리 만든 파라미터 쿼리를 가진다.
+    public EntityMetadata getMetadata() {
+        return EntityMetadata.getEntityMetadata(this.clazz);
     }
 
-    // 테이블 열 정의 생성
-    public String getColumnDefinitions() {
+    // 테이블 컬럼명 생성
+    public String getColumnNames() {
+        return getMetadata().getColumnNamesClause();
+    }
+
+    // 기본 조회 컬럼명 생성. @Basic(fetch = LAZY) 컬럼은 제외한다.
+    public String getSelectColumnNames() {
+        return getMetadata().getSelectColumnNamesClause();
+    }
+
+    //insert 쿼리의 ? 순서와 같은 컬럼 값들
+    public Object[] getParameters() {
+        Object[] parameters = new Object[this.columns.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = this.columns.get(i).getColumnValue();
+        }
+        return parameters;
+    }
+
+    //PK를 제외한 컬럼 값들. PK를 DB가 생성하는 insert 쿼리에 바인딩한다.
+    public Object[] getParametersWithoutPk() {
         return this.columns.stream()
                 .filter(column -> !column.isPrimaryKey())
-                .map(column -> column.getColumnName() + EQUALS + column.getColumnValueByType())
-                .collect(Collectors.joining(COMMA));
+                .map(DMLColumnData::getColumnValue)
+                .toArray();
     }
 
-    // 테이블 컬럼명 생성
-    public String getColumnNames() {
+    //PK를 제외한 컬럼명들. update 쿼리의 SET 절 순서이다.
+    public List<String> getUpdateColumnNames() {
         return this.columns.stream()
+                .filter(column -> !column.isPrimaryKey())
                 .map(DMLColumnData::getColumnName)
-                .collect(Collectors.joining(COMMA));
+                .toList();
     }
 
-    //테이블 컬럼 Value 값들 생성
-    public String getColumnValues() {
-        return this.columns.stream()
-                .map(dmlColumnData -> {
-                    Object value = dmlColumnData.getColumnValue();
-                    if (dmlColumnData.getColumnType() == String.class) { //데이터 타입이 String 이면 작은 따옴표로 묶어준다.
-                        return StringUtil.wrapSingleQuote(value);
-                    }
-                    return String.valueOf(value);
-                })
-                .collect(Collectors.joining(COMMA));
+    //update 쿼리의 SET 절 컬럼 값들과 마지막 WHERE 절의 PK 값
+    public Object[] getUpdateParameters() {
+        List<Object> parameters = new ArrayList<>(this.columns.size() + 1);
+        this.columns.stream()
+                .filter(column -> !column.isPrimaryKey())
+                .forEach(column -> parameters.add(column.getColumnValue()));
+        parameters.add(this.id);
+        return parameters.toArray();
     }
 
     //PkName를 가져온다.
@@ -117,6 +136,34 @@ public class EntityData {
                 .orElseThrow(() -> new RuntimeException(PK_NOT_EXIST_MESSAGE));
     }
 
+    //컬럼명으로 컬럼 값을 가져온다.
+    public Object getColumnValue(String columnName) {
+        return this.columns.stream()
+                .filter(column -> column.getColumnName().equals(columnName))
+                .findFirst()
+                .map(DMLColumnData::getColumnValue)
+                .orElseThrow(() -> new IllegalArgumentException(NOT_EXIST_COLUMN_MESSAGE + columnName));
+    }
+
+    //Entity에 존재하는 컬럼명인지 확인한다.
+    public void confirmColumnName(String columnName) {
+        boolean exists = this.columns.stream()
+                .anyMatch(column -> column.getColumnName().equals(columnName));
+        if (!exists) {
+            throw new IllegalArgumentException(NOT_EXIST_COLUMN_MESSAGE + columnName);
+        }
+    }
+
+    //컬럼 하나의 값만 바꾼다. 나머지 컬럼 값은 그대로 둔다.
+    public void changeColumnValue(String columnName, Object columnValue) {
+        confirmColumnName(columnName);
+        this.columns = this.columns.stream()
+                .map(column -> column.getColumnName().equals(columnName)
+                        ? DMLColumnData.creatInstanceColumn(columnName, column.getColumnType(), columnValue, column.isLazy())
+                        : column)
+                .toList();
+    }
+
     public EntityData changeColumns(List<DMLColumnData> columns) {
         this.columns = columns;
         return this;
@@ -128,7 +175,7 @@ public class EntityData {
         return this.columns.stream()
                 .filter(entityColumn -> {
                     DMLColumnData persistenceColumn = snapShotColumnMap.get(entityColumn.getColumnName());
-                    return !entityColumn.getColumnValue().equals(persistenceColumn.getColumnValue());
+                    return !Objects.deepEquals(entityColumn.getColumnValue(), persistenceColumn.getColumnValue()); // byte[]는 내용으로 비교한다.
                 })
                 .toList();
     }
@@ -178,6 +225,12 @@ public class EntityData {
     private void createDMLEntityColumnData(List<DMLColumnData> DMLColumnDataList, Field field) {
         if (field.isAnnotationPresent(Transient.class) || field.isAnnotationPresent(Id.class))
             return; // @Transient인 경우 검증하지 않음
+        if (AssociationUtil.isCollection(field))
+            return; // @OneToMany는 상대 테이블의 FK로 매핑되므로 컬럼이 없다.
+        if (AssociationUtil.isReference(field)) {
+            DMLColumnDataList.add(DMLColumnData.createEntityColumn(AssociationUtil.joinColumnName(field)));
+            return;
+        }
 
         String columnName = field.getName();
 
@@ -186,12 +239,18 @@ public class EntityData {
             columnName = column.name().isEmpty() ? columnName : column.name();
         }
 
-        DMLColumnDataList.add(DMLColumnData.createEntityColumn(columnName));
+        DMLColumnDataList.add(DMLColumnData.createEntityColumn(columnName, ColumnUtil.isLazy(field)));
     }
 
     private <T> void createDMLInstanceColumnData(List<DMLColumnData> DMLColumnDataList, Field field, T entityInstance) {
         if (field.isAnnotationPresent(Transient.class) || field.isAnnotationPresent(Id.class))
             return; // @Transient인 경우 검증하지 않음
+        if (AssociationUtil.isCollection(field))
+            return; // @OneToMany는 상대 테이블의 FK로 매핑되므로 컬럼이 없다.
+        if (AssociationUtil.isReference(field)) {
+            createDMLReferenceColumnData(DMLColumnDataList, field, entityInstance);
+            return;
+        }
 
         String columnName = field.getName();
 
@@ -203,7 +262,20 @@ public class EntityData {
         field.setAccessible(true);
 
         try {
-            DMLColumnDataList.add(DMLColumnData.creatInstanceColumn(columnName, field.getType(), field.get(entityInstance)));
+            DMLColumnDataList.add(DMLColumnData.creatInstanceColumn(columnName, ColumnUtil.columnType(field), field.get(entityInstance), ColumnUtil.isLazy(field)));
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(GET_FIELD_VALUE_ERROR_MESSAGE + field.getName(), e);
+        }
+    }
+
+    //@ManyToOne 필드는 참조하는 Entity의 PK 값을 FK 컬럼 값으로 가진다.
+    private <T> void createDMLReferenceColumnData(List<DMLColumnData> DMLColumnDataList, Field field, T entityInstance) {
+        field.setAccessible(true);
+
+        try {
+            Object reference = field.get(entityInstance);
+            Class<?> fkType = AssociationUtil.idField(field.getType()).getType();
+            DMLColumnDataList.add(DMLColumnData.creatInstanceColumn(AssociationUtil.joinColumnName(field), fkType, AssociationUtil.idValue(reference)));
         } catch (IllegalAccessException e) {
             throw new RuntimeException(GET_FIELD_VALUE_ERROR_MESSAGE + field.getName(), e);
         }
@@ -223,12 +295,13 @@ public class EntityData {
         return entityClass.getSimpleName();
     }
 
+    //PK 컬럼은 반드시 있어야 하지만 DB가 PK를 생성하는 경우 저장 전 값은 null일 수 있다.
     private Object getPkValue() {
         return this.columns.stream()
                 .filter(DMLColumnData::isPrimaryKey)
                 .findFirst()
-                .map(DMLColumnData::getColumnValue)
-                .orElseThrow(() -> new IllegalArgumentException(PK_NOT_EXIST_MESSAGE));
+                .orElseThrow(() -> new IllegalArgumentException(PK_NOT_EXIST_MESSAGE))
+                .getColumnValue();
     }
 
     private Object deepCopy(Object original) {
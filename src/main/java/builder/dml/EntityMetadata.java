@@ -0,0 +1,239 @@
+package builder.dml;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//Entity 클래스마다 한번만 만드는 메타데이터. 값이 바뀌지 않는 쿼리는 ? 파라미터 쿼리로 미리 만들어 둔다.
+//값은 EntityData의 파라미터로 바인딩하므로 같은 Entity는 항상 같은 쿼리 문자열을 사용한다.
+public class EntityMetadata {
+
+    private final static Map<Class<?>, EntityMetadata> ENTITY_METADATA_CACHE = new ConcurrentHashMap<>();
+    private final static String INSERT_QUERY = "INSERT INTO {tableName} ({columnNames}) VALUES ({values});";
+    private final static String SELECT_ALL_QUERY = "SELECT {columnNames} FROM {tableName};";
+    private final static String SELECT_BY_ID_QUERY = "SELECT {columnNames} FROM {tableName} WHERE {entityPkName} = ?;";
+    private final static String DELETE_BY_ID_QUERY = "DELETE FROM {tableName} WHERE {entityPkName} = ?;";
+    private final static String UPDATE_PREFIX = "UPDATE {tableName} SET ";
+    private final static String UPDATE_SUFFIX = " WHERE {entityPkName} = ?;";
+    private final static String TABLE_NAME = "{tableName}";
+    private final static String COLUMN_NAMES = "{columnNames}";
+    private final static String VALUES = "{values}";
+    private final static String ENTITY_PK_NAME = "{entityPkName}";
+    private final static String PARAMETER = "?";
+    private final static String ASSIGNMENT = " = ?";
+    private final static String COMMA = ", ";
+    private final static String NOT_EXIST_COLUMN_MESSAGE = "수정할 수 없는 컬럼입니다. : ";
+    private final static String COLUMN_ORDER_MESSAGE = "수정 컬럼은 중복 없이 Entity의 컬럼 순서여야 합니다. : ";
+    //Entity 하나가 캐시하는 update 쿼리 형태의 최대 수. 넘으면 캐시를 비운다.
+    private final static int MAX_UPDATE_QUERY_CACHE_SIZE = 64;
+
+    private final String tableName;
+    private final String pkName;
+    private final List<String> columnNames;
+    private final List<String> updatableColumnNames;
+    private final String columnNamesClause;
+    private final String selectColumnNamesClause;
+    private final String parameterClause;
+    private final String insertQuery;
+    private final String insertWithoutPkQuery;
+    private final String selectAllQuery;
+    private final String selectByIdQuery;
+    private final String deleteByIdQuery;
+    private final String updatePrefix;
+    private final String updateSuffix;
+    private final String updateAllQuery;
+    //수정 컬럼 bitmask -> update 쿼리. bit 위치는 updatableColumnNames의 index이다.
+    private final Map<String, Integer> updatableColumnIndexes = new HashMap<>();
+    private final Map<Long, String> updateQueries = new ConcurrentHashMap<>();
+    private final long updateAllMask;
+
+    private EntityMetadata(EntityData entityData) {
+        List<DMLColumnData> columns = entityData.getColumns();
+        this.tableName = entityData.getTableName();
+        this.pkName = entityData.getPkNm();
+        this.columnNames = columns.stream().map(DMLColumnData::getColumnName).toList();
+        this.updatableColumnNames = columns.stream()
+                .filter(column -> !column.isPrimaryKey())
+                .map(DMLColumnData::getColumnName)
+                .toList();
+        this.columnNamesClause = String.join(COMMA, this.columnNames);
+        this.selectColumnNamesClause = String.join(COMMA, columns.stream()
+                .filter(column -> !column.isLazy())
+                .map(DMLColumnData::getColumnName)
+                .toList());
+        this.parameterClause = parameters(this.columnNames.size());
+
+        //쿼리 템플릿은 메타데이터를 만들 때 한번만 치환한다.
+        this.insertQuery = INSERT_QUERY.replace(TABLE_NAME, this.tableName)
+                .replace(COLUMN_NAMES, this.columnNamesClause)
+                .replace(VALUES, this.parameterClause);
+        this.insertWithoutPkQuery = INSERT_QUERY.replace(TABLE_NAME, this.tableName)
+                .replace(COLUMN_NAMES, String.join(COMMA, this.updatableColumnNames))
+                .replace(VALUES, parameters(this.updatableColumnNames.size()));
+        this.selectAllQuery = SELECT_ALL_QUERY.replace(TABLE_NAME, this.tableName)
+                .replace(COLUMN_NAMES, this.selectColumnNamesClause);
+        this.selectByIdQuery = SELECT_BY_ID_QUERY.replace(TABLE_NAME, this.tableName)
+                .replace(COLUMN_NAMES, this.selectColumnNamesClause)
+                .replace(ENTITY_PK_NAME, this.pkName);
+        this.deleteByIdQuery = DELETE_BY_ID_QUERY.replace(TABLE_NAME, this.tableName)
+                .replace(ENTITY_PK_NAME, this.pkName);
+        this.updatePrefix = UPDATE_PREFIX.replace(TABLE_NAME, this.tableName);
+        this.updateSuffix = UPDATE_SUFFIX.replace(ENTITY_PK_NAME, this.pkName);
+        this.updateAllQuery = buildUpdateQuery(this.updatableColumnNames);
+        for (int i = 0; i < this.updatableColumnNames.size(); i++) {
+            this.updatableColumnIndexes.put(this.updatableColumnNames.get(i), i);
+        }
+        this.updateAllMask = this.updatableColumnNames.size() >= Long.SIZE ? -1L : (1L << this.updatableColumnNames.size()) - 1;
+    }
+
+    public static EntityMetadata getEntityMetadata(Class<?> clazz) {
+        return ENTITY_METADATA_CACHE.computeIfAbsent(clazz, key -> new EntityMetadata(EntityData.createEntityData(key, null)));
+    }
+
+    //수정할 컬럼만 SET 절에 넣은 update 쿼리. 같은 컬럼 조합은 bitmask로 캐시된 쿼리를 재사용한다.
+    //SET 절은 Entity의 컬럼 순서를 따르므로 changedColumnNames도 그 순서여야 파라미터가 같은 순서로 바인딩된다.
+    //컬럼이 64개를 넘는 Entity는 bitmask로 표현할 수 없어 매번 만든다.
+    public String getUpdateQuery(List<String> changedColumnNames) {
+        long dirtyMask = 0L;
+        int previousIndex = -1;
+        for (String columnName : changedColumnNames) {
+            int index = indexOf(columnName);
+            if (index <= previousIndex) {
+                throw new IllegalArgumentException(COLUMN_ORDER_MESSAGE + changedColumnNames);
+            }
+            previousIndex = index;
+            dirtyMask |= 1L << index;
+        }
+        if (!isMaskable()) {
+            return changedColumnNames.equals(this.updatableColumnNames) ? this.updateAllQuery : buildUpdateQuery(changedColumnNames);
+        }
+        return getUpdateQuery(dirtyMask);
+    }
+
+    //수정 컬럼 bitmask에 해당하는 update 쿼리. SET 절은 Entity의 컬럼 순서를 따른다.
+    public String getUpdateQuery(long dirtyMask) {
+        if (dirtyMask == this.updateAllMask) {
+            return this.updateAllQuery;
+        }
+        String query = this.updateQueries.get(dirtyMask);
+        if (query != null) {
+            return query;
+        }
+        if (this.updateQueries.size() >= MAX_UPDATE_QUERY_CACHE_SIZE) {
+            this.updateQueries.clear();
+        }
+        return this.updateQueries.computeIfAbsent(dirtyMask, mask -> buildUpdateQuery(columnNamesOf(mask)));
+    }
+
+    //수정할 컬럼명들을 updatableColumnNames의 index bit로 표현한다. PK나 없는 컬럼명이면 예외가 발생한다.
+    public long getDirtyMask(List<String> changedColumnNames) {
+        long dirtyMask = 0L;
+        for (String columnName : changedColumnNames) {
+            dirtyMask |= 1L << indexOf(columnName);
+        }
+        return dirtyMask;
+    }
+
+    public int getUpdateQueryCacheSize() {
+        return this.updateQueries.size();
+    }
+
+    private int indexOf(String columnName) {
+        Integer index = this.updatableColumnIndexes.get(columnName);
+        if (index == null) {
+            throw new IllegalArgumentException(NOT_EXIST_COLUMN_MESSAGE + columnName);
+        }
+        return index;
+    }
+
+    private boolean isMaskable() {
+        return this.updatableColumnNames.size() <= Long.SIZE;
+    }
+
+    private List<String> columnNamesOf(long dirtyMask) {
+        List<String> columnNames = new ArrayList<>(Long.bitCount(dirtyMask));
+        for (int i = 0; i < this.updatableColumnNames.size(); i++) {
+            if ((dirtyMask & (1L << i)) != 0) {
+                columnNames.add(this.updatableColumnNames.get(i));
+            }
+        }
+        return columnNames;
+    }
+
+    private String buildUpdateQuery(List<String> changedColumnNames) {
+        int length = this.updatePrefix.length() + this.updateSuffix.length();
+        for (String columnName : changedColumnNames) {
+            length += columnName.length() + ASSIGNMENT.length() + COMMA.length();
+        }
+        StringBuilder query = new StringBuilder(length).append(this.updatePrefix);
+        for (int i = 0; i < changedColumnNames.size(); i++) {
+            if (i > 0) {
+                query.append(COMMA);
+            }
+            query.append(changedColumnNames.get(i)).append(ASSIGNMENT);
+        }
+        return query.append(this.updateSuffix).toString();
+    }
+
+    //"?, ?, ?" 처럼 개수만큼의 파라미터
+    private static String parameters(int count) {
+        StringBuilder parameters = new StringBuilder(count * (PARAMETER.length() + COMMA.length()));
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                parameters.append(COMMA);
+            }
+            parameters.append(PARAMETER);
+        }
+        return parameters.toString();
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getPkName() {
+        return pkName;
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public List<String> getUpdatableColumnNames() {
+        return updatableColumnNames;
+    }
+
+    public String getColumnNamesClause() {
+        return columnNamesClause;
+    }
+
+    public String getSelectColumnNamesClause() {
+        return selectColumnNamesClause;
+    }
+
+    public String getParameterClause() {
+        return parameterClause;
+    }
+
+    public String getInsertQuery() {
+        return insertQuery;
+    }
+
+    public String getInsertWithoutPkQuery() {
+        return insertWithoutPkQuery;
+    }
+
+    public String getSelectAllQuery() {
+        return selectAllQuery;
+    }
+
+    public String getSelectByIdQuery() {
+        return selectByIdQuery;
+    }
+
+    public String getDeleteByIdQuery() {
+        return deleteByIdQuery;
+    }
+}
@@ -0,0 +1,29 @@
+package builder.dml.builder;
+
+import builder.dml.EntityData;
+import builder.dml.query.AggregateFunction;
+import builder.dml.query.Condition;
+
+public class AggregateQueryBuilder {
+
+    private final static String AGGREGATE_QUERY = "SELECT {aggregate} FROM {tableName}{where};";
+    private final static String TABLE_NAME = "{tableName}";
+    private final static String AGGREGATE = "{aggregate}";
+    private final static String WHERE = "{where}";
+    private final static String WHERE_CLAUSE = " WHERE ";
+
+    public String buildQuery(EntityData entityData, AggregateFunction function, String columnName, Condition condition) {
+        return aggregateQuery(entityData, function, columnName, condition);
+    }
+
+    //count, sum, min, max, avg 쿼리문을 생성한다.
+    private String aggregateQuery(EntityData entityData, AggregateFunction function, String columnName, Condition condition) {
+        function.confirmColumnName(entityData, columnName);
+        if (condition != null) {
+            condition.getColumnNames().forEach(entityData::confirmColumnName);
+        }
+        return AGGREGATE_QUERY.replace(TABLE_NAME, entityData.getTableName())
+                .replace(AGGREGATE, function.toClause(columnName))
+                .replace(WHERE, condition == null ? "" : WHERE_CLAUSE + condition.getClause());
+    }
+}
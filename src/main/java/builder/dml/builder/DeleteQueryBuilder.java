@@ -4,20 +4,9 @@ import builder.dml.EntityData;
 
 public class DeleteQueryBuilder {
 
-    private final static String DELETE_BY_ID_QUERY = "DELETE FROM {tableName} WHERE {entityPkName} = {values};";
-    private final static String TABLE_NAME = "{tableName}";
-    private final static String VALUES = "{values}";
-    private final static String ENTITY_PK_NAME = "{entityPkName}";
-
+    //delete 쿼리문. id는 ? 파라미터로 바인딩한다.
     public String buildQuery(EntityData EntityData) {
-        return deleteByIdQuery(EntityData);
-    }
-
-    //delete 쿼리문을 생성한다.
-    private String deleteByIdQuery(EntityData EntityData) {
-        return DELETE_BY_ID_QUERY.replace(TABLE_NAME, EntityData.getTableName())
-                .replace(ENTITY_PK_NAME, EntityData.getPkNm())
-                .replace(VALUES, String.valueOf(EntityData.wrapString()));
+        return EntityData.getMetadata().getDeleteByIdQuery();
     }
 
 }
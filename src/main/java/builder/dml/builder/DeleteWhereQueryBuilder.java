@@ -0,0 +1,22 @@
+package builder.dml.builder;
+
+import builder.dml.EntityData;
+import builder.dml.query.Condition;
+
+public class DeleteWhereQueryBuilder {
+
+    private final static String DELETE_WHERE_QUERY = "DELETE FROM {tableName}{where};";
+    private final static String TABLE_NAME = "{tableName}";
+    private final static String WHERE = "{where}";
+    private final static String WHERE_CLAUSE = " WHERE ";
+
+    public String buildQuery(EntityData entityData, Condition condition) {
+        return deleteWhereQuery(entityData, condition);
+    }
+
+    //조건에 해당하는 행을 일괄 삭제하는 delete 쿼리를 생성한다.
+    private String deleteWhereQuery(EntityData entityData, Condition condition) {
+        return DELETE_WHERE_QUERY.replace(TABLE_NAME, entityData.getTableName())
+                .replace(WHERE, condition == null ? "" : WHERE_CLAUSE + condition.getClause());
+    }
+}
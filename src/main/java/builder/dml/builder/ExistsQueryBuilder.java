@@ -0,0 +1,25 @@
+package builder.dml.builder;
+
+import builder.dml.EntityData;
+import builder.dml.query.Condition;
+
+public class ExistsQueryBuilder {
+
+    private final static String EXISTS_QUERY = "SELECT 1 FROM {tableName}{where} FETCH FIRST 1 ROWS ONLY;";
+    private final static String TABLE_NAME = "{tableName}";
+    private final static String WHERE = "{where}";
+    private final static String WHERE_CLAUSE = " WHERE ";
+
+    public String buildQuery(EntityData entityData, Condition condition) {
+        return existsQuery(entityData, condition);
+    }
+
+    //조건에 맞는 행이 하나라도 있는지 확인하는 쿼리문을 생성한다. 첫 행을 찾으면 조회를 멈춘다.
+    private String existsQuery(EntityData entityData, Condition condition) {
+        if (condition != null) {
+            condition.getColumnNames().forEach(entityData::confirmColumnName);
+        }
+        return EXISTS_QUERY.replace(TABLE_NAME, entityData.getTableName())
+                .replace(WHERE, condition == null ? "" : WHERE_CLAUSE + condition.getClause());
+    }
+}
@@ -0,0 +1,46 @@
+package builder.dml.builder;
+
+import builder.dml.EntityData;
+import builder.dml.query.AggregateFunction;
+import builder.dml.query.Condition;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class GroupByQueryBuilder {
+
+    private final static String GROUP_BY_QUERY = "SELECT {groupBy}, {aggregate} FROM {tableName}{where} GROUP BY {groupBy} ORDER BY {groupBy};";
+    private final static String TABLE_NAME = "{tableName}";
+    private final static String GROUP_BY = "{groupBy}";
+    private final static String AGGREGATE = "{aggregate}";
+    private final static String WHERE = "{where}";
+    private final static String WHERE_CLAUSE = " WHERE ";
+    private final static String NOT_SUPPORTED_GROUP_BY_MESSAGE = "그룹 기준은 컬럼 또는 '컬럼 / 정수' 식만 사용할 수 있습니다. : ";
+    //컬럼 또는 컬럼 / 양의 정수
+    private final static Pattern GROUP_BY_EXPRESSION = Pattern.compile("(\\w+)(\\s*/\\s*[1-9]\\d*)?");
+
+    public String buildQuery(EntityData entityData, String groupByExpression, AggregateFunction function, String columnName, Condition condition) {
+        return groupByQuery(entityData, groupByExpression, function, columnName, condition);
+    }
+
+    //그룹별 집계 쿼리문을 생성한다. 그룹 기준에는 컬럼 또는 컬럼을 정수로 나눈 식(ex. old / 10)만 사용할 수 있다.
+    private String groupByQuery(EntityData entityData, String groupByExpression, AggregateFunction function, String columnName, Condition condition) {
+        confirmGroupByExpression(entityData, groupByExpression);
+        function.confirmColumnName(entityData, columnName);
+        if (condition != null) {
+            condition.getColumnNames().forEach(entityData::confirmColumnName);
+        }
+        return GROUP_BY_QUERY.replace(TABLE_NAME, entityData.getTableName())
+                .replace(AGGREGATE, function.toClause(columnName))
+                .replace(WHERE, condition == null ? "" : WHERE_CLAUSE + condition.getClause())
+                .replace(GROUP_BY, groupByExpression);
+    }
+
+    private void confirmGroupByExpression(EntityData entityData, String groupByExpression) {
+        Matcher matcher = GROUP_BY_EXPRESSION.matcher(groupByExpression);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException(NOT_SUPPORTED_GROUP_BY_MESSAGE + groupByExpression);
+        }
+        entityData.confirmColumnName(matcher.group(1));
+    }
+}
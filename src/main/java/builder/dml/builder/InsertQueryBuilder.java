@@ -1,24 +1,56 @@
 package builder.dml.builder;
 
+import builder.ddl.dataType.DB;
+import builder.dialect.Dialect;
 import builder.dml.EntityData;
+import builder.dml.EntityMetadata;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class InsertQueryBuilder {
 
-    private final static String INSERT_QUERY = "INSERT INTO {tableName} ({columnNames}) VALUES ({values});";
-    private final static String TABLE_NAME = "{tableName}";
-    private final static String COLUMN_NAMES = "{columnNames}";
-    private final static String VALUES = "{values}";
+    private final Dialect dialect;
+    //Entity 클래스별 생성된 PK를 조회하는 insert 쿼리. Dialect마다 builder가 따로 있으므로 클래스로만 구분한다.
+    private final Map<Class<?>, Optional<String>> insertReturningQueries = new ConcurrentHashMap<>();
+
+    public InsertQueryBuilder() {
+        this(DB.H2.getDialect());
+    }
+
+    public InsertQueryBuilder(Dialect dialect) {
+        this.dialect = dialect;
+    }
 
-    //insert 쿼리를 생성한다. Insert 쿼리는 인스턴스의 데이터를 받아야함
+    //insert 쿼리를 생성한다. 값은 EntityData.getParameters()로 바인딩한다.
     public String buildQuery(EntityData EntityData) {
-        return insertQuery(EntityData);
+        return EntityData.getMetadata().getInsertQuery();
+    }
+
+    //같은 Entity 여러건을 하나의 insert 쿼리로 저장한다. 파라미터는 행 순서대로 바인딩한다.
+    public String buildQuery(List<EntityData> entityDataList) {
+        EntityMetadata metadata = entityDataList.get(0).getMetadata();
+        return this.dialect.getMultiRowInsertQuery(
+                metadata.getTableName(),
+                metadata.getColumnNamesClause(),
+                Collections.nCopies(entityDataList.size(), metadata.getParameterClause())
+        );
+    }
+
+    //PK를 DB가 생성하도록 PK 컬럼을 제외하고 저장한다. 값은 EntityData.getParametersWithoutPk()로 바인딩한다.
+    public String buildGeneratedIdQuery(EntityData entityData) {
+        return entityData.getMetadata().getInsertWithoutPkQuery();
     }
 
-    //insert쿼리문을 생성한다.
-    private String insertQuery(EntityData EntityData) {
-        return INSERT_QUERY.replace(TABLE_NAME, EntityData.getTableName())
-                .replace(COLUMN_NAMES, EntityData.getColumnNames())
-                .replace(VALUES, EntityData.getColumnValues());
+    //PK 컬럼을 제외하고 저장하면서 생성된 PK를 조회하는 쿼리. Dialect가 지원하지 않으면 비어 있다.
+    public Optional<String> buildInsertReturningQuery(EntityData entityData) {
+        return this.insertReturningQueries.computeIfAbsent(entityData.getClazz(), clazz -> {
+            EntityMetadata metadata = entityData.getMetadata();
+            return this.dialect.getInsertReturningQuery(metadata.getInsertWithoutPkQuery(), metadata.getPkName());
+        });
     }
 
 }
@@ -0,0 +1,71 @@
+package builder.dml.builder;
+
+import builder.ddl.dataType.DB;
+import builder.dialect.Dialect;
+import builder.dml.DMLColumnData;
+import builder.dml.EntityData;
+import builder.dml.query.Criteria;
+import builder.dml.query.Order;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class JoinFetchQueryBuilder {
+
+    private final static String JOIN_FETCH_QUERY = "SELECT {columnNames} FROM ({rootQuery}) r LEFT JOIN {joinTableName} j ON {joinCondition} ORDER BY {orderBy};";
+    private final static String COLUMN_NAMES = "{columnNames}";
+    private final static String ROOT_QUERY = "{rootQuery}";
+    private final static String JOIN_TABLE_NAME = "{joinTableName}";
+    private final static String JOIN_CONDITION = "{joinCondition}";
+    private final static String ORDER_BY = "{orderBy}";
+    private final static String ROOT_ALIAS = "r.";
+    private final static String JOIN_ALIAS = "j.";
+    private final static String EQUALS = " = ";
+    private final static String SEMICOLON = ";";
+    private final static String COMMA = ", ";
+    private final static String NOT_SUPPORTED_LOCK = "join fetch 조회는 잠금(forUpdate)을 지원하지 않습니다.";
+
+    private final SelectQueryBuilder selectQueryBuilder;
+
+    public JoinFetchQueryBuilder() {
+        this(DB.H2.getDialect());
+    }
+
+    public JoinFetchQueryBuilder(Dialect dialect) {
+        this.selectQueryBuilder = new SelectQueryBuilder(dialect);
+    }
+
+    //조건, 정렬, 페이징은 root Entity 조회에 적용하고, 그 결과에 연관 Entity를 LEFT JOIN 한다.
+    //root 컬럼 다음에 연관 Entity 컬럼이 Entity 필드 순서대로 조회된다.
+    public String buildQuery(EntityData rootEntityData, EntityData joinEntityData, String rootJoinColumn, String joinJoinColumn, Criteria criteria) {
+        if (criteria.isForUpdate()) {
+            throw new IllegalArgumentException(NOT_SUPPORTED_LOCK);
+        }
+        String rootQuery = selectQueryBuilder.buildQuery(rootEntityData, criteria);
+
+        return JOIN_FETCH_QUERY.replace(COLUMN_NAMES, Stream.concat(
+                                qualifiedColumnNames(ROOT_ALIAS, rootEntityData),
+                                qualifiedColumnNames(JOIN_ALIAS, joinEntityData))
+                        .collect(Collectors.joining(COMMA)))
+                .replace(ROOT_QUERY, rootQuery.substring(0, rootQuery.length() - SEMICOLON.length()))
+                .replace(JOIN_TABLE_NAME, joinEntityData.getTableName())
+                .replace(JOIN_CONDITION, ROOT_ALIAS + rootJoinColumn + EQUALS + JOIN_ALIAS + joinJoinColumn)
+                .replace(ORDER_BY, orderByClause(rootEntityData, joinEntityData, criteria));
+    }
+
+    //root 정렬을 유지하고, 같은 root의 연관 Entity는 PK 순서로 정렬한다.
+    private String orderByClause(EntityData rootEntityData, EntityData joinEntityData, Criteria criteria) {
+        return Stream.concat(
+                        criteria.getOrders().stream().map(order -> ROOT_ALIAS + order.toClause()),
+                        Stream.of(Order.asc(ROOT_ALIAS + rootEntityData.getPkNm()), Order.asc(JOIN_ALIAS + joinEntityData.getPkNm()))
+                                .map(Order::toClause))
+                .collect(Collectors.joining(COMMA));
+    }
+
+    private Stream<String> qualifiedColumnNames(String alias, EntityData entityData) {
+        return entityData.getColumns().stream()
+                .filter(column -> !column.isLazy())
+                .map(DMLColumnData::getColumnName)
+                .map(columnName -> alias + columnName);
+    }
+}
@@ -1,25 +1,18 @@
 package builder.dml.builder;
 
 import builder.dml.EntityData;
+import builder.dml.EntityMetadata;
 
 public class SelectByIdQueryBuilder {
 
-    private final static String FIND_BY_ID_QUERY = "SELECT {columnNames} FROM {tableName} WHERE {entityPkName} = {values};";
-    private final static String TABLE_NAME = "{tableName}";
-    private final static String COLUMN_NAMES = "{columnNames}";
-    private final static String VALUES = "{values}";
-    private final static String ENTITY_PK_NAME = "{entityPkName}";
-
+    //findById 쿼리문. id는 ? 파라미터로 바인딩한다.
     public String buildQuery(EntityData EntityData) {
-        return findByIdQuery(EntityData);
+        return EntityData.getMetadata().getSelectByIdQuery();
     }
 
-    //findAll 쿼리문을 생성한다.
-    private String findByIdQuery(EntityData EntityData) {
-        return FIND_BY_ID_QUERY.replace(TABLE_NAME, EntityData.getTableName())
-                .replace(COLUMN_NAMES, EntityData.getColumnNames())
-                .replace(ENTITY_PK_NAME, EntityData.getPkNm())
-                .replace(VALUES, String.valueOf(EntityData.wrapString()));
+    //EntityData 없이 클래스의 메타데이터에서 바로 가져온다.
+    public String buildQuery(Class<?> clazz) {
+        return EntityMetadata.getEntityMetadata(clazz).getSelectByIdQuery();
     }
 
 }
@@ -0,0 +1,85 @@
+package builder.dml.builder;
+
+import builder.ddl.dataType.DB;
+import builder.dialect.Dialect;
+import builder.dml.EntityData;
+import builder.dml.query.Criteria;
+import builder.dml.query.Order;
+import builder.dml.query.QueryPlanCache;
+import builder.dml.query.QueryPlanCache.QueryShape;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+public class SelectQueryBuilder {
+
+    //Dialect마다 같은 형태의 쿼리라도 SQL이 다르므로 캐시를 따로 둔다.
+    private final static Map<Dialect, QueryPlanCache> QUERY_PLAN_CACHES = new ConcurrentHashMap<>();
+
+    private final static String SELECT_QUERY = "SELECT {columnNames} FROM {tableName}{where}{orderBy}{limit}{forUpdate};";
+    private final static String TABLE_NAME = "{tableName}";
+    private final static String COLUMN_NAMES = "{columnNames}";
+    private final static String WHERE = "{where}";
+    private final static String ORDER_BY = "{orderBy}";
+    private final static String LIMIT = "{limit}";
+    private final static String FOR_UPDATE = "{forUpdate}";
+    private final static String WHERE_CLAUSE = " WHERE ";
+    private final static String ORDER_BY_CLAUSE = " ORDER BY ";
+    private final static String COMMA = ", ";
+
+    private final Dialect dialect;
+    private final QueryPlanCache queryPlanCache;
+
+    public SelectQueryBuilder() {
+        this(DB.H2.getDialect());
+    }
+
+    public SelectQueryBuilder(Dialect dialect) {
+        this.dialect = dialect;
+        this.queryPlanCache = QUERY_PLAN_CACHES.computeIfAbsent(dialect, key -> new QueryPlanCache());
+    }
+
+    //같은 형태의 쿼리는 캐시된 SQL을 사용한다. 값은 Criteria.getParameters(dialect)로 바인딩한다.
+    public String buildQuery(EntityData entityData, Criteria criteria) {
+        return this.queryPlanCache.getOrCreate(
+                QueryShape.of(entityData.getClazz(), criteria),
+                () -> selectQuery(entityData, criteria)
+        );
+    }
+
+    //조건, 정렬, 페이징이 포함된 select 쿼리문을 생성한다.
+    //캐시 키에 컬럼 이름이 모두 포함되므로, 캐시에 없는 형태일 때만 컬럼을 확인하면 된다.
+    private String selectQuery(EntityData entityData, Criteria criteria) {
+        confirmColumnNames(entityData, criteria);
+        String orderByClause = criteria.getOrders().stream()
+                .map(Order::toClause)
+                .collect(Collectors.joining(COMMA));
+
+        return SELECT_QUERY.replace(TABLE_NAME, entityData.getTableName())
+                .replace(COLUMN_NAMES, selectColumnNames(entityData, criteria))
+                .replace(WHERE, criteria.getCondition() == null ? "" : WHERE_CLAUSE + criteria.getCondition().getClause())
+                .replace(ORDER_BY, orderByClause.isEmpty() ? "" : ORDER_BY_CLAUSE + orderByClause)
+                .replace(LIMIT, this.dialect.getLimitClause(criteria.hasOffset(), criteria.hasLimit()))
+                .replace(FOR_UPDATE, criteria.isForUpdate() ? this.dialect.getForUpdateClause() : "");
+    }
+
+    //지정된 컬럼이 있으면 해당 컬럼만, 없으면 지연 로딩 컬럼을 제외한 Entity의 모든 컬럼을 조회한다.
+    private String selectColumnNames(EntityData entityData, Criteria criteria) {
+        if (!criteria.hasColumnNames()) {
+            return entityData.getSelectColumnNames();
+        }
+        return String.join(COMMA, criteria.getColumnNames());
+    }
+
+    //조회, 조건, 정렬 컬럼이 모두 Entity의 컬럼인지 확인한다.
+    private void confirmColumnNames(EntityData entityData, Criteria criteria) {
+        criteria.getColumnNames().forEach(entityData::confirmColumnName);
+        criteria.getOrders().stream()
+                .map(Order::columnName)
+                .forEach(entityData::confirmColumnName);
+        if (criteria.getCondition() != null) {
+            criteria.getCondition().getColumnNames().forEach(entityData::confirmColumnName);
+        }
+    }
+}
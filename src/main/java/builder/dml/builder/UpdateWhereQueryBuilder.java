@@ -0,0 +1,38 @@
+package builder.dml.builder;
+
+import builder.dml.EntityData;
+import builder.dml.query.Condition;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class UpdateWhereQueryBuilder {
+
+    private final static String EMPTY_ASSIGNMENTS_MESSAGE = "수정할 컬럼이 존재하지 않습니다.";
+    private final static String UPDATE_WHERE_QUERY = "UPDATE {tableName} SET {assignments}{where};";
+    private final static String TABLE_NAME = "{tableName}";
+    private final static String ASSIGNMENTS = "{assignments}";
+    private final static String WHERE = "{where}";
+    private final static String WHERE_CLAUSE = " WHERE ";
+    private final static String ASSIGNMENT = " = ?";
+    private final static String COMMA = ", ";
+
+    public String buildQuery(EntityData entityData, Map<String, Object> assignments, Condition condition) {
+        return updateWhereQuery(entityData, assignments, condition);
+    }
+
+    //조건에 해당하는 행을 일괄 수정하는 update 쿼리를 생성한다. 값은 모두 ? 로 바인딩한다.
+    private String updateWhereQuery(EntityData entityData, Map<String, Object> assignments, Condition condition) {
+        if (assignments.isEmpty()) {
+            throw new IllegalArgumentException(EMPTY_ASSIGNMENTS_MESSAGE);
+        }
+        String assignmentClause = assignments.keySet().stream()
+                .peek(entityData::confirmColumnName)
+                .map(columnName -> columnName + ASSIGNMENT)
+                .collect(Collectors.joining(COMMA));
+
+        return UPDATE_WHERE_QUERY.replace(TABLE_NAME, entityData.getTableName())
+                .replace(ASSIGNMENTS, assignmentClause)
+                .replace(WHERE, condition == null ? "" : WHERE_CLAUSE + condition.getClause());
+    }
+}
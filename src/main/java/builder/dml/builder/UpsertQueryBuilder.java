@@ -0,0 +1,27 @@
+package builder.dml.builder;
+
+import builder.dialect.Dialect;
+import builder.dml.EntityData;
+import builder.dml.EntityMetadata;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class UpsertQueryBuilder {
+
+    private final Dialect dialect;
+    //Entity 클래스별 upsert 쿼리. Dialect마다 builder가 따로 있으므로 클래스로만 구분한다.
+    private final Map<Class<?>, String> upsertQueries = new ConcurrentHashMap<>();
+
+    public UpsertQueryBuilder(Dialect dialect) {
+        this.dialect = dialect;
+    }
+
+    //PK가 있으면 수정, 없으면 저장하는 쿼리를 Dialect의 문법으로 생성한다. 값은 getParameters()로 바인딩한다.
+    public String buildQuery(EntityData entityData) {
+        return this.upsertQueries.computeIfAbsent(entityData.getClazz(), clazz -> {
+            EntityMetadata metadata = entityData.getMetadata();
+            return this.dialect.getUpsertQuery(metadata.getTableName(), metadata.getPkName(), metadata.getColumnNames(), metadata.getParameterClause());
+        });
+    }
+}
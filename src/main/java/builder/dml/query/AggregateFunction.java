@@ -0,0 +1,26 @@
+package builder.dml.query;
+
+import builder.dml.EntityData;
+
+public enum AggregateFunction {
+    COUNT,
+    SUM,
+    MIN,
+    MAX,
+    AVG;
+
+    private final static String ALL_COLUMNS = "*";
+
+    //집계 함수 문자열을 생성한다. ex) SUM(old)
+    public String toClause(String columnName) {
+        return name() + "(" + columnName + ")";
+    }
+
+    //집계 컬럼은 Entity의 컬럼이어야 한다. * 는 COUNT에만 사용할 수 있다.
+    public void confirmColumnName(EntityData entityData, String columnName) {
+        if (this == COUNT && ALL_COLUMNS.equals(columnName)) {
+            return;
+        }
+        entityData.confirmColumnName(columnName);
+    }
+}
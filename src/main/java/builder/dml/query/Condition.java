@@ -0,0 +1,120 @@
+package builder.dml.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class Condition {
+
+    private final static String EMPTY_IN_VALUES_MESSAGE = "IN 조건의 값이 비어있습니다. column: ";
+    private final static String PLACEHOLDER = "?";
+    private final static String COMMA = ", ";
+    private final static String BLANK = " ";
+    private final static String AND = " AND ";
+    private final static String OR = " OR ";
+
+    private final String clause;
+    private final List<Object> parameters;
+    private final List<String> columnNames;
+
+    private Condition(String clause, List<Object> parameters, List<String> columnNames) {
+        this.clause = clause;
+        this.parameters = Collections.unmodifiableList(parameters);
+        this.columnNames = Collections.unmodifiableList(columnNames);
+    }
+
+    public static Condition eq(String columnName, Object value) {
+        return compare(columnName, "=", value);
+    }
+
+    public static Condition ne(String columnName, Object value) {
+        return compare(columnName, "<>", value);
+    }
+
+    public static Condition gt(String columnName, Object value) {
+        return compare(columnName, ">", value);
+    }
+
+    public static Condition goe(String columnName, Object value) {
+        return compare(columnName, ">=", value);
+    }
+
+    public static Condition lt(String columnName, Object value) {
+        return compare(columnName, "<", value);
+    }
+
+    public static Condition loe(String columnName, Object value) {
+        return compare(columnName, "<=", value);
+    }
+
+    public static Condition like(String columnName, String pattern) {
+        return compare(columnName, "LIKE", pattern);
+    }
+
+    public static Condition isNull(String columnName) {
+        return new Condition(columnName + " IS NULL", new ArrayList<>(), List.of(columnName));
+    }
+
+    public static Condition isNotNull(String columnName) {
+        return new Condition(columnName + " IS NOT NULL", new ArrayList<>(), List.of(columnName));
+    }
+
+    //값 목록으로 IN 조건을 생성한다. ? 의 개수는 값의 개수 이상인 2의 거듭제곱으로 맞추고 남는 자리는 마지막 값으로 채운다.
+    //값의 개수가 달라도 같은 크기 구간이면 같은 쿼리 문자열을 사용하므로 쿼리 캐시가 개수마다 늘어나지 않는다.
+    public static Condition in(String columnName, Collection<?> values) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException(EMPTY_IN_VALUES_MESSAGE + columnName);
+        }
+        List<Object> parameters = new ArrayList<>(values);
+        Object lastValue = parameters.get(parameters.size() - 1);
+        int bucketSize = inListBucketSize(parameters.size());
+        while (parameters.size() < bucketSize) {
+            parameters.add(lastValue);
+        }
+        String placeholders = String.join(COMMA, Collections.nCopies(bucketSize, PLACEHOLDER));
+        return new Condition(columnName + " IN (" + placeholders + ")", parameters, List.of(columnName));
+    }
+
+    public Condition and(Condition other) {
+        return combine(AND, other);
+    }
+
+    public Condition or(Condition other) {
+        return combine(OR, other);
+    }
+
+    //파라미터 자리(?)가 포함된 WHERE 절 문자열
+    public String getClause() {
+        return clause;
+    }
+
+    //WHERE 절에 바인딩될 파라미터 목록
+    public List<Object> getParameters() {
+        return parameters;
+    }
+
+    //조건에 사용된 컬럼 목록. 쿼리를 만들기 전에 Entity의 컬럼인지 확인하는 데 사용한다.
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    private static int inListBucketSize(int size) {
+        return size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    private static Condition compare(String columnName, String operator, Object value) {
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(value);
+        return new Condition(columnName + BLANK + operator + BLANK + PLACEHOLDER, parameters, List.of(columnName));
+    }
+
+    //두 조건을 괄호로 묶어 결합한다.
+    private Condition combine(String operator, Condition other) {
+        List<Object> parameters = new ArrayList<>(this.parameters);
+        parameters.addAll(other.parameters);
+        List<String> columnNames = new ArrayList<>(this.columnNames);
+        columnNames.addAll(other.columnNames);
+        return new Condition("(" + this.clause + ")" + operator + "(" + other.clause + ")", parameters, columnNames);
+    }
+}
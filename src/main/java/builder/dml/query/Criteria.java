@@ -0,0 +1,121 @@
+package builder.dml.query;
+
+import builder.dialect.Dialect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class Criteria {
+
+    private final static String NEGATIVE_LIMIT_MESSAGE = "limit은 0 이상이어야 합니다.";
+    private final static String NEGATIVE_OFFSET_MESSAGE = "offset은 0 이상이어야 합니다.";
+
+    private final List<String> columnNames = new ArrayList<>();
+    private Condition condition;
+    private final List<Order> orders = new ArrayList<>();
+    private Integer limit;
+    private Integer offset;
+    private boolean forUpdate;
+
+    private Criteria() {
+    }
+
+    public static Criteria createCriteria() {
+        return new Criteria();
+    }
+
+    //조회할 컬럼을 지정한다. 지정하지 않으면 Entity의 모든 컬럼을 조회한다.
+    public Criteria select(String... columnNames) {
+        this.columnNames.addAll(Arrays.asList(columnNames));
+        return this;
+    }
+
+    //조건을 추가한다. 이미 조건이 있으면 AND로 결합한다.
+    public Criteria where(Condition condition) {
+        this.condition = this.condition == null ? condition : this.condition.and(condition);
+        return this;
+    }
+
+    public Criteria orderBy(Order... orders) {
+        this.orders.addAll(Arrays.asList(orders));
+        return this;
+    }
+
+    public Criteria limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException(NEGATIVE_LIMIT_MESSAGE);
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    public Criteria offset(int offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException(NEGATIVE_OFFSET_MESSAGE);
+        }
+        this.offset = offset;
+        return this;
+    }
+
+    //조회한 행에 쓰기 잠금을 건다. 잠금은 트랜잭션이 끝날 때까지 유지된다.
+    public Criteria forUpdate() {
+        this.forUpdate = true;
+        return this;
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public boolean hasColumnNames() {
+        return !columnNames.isEmpty();
+    }
+
+    public Condition getCondition() {
+        return condition;
+    }
+
+    public List<Order> getOrders() {
+        return orders;
+    }
+
+    public boolean hasLimit() {
+        return limit != null;
+    }
+
+    public boolean hasOffset() {
+        return offset != null;
+    }
+
+    public boolean isForUpdate() {
+        return forUpdate;
+    }
+
+    //쿼리에 바인딩될 파라미터를 WHERE, OFFSET, LIMIT 순서로 가져온다.
+    public Object[] getParameters() {
+        return getParameters(false);
+    }
+
+    //Dialect의 페이징 절 순서에 맞춰 OFFSET, LIMIT 파라미터 순서를 정한다.
+    public Object[] getParameters(Dialect dialect) {
+        return getParameters(dialect.isLimitBeforeOffset());
+    }
+
+    private Object[] getParameters(boolean isLimitBeforeOffset) {
+        List<Object> parameters = new ArrayList<>();
+        if (this.condition != null) {
+            parameters.addAll(this.condition.getParameters());
+        }
+        if (isLimitBeforeOffset && this.limit != null) {
+            parameters.add(this.limit);
+        }
+        if (this.offset != null) {
+            parameters.add(this.offset);
+        }
+        if (!isLimitBeforeOffset && this.limit != null) {
+            parameters.add(this.limit);
+        }
+        return parameters.toArray();
+    }
+}
@@ -0,0 +1,23 @@
+package builder.dml.query;
+
+public record Order(
+        String columnName,
+        boolean ascending
+) {
+
+    private final static String ASC = " ASC";
+    private final static String DESC = " DESC";
+
+    public static Order asc(String columnName) {
+        return new Order(columnName, true);
+    }
+
+    public static Order desc(String columnName) {
+        return new Order(columnName, false);
+    }
+
+    //ORDER BY 절에 들어갈 문자열을 생성한다.
+    public String toClause() {
+        return this.columnName + (this.ascending ? ASC : DESC);
+    }
+}
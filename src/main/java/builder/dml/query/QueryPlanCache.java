@@ -0,0 +1,74 @@
+package builder.dml.query;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public class QueryPlanCache {
+
+    private final static int DEFAULT_MAX_SIZE = 1024;
+    private final static float LOAD_FACTOR = 0.75f;
+
+    private final Map<QueryShape, String> plans;
+
+    public QueryPlanCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    //최대 크기를 넘으면 가장 오래 사용하지 않은 형태부터 제거한다.
+    public QueryPlanCache(int maxSize) {
+        this.plans = new LinkedHashMap<>(16, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QueryShape, String> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    //쿼리 형태가 같으면 이미 생성된 SQL을 재사용한다. SQL 생성은 잠금 밖에서 한다.
+    public String getOrCreate(QueryShape queryShape, Supplier<String> planSupplier) {
+        synchronized (this.plans) {
+            String plan = this.plans.get(queryShape);
+            if (plan != null) {
+                return plan;
+            }
+        }
+        String plan = planSupplier.get();
+        synchronized (this.plans) {
+            String existing = this.plans.putIfAbsent(queryShape, plan);
+            return existing == null ? plan : existing;
+        }
+    }
+
+    public int size() {
+        synchronized (this.plans) {
+            return this.plans.size();
+        }
+    }
+
+    //값을 제외한 쿼리의 형태. 같은 형태의 쿼리는 같은 SQL을 가진다.
+    public record QueryShape(
+            Class<?> clazz,
+            List<String> columnNames,
+            String whereClause,
+            List<Order> orders,
+            boolean hasLimit,
+            boolean hasOffset,
+            boolean isForUpdate
+    ) {
+
+        public static QueryShape of(Class<?> clazz, Criteria criteria) {
+            Condition condition = criteria.getCondition();
+            return new QueryShape(
+                    clazz,
+                    List.copyOf(criteria.getColumnNames()),
+                    condition == null ? null : condition.getClause(),
+                    List.copyOf(criteria.getOrders()),
+                    criteria.hasLimit(),
+                    criteria.hasOffset(),
+                    criteria.isForUpdate()
+            );
+        }
+    }
+}
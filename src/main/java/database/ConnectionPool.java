@@ -0,0 +1,87 @@
+package database;
+
+import jdbc.QueryCancelledException;
+import jdbc.QueryDeadline;
+import metrics.MetricsRegistry;
+import metrics.Timer;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+//미리 만든 커넥션을 빌려주고 돌려받는 고정 크기 커넥션 풀
+public class ConnectionPool implements AutoCloseable {
+
+    private static final Timer ACQUIRE_TIMER = MetricsRegistry.getDefault().timer("connectionPool.acquire");
+    private final static String INVALID_POOL_SIZE_MESSAGE = "커넥션 풀 크기는 1 이상이어야 합니다. size: ";
+    private final static String INTERRUPTED_MESSAGE = "커넥션을 기다리는 중 인터럽트 되었습니다.";
+    private final static String NOT_POOLED_CONNECTION_MESSAGE = "풀에서 빌려준 커넥션이 아닙니다.";
+
+    private final List<Connection> connections;
+    private final BlockingQueue<Connection> idleConnections;
+
+    public ConnectionPool(final DatabaseServer server, final int size) throws SQLException {
+        if (size <= 0) {
+            throw new IllegalArgumentException(INVALID_POOL_SIZE_MESSAGE + size);
+        }
+        this.connections = new ArrayList<>(size);
+        this.idleConnections = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            final Connection connection = server.getConnection();
+            this.connections.add(connection);
+            this.idleConnections.add(connection);
+        }
+    }
+
+    //빌릴 수 있는 커넥션이 없으면 반납될 때까지 기다린다.
+    //호출한 스레드에 QueryDeadline이 있으면 남은 시간까지만 기다리고, 그 안에 빌리지 못하면 QueryCancelledException이 발생한다.
+    public Connection acquire() {
+        final long startTime = System.nanoTime();
+        try {
+            final long remainingNanos = QueryDeadline.remainingNanos();
+            if (remainingNanos == Long.MAX_VALUE) {
+                return idleConnections.take();
+            }
+            final Connection connection = idleConnections.poll(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS);
+            if (connection == null) {
+                throw QueryCancelledException.connectionWaitTimedOut();
+            }
+            return connection;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(INTERRUPTED_MESSAGE, e);
+        } finally {
+            ACQUIRE_TIMER.recordSince(startTime);
+        }
+    }
+
+    public void release(final Connection connection) {
+        if (!connections.contains(connection)) {
+            throw new IllegalArgumentException(NOT_POOLED_CONNECTION_MESSAGE);
+        }
+        idleConnections.add(connection);
+    }
+
+    public int getSize() {
+        return connections.size();
+    }
+
+    public int getIdleCount() {
+        return idleConnections.size();
+    }
+
+    @Override
+    public void close() {
+        for (final Connection connection : connections) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                // 이미 닫힌 커넥션은 무시한다.
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package database;
 
+import metrics.MetricsRegistry;
+import metrics.Timer;
 import org.h2.tools.Server;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +13,7 @@ import java.util.concurrent.ThreadLocalRandom;
 
 public class H2 implements DatabaseServer {
     private static final Logger logger = LoggerFactory.getLogger(H2.class);
+    private static final Timer CONNECTION_ACQUIRE_TIMER = MetricsRegistry.getDefault().timer("connection.acquire");
     private static final DataSourceProperties DEFAULT_PROPERTIES =
         new DataSourceProperties("jdbc:h2:mem:test;DB_CLOSE_DELAY=-1", "sa", "");
 
@@ -58,6 +61,11 @@ public class H2 implements DatabaseServer {
 
     @Override
     public Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(properties.getUrl(), properties.getUsername(), properties.getPassword());
+        final long startTime = System.nanoTime();
+        try {
+            return DriverManager.getConnection(properties.getUrl(), properties.getUsername(), properties.getPassword());
+        } finally {
+            CONNECTION_ACQUIRE_TIMER.recordSince(startTime);
+        }
     }
 }
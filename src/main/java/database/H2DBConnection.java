@@ -16,6 +16,11 @@ public class H2DBConnection {
         return new JdbcTemplate(server.getConnection());
     }
 
+    //start 이후에 호출한다. 같은 DB에 연결된 커넥션 size개를 가진 풀을 만든다.
+    public ConnectionPool createConnectionPool(int size) throws SQLException {
+        return new ConnectionPool(server, size);
+    }
+
     public void stop() {
         server.stop();
     }
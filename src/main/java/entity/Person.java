@@ -1,5 +1,6 @@
 package entity;
 
+import annotation.NaturalId;
 import jakarta.persistence.*;
 
 @Table(name = "users")
@@ -16,6 +17,7 @@ public class Person {
     @Column(name = "old")
     private Integer age;
 
+    @NaturalId
     @Column(nullable = false)
     private String email;
 
@@ -0,0 +1,47 @@
+package entity;
+
+import jakarta.persistence.*;
+
+import java.util.List;
+
+@Table(name = "teams")
+@Entity
+public class Team {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String name;
+
+    @OneToMany(mappedBy = "team")
+    private List<Member> members;
+
+    public Team(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Team() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Member> getMembers() {
+        return members;
+    }
+
+    @Override
+    public String toString() {
+        return "Team{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,48 @@
+package jdbc;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicReference;
+
+//다른 스레드에서 실행중인 쿼리를 Statement.cancel로 중단한다.
+//한번 취소하면 이 handle로 실행하는 이후 쿼리도 실행하지 않고 QueryCancelledException이 발생한다.
+public class CancellationHandle {
+
+    private final AtomicReference<Statement> runningStatement = new AtomicReference<>();
+    private volatile boolean cancelled;
+
+    public void cancel() {
+        this.cancelled = true;
+        cancelQuietly(this.runningStatement.get());
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    void register(Statement statement, String sql) {
+        if (this.cancelled) {
+            throw QueryCancelledException.cancelled(sql, null);
+        }
+        this.runningStatement.set(statement);
+        //등록 중에 cancel이 호출되었으면 여기서 중단한다.
+        if (this.cancelled) {
+            cancelQuietly(statement);
+        }
+    }
+
+    void unregister(Statement statement) {
+        this.runningStatement.compareAndSet(statement, null);
+    }
+
+    private void cancelQuietly(Statement statement) {
+        if (statement == null) {
+            return;
+        }
+        try {
+            statement.cancel();
+        } catch (SQLException e) {
+            // 이미 끝났거나 닫힌 Statement 이다.
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package jdbc;
+
+@FunctionalInterface
+public interface ColumnValuesMapper<T> {
+    //ResultSet에서 컬럼 순서대로 읽은 한 행의 값들을 객체로 변환한다.
+    T mapValues(final Object[] values);
+}
@@ -1,53 +1,182 @@
 package jdbc;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Id;
 import jakarta.persistence.Transient;
+import metrics.Counter;
+import metrics.MetricsRegistry;
+import util.AssociationUtil;
+import util.ColumnUtil;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.sql.Blob;
+import java.sql.Clob;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
 
 public class EntityMapper {
 
     private final static String FAILED_GET_COLUMN = "컬럼 데이터를 가져오는데 실패했습니다.";
     private final static String FAILED_ACCESS_FIELD = "필드에 접근을 실패했습니다.";
     private final static String FAILED_CREATE_INSTANCE = "인스턴스를 생성하는데 실패하였습니다.";
+    private final static Counter ROWS_MAPPED = MetricsRegistry.getDefault().counter("entityMapper.rowsMapped");
+
+    //클래스별 생성자와 매핑할 필드. 리플렉션 조회와 setAccessible은 클래스마다 한번만 한다.
+    private final static ClassValue<EntityFields> ENTITY_FIELDS = new ClassValue<>() {
+        @Override
+        protected EntityFields computeValue(Class<?> type) {
+            return EntityFields.of(type);
+        }
+    };
 
     //입력 받은 Entity 에 맞게 자동으로 매핑한다.
     public static <T> T mapRow(ResultSet rs, Class<T> entityClass) {
-        try {
-            // 해당 클래스의 인스턴스 생성
-            T entityInstance = entityClass.getDeclaredConstructor().newInstance();
-            Field[] fields = entityClass.getDeclaredFields();
+        EntityFields entityFields = ENTITY_FIELDS.get(entityClass);
+        T entityInstance = entityClass.cast(entityFields.newInstance());
 
-            for (Field field : fields) {
-                confirmAnnotationSetColumnFieldName(field, rs, entityInstance);
+        for (MappedField mappedField : entityFields.mappedFields()) {
+            try {
+                mappedField.set(entityInstance, rs.getObject(mappedField.columnName()));
+            } catch (SQLException e) {
+                throw new RuntimeException(FAILED_GET_COLUMN);
             }
-            return entityInstance;
-        } catch (InstantiationException | IllegalAccessException | NoSuchMethodException |
-                 InvocationTargetException e) {
-            throw new RuntimeException(FAILED_CREATE_INSTANCE);
         }
+        ROWS_MAPPED.increment();
+        return entityInstance;
     }
 
-    // 인스턴스의 어노테이션을 검증하여 컬럼 데이터를 세팅해준다.
-    private static <T> void confirmAnnotationSetColumnFieldName(Field field, ResultSet rs, T entityInstance) {
-        if (field.isAnnotationPresent(Transient.class)) return;
-        field.setAccessible(true);
-        try {
-            String columnName = field.getName();
-            if (field.isAnnotationPresent(Column.class)) {
-                Column column = field.getAnnotation(Column.class);
-                columnName = column.name().isEmpty() ? columnName : column.name();
+    //조회 컬럼 순서에 맞춰 필드를 미리 찾아두고, 한 행의 값 배열을 Entity로 변환하는 mapper를 반환한다.
+    public static <T> ColumnValuesMapper<T> valuesMapper(Class<T> entityClass, String[] columnLabels) {
+        EntityFields entityFields = ENTITY_FIELDS.get(entityClass);
+        List<MappedField> mappedFields = entityFields.mappedFields();
+        MappedField[] fieldsByColumn = new MappedField[columnLabels.length];
+
+        for (MappedField mappedField : mappedFields) {
+            fieldsByColumn[columnIndexOf(columnLabels, mappedField.columnName())] = mappedField;
+        }
+
+        return values -> {
+            T entityInstance = entityClass.cast(entityFields.newInstance());
+            for (int i = 0; i < fieldsByColumn.length; i++) {
+                if (fieldsByColumn[i] != null) {
+                    fieldsByColumn[i].set(entityInstance, values[i]);
+                }
             }
-            Object value = rs.getObject(columnName);
-            field.set(entityInstance, value);
+            ROWS_MAPPED.increment();
+            return entityInstance;
+        };
+    }
+
+    //한 컬럼의 값을 필드 타입으로 바꾼다. 지연 로딩 필드를 따로 조회할 때 사용한다.
+    public static Object mapColumnValue(Class<?> fieldType, Object value) {
+        try {
+            return convertLob(fieldType, value);
         } catch (SQLException e) {
             throw new RuntimeException(FAILED_GET_COLUMN);
+        }
+    }
+
+    //ResultSet.getObject(columnName) 처럼 대소문자를 구분하지 않는다.
+    private static int columnIndexOf(String[] columnLabels, String columnName) {
+        for (int i = 0; i < columnLabels.length; i++) {
+            if (columnLabels[i].equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        throw new RuntimeException(FAILED_GET_COLUMN);
+    }
+
+    // 인스턴스의 어노테이션을 검증하여 매핑할 컬럼명을 정한다.
+    private static String columnNameOf(Field field) {
+        String columnName = field.getName();
+        if (field.isAnnotationPresent(Column.class)) {
+            Column column = field.getAnnotation(Column.class);
+            columnName = column.name().isEmpty() ? columnName : column.name();
+        }
+        return columnName;
+    }
+
+    //@ManyToOne 필드는 FK 값만 채운 참조 Entity로 매핑한다. 실제 참조 Entity는 영속성 컨텍스트에서 연결한다.
+    private static Object createReference(Class<?> referenceType, Object id) {
+        EntityFields entityFields = ENTITY_FIELDS.get(referenceType);
+        Object reference = entityFields.newInstance();
+        try {
+            entityFields.idField().set(reference, id);
         } catch (IllegalAccessException e) {
             throw new RuntimeException(FAILED_ACCESS_FIELD);
         }
+        return reference;
+    }
+
+    //LOB 값을 필드 타입으로 바꾼다. byte[], String 필드는 값을 읽고, Blob, Clob 필드는 연결이 닫혀도 쓸 수 있는 복사본을 만든다.
+    private static Object convertLob(Class<?> fieldType, Object value) throws SQLException {
+        if (value instanceof Blob blob) {
+            return fieldType == byte[].class ? blob.getBytes(1, (int) blob.length()) : new SerialBlob(blob);
+        }
+        if (value instanceof Clob clob) {
+            return fieldType == String.class ? clob.getSubString(1, (int) clob.length()) : new SerialClob(clob);
+        }
+        return value;
+    }
+
+    private record MappedField(Field field, String columnName, Class<?> referenceType, boolean isLob) {
+
+        private void set(Object entityInstance, Object value) {
+            try {
+                if (referenceType != null && value != null) {
+                    value = createReference(referenceType, value);
+                }
+                if (isLob) {
+                    value = convertLob(field.getType(), value);
+                }
+                field.set(entityInstance, value);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(FAILED_ACCESS_FIELD);
+            } catch (SQLException e) {
+                throw new RuntimeException(FAILED_GET_COLUMN);
+            }
+        }
+    }
+
+    private record EntityFields(Constructor<?> constructor, Field idField, List<MappedField> mappedFields) {
+
+        private static EntityFields of(Class<?> entityClass) {
+            try {
+                Constructor<?> constructor = entityClass.getDeclaredConstructor();
+                constructor.setAccessible(true);
+
+                Field idField = null;
+                List<MappedField> mappedFields = new ArrayList<>();
+                for (Field field : entityClass.getDeclaredFields()) {
+                    if (field.isAnnotationPresent(Transient.class) || AssociationUtil.isCollection(field)) continue;
+                    if (ColumnUtil.isLazy(field)) continue; // @Basic(fetch = LAZY)는 기본 조회에 포함되지 않는다.
+                    field.setAccessible(true);
+                    if (field.isAnnotationPresent(Id.class)) idField = field;
+                    if (AssociationUtil.isReference(field)) {
+                        mappedFields.add(new MappedField(field, AssociationUtil.joinColumnName(field), field.getType(), false));
+                        continue;
+                    }
+                    mappedFields.add(new MappedField(field, columnNameOf(field), null, ColumnUtil.isLob(ColumnUtil.columnType(field))));
+                }
+                return new EntityFields(constructor, idField, List.copyOf(mappedFields));
+            } catch (NoSuchMethodException e) {
+                throw new RuntimeException(FAILED_CREATE_INSTANCE);
+            }
+        }
+
+        private Object newInstance() {
+            try {
+                return constructor.newInstance();
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new RuntimeException(FAILED_CREATE_INSTANCE);
+            }
+        }
     }
 
-}
\ No newline at end of file
+}
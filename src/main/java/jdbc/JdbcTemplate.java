@@ -1,43 +1,354 @@
 package jdbc;
 
+import jfr.RowMappingEvent;
+import jfr.SqlExecutionEvent;
+import metrics.MetricsRegistry;
+import metrics.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.io.Reader;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.sql.Statement;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class JdbcTemplate {
+    private static final Logger logger = LoggerFactory.getLogger(JdbcTemplate.class);
+    private static final Timer EXECUTE_TIMER = MetricsRegistry.getDefault().timer("jdbc.execute");
+    private static final Timer EXECUTE_BATCH_TIMER = MetricsRegistry.getDefault().timer("jdbc.executeBatch");
+    private static final Timer EXECUTE_UPDATE_TIMER = MetricsRegistry.getDefault().timer("jdbc.executeUpdate");
+    private static final Timer QUERY_TIMER = MetricsRegistry.getDefault().timer("jdbc.query");
+    private static final Duration DEFAULT_SLOW_QUERY_THRESHOLD = Duration.ofMillis(Long.getLong("persistence.slowQueryThresholdMillis", 200));
+    private static final boolean DEFAULT_SLOW_QUERY_PLAN_ENABLED = Boolean.getBoolean("persistence.slowQueryPlanEnabled");
+    private static final String EXPLAIN = "EXPLAIN ";
+    //SQL 표준의 "statement was cancelled / query timeout" 상태 코드
+    private static final String CANCELLED_SQL_STATE = "57014";
+
     private final Connection connection;
+    private final Duration queryTimeout;
+    private final CancellationHandle cancellationHandle;
+    private final StatementStatistics statementStatistics = StatementStatistics.getDefault();
+    private long slowQueryThresholdNanos = DEFAULT_SLOW_QUERY_THRESHOLD.toNanos();
+    private boolean slowQueryPlanEnabled = DEFAULT_SLOW_QUERY_PLAN_ENABLED;
 
     public JdbcTemplate(final Connection connection) {
+        this(connection, null);
+    }
+
+    //queryTimeout은 이 JdbcTemplate으로 실행하는 모든 쿼리의 기본 timeout이다.
+    public JdbcTemplate(final Connection connection, final Duration queryTimeout) {
+        this(connection, queryTimeout, null);
+    }
+
+    private JdbcTemplate(final Connection connection, final Duration queryTimeout, final CancellationHandle cancellationHandle) {
         this.connection = connection;
+        this.queryTimeout = queryTimeout;
+        this.cancellationHandle = cancellationHandle;
+    }
+
+    //같은 connection을 쓰고 timeout만 다른 JdbcTemplate을 반환한다. 호출 단위로 timeout을 지정할 때 사용한다.
+    public JdbcTemplate withTimeout(final Duration queryTimeout) {
+        return copy(queryTimeout, this.cancellationHandle);
+    }
+
+    //cancellationHandle.cancel()을 호출하면 이 JdbcTemplate으로 실행중인 쿼리가 중단된다.
+    public JdbcTemplate withCancellation(final CancellationHandle cancellationHandle) {
+        return copy(this.queryTimeout, cancellationHandle);
     }
 
     public void execute(final String sql) {
-        try (final Statement statement = connection.createStatement()) {
+        final long startTime = System.nanoTime();
+        final SqlExecutionEvent event = new SqlExecutionEvent();
+        event.begin();
+        long rowCount = -1;
+        boolean completed = false;
+        try (final Statement statement = connection.createStatement();
+             final StatementGuard statementGuard = StatementGuard.open(statement, queryTimeout, cancellationHandle, sql)) {
             statement.execute(sql);
+            rowCount = statement.getUpdateCount();
+            completed = true;
+        } catch (Exception e) {
+            throw translateException(sql, e);
+        } finally {
+            afterStatement(EXECUTE_TIMER, startTime, completed, sql);
+            event.commitWith("execute", sql, rowCount);
+        }
+    }
+
+    //여러 SQL을 한번의 batch로 DB에 보낸다. 반환값은 SQL별 수정된 행 수이다.
+    public int[] executeBatch(final List<String> sqls) {
+        final String script = String.join("\n", sqls);
+        final long startTime = System.nanoTime();
+        final SqlExecutionEvent event = new SqlExecutionEvent();
+        event.begin();
+        long rowCount = -1;
+        boolean completed = false;
+        try (final Statement statement = connection.createStatement();
+             final StatementGuard statementGuard = StatementGuard.open(statement, queryTimeout, cancellationHandle, script)) {
+            for (final String sql : sqls) {
+                statement.addBatch(sql);
+            }
+            final int[] updatedCounts = statement.executeBatch();
+            rowCount = updatedCounts.length;
+            completed = true;
+            return updatedCounts;
         } catch (Exception e) {
-            throw new RuntimeException(e);
+            throw translateException(script, e);
+        } finally {
+            afterStatement(EXECUTE_BATCH_TIMER, startTime, completed, script);
+            event.commitWith("executeBatch", script, rowCount);
         }
     }
 
-    public <T> T queryForObject(final String sql, final RowMapper<T> rowMapper) {
-        final List<T> results = query(sql, rowMapper);
+    public int executeUpdate(final String sql, final Object... parameters) {
+        final long startTime = System.nanoTime();
+        final SqlExecutionEvent event = new SqlExecutionEvent();
+        event.begin();
+        long rowCount = -1;
+        boolean completed = false;
+        try (final PreparedStatement statement = connection.prepareStatement(sql);
+             final StatementGuard statementGuard = StatementGuard.open(statement, queryTimeout, cancellationHandle, sql)) {
+            bindParameters(statement, parameters);
+            final int updatedCount = statement.executeUpdate();
+            rowCount = updatedCount;
+            completed = true;
+            return updatedCount;
+        } catch (Exception e) {
+            throw translateException(sql, e);
+        } finally {
+            afterStatement(EXECUTE_UPDATE_TIMER, startTime, completed, sql, parameters);
+            event.commitWith("executeUpdate", sql, rowCount);
+        }
+    }
+
+    //insert 후 DB가 생성한 첫번째 키를 JDBC generated keys로 가져온다.
+    public Object executeInsertForGeneratedKey(final String sql, final Object... parameters) {
+        final long startTime = System.nanoTime();
+        final SqlExecutionEvent event = new SqlExecutionEvent();
+        event.begin();
+        long rowCount = -1;
+        boolean completed = false;
+        try (final PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+             final StatementGuard statementGuard = StatementGuard.open(statement, queryTimeout, cancellationHandle, sql)) {
+            bindParameters(statement, parameters);
+            rowCount = statement.executeUpdate();
+            try (final ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                if (!generatedKeys.next()) {
+                    throw new RuntimeException("Expected 1 generated key, got 0");
+                }
+                completed = true;
+                return generatedKeys.getObject(1);
+            }
+        } catch (Exception e) {
+            throw translateException(sql, e);
+        } finally {
+            afterStatement(EXECUTE_UPDATE_TIMER, startTime, completed, sql, parameters);
+            event.commitWith("executeInsertForGeneratedKey", sql, rowCount);
+        }
+    }
+
+    public <T> T queryForObject(final String sql, final RowMapper<T> rowMapper, final Object... parameters) {
+        final List<T> results = query(sql, rowMapper, parameters);
         if (results.size() != 1) {
             throw new RuntimeException("Expected 1 result, got " + results.size());
         }
         return results.get(0);
     }
 
-    public <T> List<T> query(final String sql, final RowMapper<T> rowMapper) {
-        try (final ResultSet resultSet = connection.prepareStatement(sql).executeQuery()) {
-            final List<T> result = new ArrayList<>();
-            while (resultSet.next()) {
-                result.add(rowMapper.mapRow(resultSet));
+    public <T> List<T> query(final String sql, final RowMapper<T> rowMapper, final Object... parameters) {
+        final List<T> result = new ArrayList<>();
+        queryForEach(sql, rowMapper, result::add, parameters);
+        return result;
+    }
+
+    //결과를 모으지 않고 한 행씩 변환하여 consumer에 전달한다. 반환값은 처리한 행 수이다.
+    public <T> long queryForEach(final String sql, final RowMapper<T> rowMapper, final Consumer<? super T> consumer, final Object... parameters) {
+        final long startTime = System.nanoTime();
+        final SqlExecutionEvent event = new SqlExecutionEvent();
+        event.begin();
+        long rowCount = -1;
+        boolean completed = false;
+        try (final PreparedStatement statement = connection.prepareStatement(sql);
+             final StatementGuard statementGuard = StatementGuard.open(statement, queryTimeout, cancellationHandle, sql)) {
+            bindParameters(statement, parameters);
+            try (final ResultSet resultSet = statement.executeQuery()) {
+                final RowMappingEvent rowMappingEvent = new RowMappingEvent();
+                rowMappingEvent.begin();
+                long mappedCount = 0;
+                while (resultSet.next()) {
+                    consumer.accept(rowMapper.mapRow(resultSet));
+                    mappedCount++;
+                }
+                rowMappingEvent.commitWith(mappedCount);
+                rowCount = mappedCount;
+                completed = true;
+                return mappedCount;
+            }
+        } catch (Exception e) {
+            throw translateException(sql, e);
+        } finally {
+            afterStatement(QUERY_TIMER, startTime, completed, sql, parameters);
+            event.commitWith("query", sql, rowCount);
+        }
+    }
+
+    //ResultSet 읽기와 객체 변환을 다른 스레드에서 겹쳐 실행한다. 대량 조회에서 변환 CPU 시간이 DB I/O 시간에 가려진다.
+    //mapperFactory는 조회 컬럼명 배열을 받아 한 행의 값 배열을 변환하는 mapper를 만든다. 반환값은 처리한 행 수이다.
+    public <T> long queryPipelined(final String sql, final Function<String[], ColumnValuesMapper<T>> mapperFactory,
+                                   final Consumer<? super T> consumer, final PipelineOptions options, final Object... parameters) {
+        final long startTime = System.nanoTime();
+        final SqlExecutionEvent event = new SqlExecutionEvent();
+        event.begin();
+        long rowCount = -1;
+        boolean completed = false;
+        try (final PreparedStatement statement = connection.prepareStatement(sql);
+             final StatementGuard statementGuard = StatementGuard.open(statement, queryTimeout, cancellationHandle, sql)) {
+            bindParameters(statement, parameters);
+            try (final ResultSet resultSet = statement.executeQuery()) {
+                final RowMappingEvent rowMappingEvent = new RowMappingEvent();
+                rowMappingEvent.begin();
+                rowCount = new MappingPipeline<T>(options, consumer).run(resultSet, mapperFactory);
+                rowMappingEvent.commitWith(rowCount);
+                completed = true;
+                return rowCount;
+            }
+        } catch (Exception e) {
+            throw translateException(sql, e);
+        } finally {
+            afterStatement(QUERY_TIMER, startTime, completed, sql, parameters);
+            event.commitWith("queryPipelined", sql, rowCount);
+        }
+    }
+
+    //첫 행의 첫 컬럼을 InputStream으로 읽는다. 값 전체를 메모리에 올리지 않으며, 스트림은 reader 안에서만 유효하다.
+    public <R> R queryForBinaryStream(final String sql, final StreamReader<InputStream, R> reader, final Object... parameters) {
+        return queryForStream(sql, resultSet -> resultSet.getBinaryStream(1), reader, parameters);
+    }
+
+    //첫 행의 첫 컬럼을 Reader로 읽는다. 값 전체를 메모리에 올리지 않으며, 스트림은 reader 안에서만 유효하다.
+    public <R> R queryForCharacterStream(final String sql, final StreamReader<Reader, R> reader, final Object... parameters) {
+        return queryForStream(sql, resultSet -> resultSet.getCharacterStream(1), reader, parameters);
+    }
+
+    //이 시간을 넘은 쿼리는 SQL과 fingerprint를 로그로 남긴다.
+    public void setSlowQueryThreshold(final Duration slowQueryThreshold) {
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    //true이면 느린 조회 쿼리의 EXPLAIN 실행 계획도 로그에 남긴다. 기본값은 false이다.
+    public void setSlowQueryPlanEnabled(final boolean slowQueryPlanEnabled) {
+        this.slowQueryPlanEnabled = slowQueryPlanEnabled;
+    }
+
+    //ResultSet이 열려있는 동안 스트림을 reader에 전달한다. 값이 NULL이면 null을 반환한다.
+    private <S, R> R queryForStream(final String sql, final RowMapper<S> streamOpener, final StreamReader<S, R> reader, final Object... parameters) {
+        final long startTime = System.nanoTime();
+        final SqlExecutionEvent event = new SqlExecutionEvent();
+        event.begin();
+        long rowCount = -1;
+        boolean completed = false;
+        try (final PreparedStatement statement = connection.prepareStatement(sql);
+             final StatementGuard statementGuard = StatementGuard.open(statement, queryTimeout, cancellationHandle, sql)) {
+            bindParameters(statement, parameters);
+            try (final ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new RuntimeException("Expected 1 result, got 0");
+                }
+                rowCount = 1;
+                final S stream = streamOpener.mapRow(resultSet);
+                final R result = stream == null ? null : reader.read(stream);
+                completed = true;
+                return result;
             }
-            return result;
         } catch (Exception e) {
-            throw new RuntimeException(e);
+            throw translateException(sql, e);
+        } finally {
+            afterStatement(QUERY_TIMER, startTime, completed, sql, parameters);
+            event.commitWith("queryForStream", sql, rowCount);
+        }
+    }
+
+    private JdbcTemplate copy(final Duration queryTimeout, final CancellationHandle cancellationHandle) {
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(this.connection, queryTimeout, cancellationHandle);
+        jdbcTemplate.slowQueryThresholdNanos = this.slowQueryThresholdNanos;
+        jdbcTemplate.slowQueryPlanEnabled = this.slowQueryPlanEnabled;
+        return jdbcTemplate;
+    }
+
+    //timeout, 취소로 중단된 쿼리는 QueryCancelledException으로 구분한다.
+    private RuntimeException translateException(final String sql, final Exception e) {
+        if (e instanceof QueryCancelledException queryCancelledException) {
+            return queryCancelledException;
+        }
+        if (e instanceof SQLTimeoutException || e instanceof SQLException sqlException && CANCELLED_SQL_STATE.equals(sqlException.getSQLState())) {
+            return cancellationHandle != null && cancellationHandle.isCancelled()
+                    ? QueryCancelledException.cancelled(sql, e)
+                    : QueryCancelledException.timedOut(sql, e);
+        }
+        return new RuntimeException(e);
+    }
+
+    //실행 시간을 지표와 fingerprint 별 통계에 기록한다.
+    //실패, timeout, 취소로 끝난 쿼리는 로그만 남기고 실행 계획은 조회하지 않는다.
+    private void afterStatement(final Timer timer, final long startTime, final boolean completed, final String sql, final Object... parameters) {
+        final long elapsedNanos = System.nanoTime() - startTime;
+        timer.record(elapsedNanos);
+        statementStatistics.record(sql, elapsedNanos);
+        if (elapsedNanos >= slowQueryThresholdNanos) {
+            logSlowQuery(sql, elapsedNanos, completed && slowQueryPlanEnabled && isSelect(sql), parameters);
+        }
+    }
+
+    private void logSlowQuery(final String sql, final long elapsedNanos, final boolean withPlan, final Object... parameters) {
+        if (!withPlan) {
+            logger.warn("Slow query ({} ms): {}\nfingerprint: {}",
+                    Duration.ofNanos(elapsedNanos).toMillis(), sql, StatementFingerprint.of(sql));
+            return;
+        }
+        logger.warn("Slow query ({} ms): {}\nfingerprint: {}\n{}",
+                Duration.ofNanos(elapsedNanos).toMillis(), sql, StatementFingerprint.of(sql), explain(sql, parameters));
+    }
+
+    //EXPLAIN은 쿼리를 다시 실행하지 않고 계획만 만든다. 원래 쿼리와 같은 timeout, 취소를 적용한다.
+    private String explain(final String sql, final Object... parameters) {
+        try (final PreparedStatement statement = connection.prepareStatement(EXPLAIN + sql);
+             final StatementGuard statementGuard = StatementGuard.open(statement, queryTimeout, cancellationHandle, EXPLAIN + sql)) {
+            bindParameters(statement, parameters);
+            try (final ResultSet resultSet = statement.executeQuery()) {
+                final StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        } catch (SQLException | QueryCancelledException e) {
+            return "EXPLAIN failed: " + e.getMessage();
+        }
+    }
+
+    private boolean isSelect(final String sql) {
+        return sql.stripLeading().regionMatches(true, 0, "SELECT", 0, "SELECT".length());
+    }
+
+    //InputStream, Reader는 값을 버퍼링하지 않고 드라이버가 스트림으로 읽도록 바인딩한다.
+    private void bindParameters(final PreparedStatement statement, final Object... parameters) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i] instanceof InputStream inputStream) {
+                statement.setBinaryStream(i + 1, inputStream);
+            } else if (parameters[i] instanceof Reader reader) {
+                statement.setCharacterStream(i + 1, reader);
+            } else {
+                statement.setObject(i + 1, parameters[i]);
+            }
         }
     }
 }
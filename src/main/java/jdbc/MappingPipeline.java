@@ -0,0 +1,215 @@
+package jdbc;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+//ResultSet을 읽는 스레드와 객체로 변환하는 스레드를 나눈다.
+//호출한 스레드는 행을 값 배열로만 읽어 chunk 단위로 큐에 넣고, 변환 스레드들이 큐에서 꺼내 병렬로 변환한다.
+//큐의 크기가 정해져 있으므로 변환이 느리면 읽기도 기다린다.
+//ordered면 아직 전달하지 않은 chunk도 큐 크기만큼만 둔다. 앞 chunk의 변환이 늦어도 뒤 chunk가 끝없이 쌓이지 않는다.
+final class MappingPipeline<T> {
+
+    private final static Chunk END = new Chunk(-1, new Object[0][], 0);
+    private final static long OFFER_WAIT_MILLIS = 100;
+    private final static String FAILED_MAPPING_MESSAGE = "파이프라인 변환에 실패하였습니다.";
+    private final static String INTERRUPTED_MESSAGE = "파이프라인 조회 중 인터럽트 되었습니다.";
+    private final static AtomicInteger POOL_SEQUENCE = new AtomicInteger();
+
+    private final PipelineOptions options;
+    private final Consumer<? super T> consumer;
+    private final BlockingQueue<Chunk> chunks;
+    private final Map<Long, List<T>> mappedChunks = new ConcurrentHashMap<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    //읽었지만 아직 전달하지 않은 chunk 자리. 읽을 때 얻고 전달할 때 돌려준다.
+    private final Semaphore aheadPermits;
+    //변환 스레드가 chunk 변환을 마칠 때마다 기다리는 호출 스레드를 깨운다.
+    private final Semaphore mappedSignal = new Semaphore(0);
+    private long deliveredSequence;
+
+    MappingPipeline(PipelineOptions options, Consumer<? super T> consumer) {
+        this.options = options;
+        this.consumer = consumer;
+        this.chunks = new ArrayBlockingQueue<>(options.queueCapacity());
+        this.aheadPermits = new Semaphore(options.queueCapacity());
+    }
+
+    //반환값은 읽은 행 수이다.
+    long run(ResultSet resultSet, Function<String[], ColumnValuesMapper<T>> mapperFactory) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        String[] columnLabels = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnLabels[i] = metaData.getColumnLabel(i + 1);
+        }
+        ColumnValuesMapper<T> mapper = mapperFactory.apply(columnLabels);
+
+        ExecutorService workers = Executors.newThreadPerTaskExecutor(workerThreadFactory());
+        for (int i = 0; i < options.workerCount(); i++) {
+            workers.execute(() -> map(mapper));
+        }
+
+        long rowCount = 0;
+        long nextSequence = 0;
+        try {
+            Object[][] rows = new Object[options.chunkSize()][];
+            int size = 0;
+            while (resultSet.next()) {
+                Object[] values = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    values[i] = resultSet.getObject(i + 1);
+                }
+                rows[size++] = values;
+                rowCount++;
+                if (size == options.chunkSize()) {
+                    offerInOrder(new Chunk(nextSequence++, rows, size));
+                    rows = new Object[options.chunkSize()][];
+                    size = 0;
+                    deliverInOrder();
+                }
+            }
+            if (size > 0) {
+                offerInOrder(new Chunk(nextSequence++, rows, size));
+            }
+            for (int i = 0; i < options.workerCount(); i++) {
+                offer(END);
+            }
+        } catch (RuntimeException | SQLException e) {
+            abort(e);
+            throw e;
+        } finally {
+            awaitTermination(workers);
+        }
+
+        throwIfFailed();
+        deliverInOrder();
+        return rowCount;
+    }
+
+    //변환 스레드. ordered면 변환한 chunk를 모아두고, 아니면 바로 consumer에 전달한다.
+    private void map(ColumnValuesMapper<T> mapper) {
+        try {
+            Chunk chunk;
+            while ((chunk = chunks.take()) != END && failure.get() == null) {
+                List<T> mapped = new ArrayList<>(chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                    mapped.add(mapper.mapValues(chunk.rows()[i]));
+                }
+                if (options.ordered()) {
+                    mappedChunks.put(chunk.sequence(), mapped);
+                    mappedSignal.release();
+                } else {
+                    mapped.forEach(consumer);
+                }
+            }
+        } catch (InterruptedException e) {
+            //END를 받기 전에 멈췄으므로 변환하지 못한 chunk가 남아있을 수 있다. 결과가 빠지지 않도록 실패로 처리한다.
+            abort(e);
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            abort(e);
+        }
+    }
+
+    //다음에 전달할 sequence 부터 이어지는 변환 완료 chunk를 호출한 스레드에서 순서대로 전달한다.
+    private void deliverInOrder() {
+        if (!options.ordered()) {
+            return;
+        }
+        List<T> mapped;
+        while ((mapped = mappedChunks.remove(deliveredSequence)) != null) {
+            mapped.forEach(consumer);
+            deliveredSequence++;
+            aheadPermits.release();
+        }
+    }
+
+    //ordered면 전달하지 않은 chunk 자리가 날 때까지, 변환이 끝난 chunk를 전달하면서 기다린다.
+    private void offerInOrder(Chunk chunk) {
+        if (options.ordered()) {
+            try {
+                while (!aheadPermits.tryAcquire()) {
+                    mappedSignal.drainPermits();
+                    deliverInOrder();
+                    if (aheadPermits.tryAcquire()) {
+                        break;
+                    }
+                    mappedSignal.tryAcquire(OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                    throwIfFailed();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(INTERRUPTED_MESSAGE, e);
+            }
+        }
+        offer(chunk);
+    }
+
+    //변환 스레드가 실패하면 큐가 비워지지 않으므로 기다리면서 실패 여부를 확인한다.
+    private void offer(Chunk chunk) {
+        try {
+            while (!chunks.offer(chunk, OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                throwIfFailed();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(INTERRUPTED_MESSAGE, e);
+        }
+    }
+
+    private void abort(Throwable cause) {
+        failure.compareAndSet(null, cause);
+        chunks.clear();
+    }
+
+    private void throwIfFailed() {
+        Throwable cause = failure.get();
+        if (cause != null) {
+            throw new RuntimeException(FAILED_MAPPING_MESSAGE, cause);
+        }
+    }
+
+    //실패한 경우 큐에 END가 들어가지 않았을 수 있으므로 인터럽트로 종료한다.
+    private void awaitTermination(ExecutorService workers) {
+        if (failure.get() != null) {
+            workers.shutdownNow();
+        } else {
+            workers.shutdown();
+        }
+        try {
+            while (!workers.awaitTermination(OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (failure.get() != null) {
+                    workers.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    //변환 스레드는 가상 스레드로 만든다. 조회마다 플랫폼 스레드 풀을 만들고 종료하는 비용이 없다.
+    private static ThreadFactory workerThreadFactory() {
+        return Thread.ofVirtual()
+                .name("mapping-pipeline-" + POOL_SEQUENCE.incrementAndGet() + "-", 1)
+                .factory();
+    }
+
+    private record Chunk(long sequence, Object[][] rows, int size) {
+    }
+}
@@ -0,0 +1,23 @@
+package jdbc;
+
+//파이프라인 조회 설정
+//chunkSize: 한번에 큐에 넣는 행 수, queueCapacity: 큐에 쌓을 수 있는 chunk 수, workerCount: 변환 스레드 수
+//ordered가 true면 조회 순서대로 호출한 스레드에서 consumer를 호출하고, false면 변환 스레드에서 동시에 호출한다.
+public record PipelineOptions(int chunkSize, int queueCapacity, int workerCount, boolean ordered) {
+
+    private final static String INVALID_OPTION_MESSAGE = "파이프라인 설정은 1 이상이어야 합니다. ";
+    private final static int DEFAULT_CHUNK_SIZE = 256;
+    private final static int DEFAULT_QUEUE_CAPACITY = 16;
+
+    public PipelineOptions {
+        if (chunkSize <= 0 || queueCapacity <= 0 || workerCount <= 0) {
+            throw new IllegalArgumentException(INVALID_OPTION_MESSAGE
+                    + "chunkSize: " + chunkSize + ", queueCapacity: " + queueCapacity + ", workerCount: " + workerCount);
+        }
+    }
+
+    public static PipelineOptions createPipelineOptions(boolean ordered) {
+        int workerCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        return new PipelineOptions(DEFAULT_CHUNK_SIZE, DEFAULT_QUEUE_CAPACITY, workerCount, ordered);
+    }
+}
@@ -0,0 +1,74 @@
+package jdbc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ProjectionMapper<R> implements RowMapper<R> {
+
+    private final static String NOT_EXIST_CONSTRUCTOR = "컬럼 개수와 일치하는 생성자가 한개가 아닙니다. type: ";
+    private final static String FAILED_CREATE_INSTANCE = "인스턴스를 생성하는데 실패하였습니다.";
+    private final static Map<ProjectionKey, ProjectionMapper<?>> MAPPER_CACHE = new ConcurrentHashMap<>();
+
+    private final MethodHandle constructor;
+    private final Class<?>[] parameterTypes;
+
+    private ProjectionMapper(Constructor<R> constructor) {
+        try {
+            constructor.setAccessible(true);
+            this.parameterTypes = Arrays.stream(constructor.getParameterTypes())
+                    .map(type -> MethodType.methodType(type).wrap().returnType())
+                    .toArray(Class<?>[]::new);
+            this.constructor = MethodHandles.lookup()
+                    .unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, this.parameterTypes.length);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(FAILED_CREATE_INSTANCE, e);
+        }
+    }
+
+    //컬럼 개수와 같은 파라미터 개수의 생성자로 매퍼를 만든다. 만들어진 매퍼는 타입별로 재사용한다.
+    @SuppressWarnings("unchecked")
+    public static <R> ProjectionMapper<R> of(Class<R> resultType, int columnCount) {
+        return (ProjectionMapper<R>) MAPPER_CACHE.computeIfAbsent(
+                new ProjectionKey(resultType, columnCount),
+                key -> new ProjectionMapper<>(findConstructor(resultType, columnCount))
+        );
+    }
+
+    //조회된 컬럼을 순서대로 생성자 파라미터에 넣어 인스턴스를 생성한다.
+    @SuppressWarnings("unchecked")
+    @Override
+    public R mapRow(ResultSet resultSet) throws SQLException {
+        Object[] arguments = new Object[this.parameterTypes.length];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = resultSet.getObject(i + 1, this.parameterTypes[i]);
+        }
+        try {
+            return (R) this.constructor.invoke(arguments);
+        } catch (Throwable e) {
+            throw new RuntimeException(FAILED_CREATE_INSTANCE, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> Constructor<R> findConstructor(Class<R> resultType, int columnCount) {
+        List<Constructor<?>> constructors = Arrays.stream(resultType.getDeclaredConstructors())
+                .filter(constructor -> constructor.getParameterCount() == columnCount)
+                .toList();
+        if (constructors.size() != 1) {
+            throw new IllegalArgumentException(NOT_EXIST_CONSTRUCTOR + resultType.getName());
+        }
+        return (Constructor<R>) constructors.get(0);
+    }
+
+    private record ProjectionKey(Class<?> resultType, int columnCount) {
+    }
+}
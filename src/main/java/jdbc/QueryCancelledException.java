@@ -0,0 +1,33 @@
+package jdbc;
+
+//실행 시간 초과, 기한 초과, CancellationHandle 취소로 쿼리가 중단된 경우
+public class QueryCancelledException extends RuntimeException {
+
+    private final static String TIMED_OUT_MESSAGE = "쿼리 실행 시간이 초과되었습니다. sql: ";
+    private final static String CANCELLED_MESSAGE = "쿼리가 취소되었습니다. sql: ";
+    private final static String CONNECTION_WAIT_TIMED_OUT_MESSAGE = "기한 안에 커넥션을 얻지 못했습니다.";
+
+    private final boolean timedOut;
+
+    private QueryCancelledException(String message, boolean timedOut, Throwable cause) {
+        super(message, cause);
+        this.timedOut = timedOut;
+    }
+
+    public static QueryCancelledException timedOut(String sql, Throwable cause) {
+        return new QueryCancelledException(TIMED_OUT_MESSAGE + sql, true, cause);
+    }
+
+    //쿼리를 실행하기 전 커넥션을 기다리는 동안 기한이 지난 경우
+    public static QueryCancelledException connectionWaitTimedOut() {
+        return new QueryCancelledException(CONNECTION_WAIT_TIMED_OUT_MESSAGE, true, null);
+    }
+
+    public static QueryCancelledException cancelled(String sql, Throwable cause) {
+        return new QueryCancelledException(CANCELLED_MESSAGE + sql, false, cause);
+    }
+
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+}
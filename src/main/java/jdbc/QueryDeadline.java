@@ -0,0 +1,48 @@
+package jdbc;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+//작업 단위의 실행 기한. 기한 안에서 실행되는 모든 쿼리의 timeout은 남은 시간을 넘지 않는다.
+//기한은 호출한 스레드에만 적용되고, 중첩되면 더 이른 기한이 적용된다.
+public class QueryDeadline {
+
+    private final static ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private QueryDeadline() {
+    }
+
+    public static <T> T within(Duration timeout, Supplier<T> work) {
+        return until(System.nanoTime() + timeout.toNanos(), work);
+    }
+
+    //System.nanoTime 기준의 기한까지 실행한다. 다른 스레드로 넘긴 작업에 호출한 스레드와 같은 기한을 적용할 때 사용한다.
+    public static <T> T until(long deadlineNanos, Supplier<T> work) {
+        Long previousDeadline = DEADLINE_NANOS.get();
+        long deadline = deadlineNanos;
+        if (previousDeadline != null && previousDeadline - deadline < 0) {
+            deadline = previousDeadline;
+        }
+        DEADLINE_NANOS.set(deadline);
+        try {
+            return work.get();
+        } finally {
+            if (previousDeadline == null) {
+                DEADLINE_NANOS.remove();
+            } else {
+                DEADLINE_NANOS.set(previousDeadline);
+            }
+        }
+    }
+
+    //System.nanoTime 기준의 기한. 기한이 없으면 null을 반환한다.
+    public static Long deadlineNanos() {
+        return DEADLINE_NANOS.get();
+    }
+
+    //기한이 없으면 Long.MAX_VALUE 를 반환한다.
+    public static long remainingNanos() {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline == null ? Long.MAX_VALUE : deadline - System.nanoTime();
+    }
+}
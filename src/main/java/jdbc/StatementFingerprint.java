@@ -0,0 +1,106 @@
+package jdbc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+//SQL의 값(문자열, 숫자 리터럴)을 ?로 바꾸고 공백을 정리하여 같은 형태의 쿼리를 하나로 묶는다.
+//ex) SELECT id FROM users WHERE id = 3; -> SELECT id FROM users WHERE id = ?;
+public class StatementFingerprint {
+
+    private final static int MAX_CACHE_SIZE = 1024;
+    private final static Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+
+    private final static Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private StatementFingerprint() {
+    }
+
+    //바인딩 파라미터를 쓰는 쿼리는 같은 SQL이 반복되므로 정규화 결과를 캐시한다.
+    //리터럴이 들어간 SQL은 값마다 키가 달라지므로 캐시하지 않는다. 캐시가 가득 차면 새 SQL만 캐시하지 않는다.
+    public static String of(String sql) {
+        String fingerprint = CACHE.get(sql);
+        if (fingerprint != null) {
+            return fingerprint;
+        }
+        fingerprint = normalize(sql);
+        if (CACHE.size() < MAX_CACHE_SIZE && !containsLiteral(sql)) {
+            CACHE.putIfAbsent(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    static int getCacheSize() {
+        return CACHE.size();
+    }
+
+    //IN (?, ?, ?) 처럼 값 목록은 개수와 상관없이 (?)로 묶는다.
+    public static String normalize(String sql) {
+        StringBuilder normalized = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                i = skipStringLiteral(sql, i);
+                normalized.append('?');
+                continue;
+            }
+            if (Character.isDigit(c) && !isIdentifierPart(normalized)) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                normalized.append('?');
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!normalized.isEmpty() && i < length) {
+                    normalized.append(' ');
+                }
+                continue;
+            }
+            normalized.append(c);
+            i++;
+        }
+        return PARAMETER_LIST.matcher(normalized).replaceAll("(?)");
+    }
+
+    //닫는 따옴표 다음 위치를 반환한다. ''는 문자열 안의 따옴표이다.
+    private static int skipStringLiteral(String sql, int start) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '\'') {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    //문자열 리터럴이나 식별자에 붙지 않은 숫자가 있으면 리터럴이 있는 SQL이다.
+    private static boolean containsLiteral(String sql) {
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'' || Character.isDigit(c) && (i == 0 || !isIdentifierPart(sql.charAt(i - 1)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //users1 처럼 식별자에 붙은 숫자는 값이 아니다.
+    private static boolean isIdentifierPart(StringBuilder normalized) {
+        return !normalized.isEmpty() && isIdentifierPart(normalized.charAt(normalized.length() - 1));
+    }
+
+    private static boolean isIdentifierPart(char previous) {
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '"';
+    }
+}
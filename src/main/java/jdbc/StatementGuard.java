@@ -0,0 +1,85 @@
+package jdbc;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+//Statement 실행 동안 timeout과 취소를 적용한다.
+//setQueryTimeout은 초 단위이므로, 1초로 나누어 떨어지지 않는 timeout은 정확한 시각에 Statement.cancel을 예약한다.
+final class StatementGuard implements AutoCloseable {
+
+    private final static long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private final static ScheduledExecutorService CANCEL_SCHEDULER = createScheduler();
+
+    private final Statement statement;
+    private final CancellationHandle cancellationHandle;
+    private final ScheduledFuture<?> scheduledCancel;
+    private final boolean queryTimeoutApplied;
+
+    private StatementGuard(Statement statement, CancellationHandle cancellationHandle, ScheduledFuture<?> scheduledCancel, boolean queryTimeoutApplied) {
+        this.statement = statement;
+        this.cancellationHandle = cancellationHandle;
+        this.scheduledCancel = scheduledCancel;
+        this.queryTimeoutApplied = queryTimeoutApplied;
+    }
+
+    //queryTimeout과 QueryDeadline의 남은 시간 중 짧은 쪽을 적용한다. 둘 다 없으면 아무것도 하지 않는다.
+    static StatementGuard open(Statement statement, Duration queryTimeout, CancellationHandle cancellationHandle, String sql) throws SQLException {
+        long timeoutNanos = Math.min(queryTimeout == null ? Long.MAX_VALUE : queryTimeout.toNanos(), QueryDeadline.remainingNanos());
+        if (timeoutNanos <= 0) {
+            throw QueryCancelledException.timedOut(sql, null);
+        }
+
+        if (cancellationHandle != null) {
+            cancellationHandle.register(statement, sql);
+        }
+
+        ScheduledFuture<?> scheduledCancel = null;
+        boolean queryTimeoutApplied = timeoutNanos != Long.MAX_VALUE;
+        if (queryTimeoutApplied) {
+            statement.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, (timeoutNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND));
+            if (timeoutNanos % NANOS_PER_SECOND != 0) {
+                scheduledCancel = CANCEL_SCHEDULER.schedule(() -> cancelQuietly(statement), timeoutNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        return new StatementGuard(statement, cancellationHandle, scheduledCancel, queryTimeoutApplied);
+    }
+
+    //H2는 setQueryTimeout을 세션 전체에 적용하므로 실행 후 되돌린다.
+    @Override
+    public void close() throws SQLException {
+        if (this.scheduledCancel != null) {
+            this.scheduledCancel.cancel(false);
+        }
+        if (this.cancellationHandle != null) {
+            this.cancellationHandle.unregister(this.statement);
+        }
+        if (this.queryTimeoutApplied) {
+            this.statement.setQueryTimeout(0);
+        }
+    }
+
+    private static void cancelQuietly(Statement statement) {
+        try {
+            statement.cancel();
+        } catch (SQLException e) {
+            // 이미 끝났거나 닫힌 Statement 이다.
+        }
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("jdbc-query-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+}
@@ -0,0 +1,61 @@
+package jdbc;
+
+import metrics.Timer;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//fingerprint 별로 실행 횟수, 총 시간, 최대 시간, p99 시간을 집계한다.
+public class StatementStatistics {
+
+    private final static StatementStatistics DEFAULT_STATISTICS = new StatementStatistics();
+    //fingerprint 마다 히스토그램을 가지므로 개수를 제한한다. 넘치는 쿼리는 한곳에 모은다.
+    private final static int MAX_FINGERPRINT_COUNT = 256;
+    private final static String OVERFLOW_FINGERPRINT = "(other statements)";
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    //JdbcTemplate이 기록하는 기본 통계
+    public static StatementStatistics getDefault() {
+        return DEFAULT_STATISTICS;
+    }
+
+    public void record(String sql, long elapsedNanos) {
+        String fingerprint = StatementFingerprint.of(sql);
+        Timer timer = this.timers.get(fingerprint);
+        if (timer == null) {
+            timer = this.timers.size() < MAX_FINGERPRINT_COUNT
+                    ? this.timers.computeIfAbsent(fingerprint, key -> new Timer())
+                    : this.timers.computeIfAbsent(OVERFLOW_FINGERPRINT, key -> new Timer());
+        }
+        timer.record(elapsedNanos);
+    }
+
+    //총 실행 시간이 큰 순서로 반환한다.
+    public List<StatementStats> getTop(int limit) {
+        return this.timers.entrySet().stream()
+                .map(entry -> StatementStats.of(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(StatementStats::totalNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public StatementStats get(String sql) {
+        String fingerprint = StatementFingerprint.of(sql);
+        Timer timer = this.timers.get(fingerprint);
+        return timer == null ? null : StatementStats.of(fingerprint, timer);
+    }
+
+    public void clear() {
+        this.timers.clear();
+    }
+
+    public record StatementStats(String fingerprint, long count, long totalNanos, long maxNanos, long p99Nanos) {
+
+        private static StatementStats of(String fingerprint, Timer timer) {
+            return new StatementStats(fingerprint, timer.getCount(), timer.getTotalNanos(), timer.getMaxNanos(), timer.getNanosAtPercentile(99));
+        }
+    }
+}
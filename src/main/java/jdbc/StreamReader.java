@@ -0,0 +1,9 @@
+package jdbc;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface StreamReader<S, R> {
+    //LOB 컬럼의 InputStream 또는 Reader를 읽어 결과를 반환한다. 스트림은 호출이 끝나면 닫힌다.
+    R read(final S stream) throws IOException;
+}
@@ -0,0 +1,18 @@
+package jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("persistence.EntityFind")
+@Label("Entity Find")
+@Description("EntityManager.find")
+public class EntityFindEvent extends EntityOperationEvent {
+
+    @Label("Persistence Context Hit")
+    boolean persistenceContextHit;
+
+    public void persistenceContextHit() {
+        this.persistenceContextHit = true;
+    }
+}
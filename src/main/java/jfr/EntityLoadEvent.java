@@ -0,0 +1,34 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("persistence.EntityLoad")
+@Label("Entity Load")
+@Description("EntityLoader에서 Entity를 조회")
+@Category({"Persistence", "EntityLoader"})
+public class EntityLoadEvent extends Event {
+
+    @Label("Entity Class")
+    Class<?> entityClass;
+
+    //find, findAll, scan, scanPipelined, findProjection, findPage
+    @Label("Operation")
+    String operation;
+
+    @Label("Row Count")
+    long rowCount;
+
+    public void commitWith(Class<?> entityClass, String operation, long rowCount) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.entityClass = entityClass;
+        this.operation = operation;
+        this.rowCount = rowCount;
+        commit();
+    }
+}
@@ -0,0 +1,18 @@
+package jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("persistence.EntityMerge")
+@Label("Entity Merge")
+@Description("EntityManager.merge")
+public class EntityMergeEvent extends EntityOperationEvent {
+
+    @Label("Changed Columns")
+    int changedColumns;
+
+    public void changedColumns(int changedColumns) {
+        this.changedColumns = changedColumns;
+    }
+}
@@ -0,0 +1,26 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+//EntityManager 연산 이벤트의 공통 필드. 기록중이 아닐 때는 begin/commit 외의 비용이 들지 않도록 필드는 커밋 직전에 채운다.
+@Category({"Persistence", "EntityManager"})
+public abstract class EntityOperationEvent extends Event {
+
+    @Label("Entity Class")
+    Class<?> entityClass;
+
+    @Label("Entity Id")
+    String entityId;
+
+    //기록 대상일 때만 id를 문자열로 변환하여 커밋한다.
+    public void commitWith(Class<?> entityClass, Object entityId) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.entityClass = entityClass;
+        this.entityId = String.valueOf(entityId);
+        commit();
+    }
+}
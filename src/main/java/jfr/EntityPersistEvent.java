@@ -0,0 +1,11 @@
+package jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("persistence.EntityPersist")
+@Label("Entity Persist")
+@Description("EntityManager.persist")
+public class EntityPersistEvent extends EntityOperationEvent {
+}
@@ -0,0 +1,11 @@
+package jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("persistence.EntityRemove")
+@Label("Entity Remove")
+@Description("EntityManager.remove")
+public class EntityRemoveEvent extends EntityOperationEvent {
+}
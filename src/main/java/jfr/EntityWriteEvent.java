@@ -0,0 +1,34 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("persistence.EntityWrite")
+@Label("Entity Write")
+@Description("EntityPersister에서 Entity를 반영")
+@Category({"Persistence", "EntityPersister"})
+public class EntityWriteEvent extends Event {
+
+    @Label("Entity Class")
+    Class<?> entityClass;
+
+    //persist, merge, remove, updateWhere, deleteWhere
+    @Label("Operation")
+    String operation;
+
+    @Label("Row Count")
+    long rowCount;
+
+    public void commitWith(Class<?> entityClass, String operation, long rowCount) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.entityClass = entityClass;
+        this.operation = operation;
+        this.rowCount = rowCount;
+        commit();
+    }
+}
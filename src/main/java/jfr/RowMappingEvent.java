@@ -0,0 +1,28 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+//조회 결과 한번을 객체로 변환하는 구간. 호출 위치는 SqlExecution 이벤트에 남으므로 스택은 기록하지 않는다.
+@Name("persistence.RowMapping")
+@Label("Row Mapping")
+@Description("ResultSet의 행들을 객체로 변환")
+@Category({"Persistence", "JDBC"})
+@StackTrace(false)
+public class RowMappingEvent extends Event {
+
+    @Label("Row Count")
+    long rowCount;
+
+    public void commitWith(long rowCount) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.rowCount = rowCount;
+        commit();
+    }
+}
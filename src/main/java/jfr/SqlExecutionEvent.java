@@ -0,0 +1,34 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("persistence.SqlExecution")
+@Label("SQL Execution")
+@Description("JdbcTemplate에서 실행한 SQL")
+@Category({"Persistence", "JDBC"})
+public class SqlExecutionEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("SQL")
+    String sql;
+
+    //조회는 반환된 행 수, 수정은 반영된 행 수. 알 수 없으면 -1
+    @Label("Row Count")
+    long rowCount;
+
+    public void commitWith(String operation, String sql, long rowCount) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.operation = operation;
+        this.sql = sql;
+        this.rowCount = rowCount;
+        commit();
+    }
+}
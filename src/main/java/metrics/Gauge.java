@@ -0,0 +1,8 @@
+package metrics;
+
+//조회 시점의 값을 반환한다.
+@FunctionalInterface
+public interface Gauge {
+
+    long getValue();
+}
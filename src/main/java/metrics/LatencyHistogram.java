@@ -0,0 +1,94 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+//HDR 히스토그램 방식의 로그-선형 구간 히스토그램. 값의 상대 오차는 1/64 이내이다.
+//기록은 할당 없이 원자적 증가만 하므로 여러 스레드에서 동시에 기록할 수 있다.
+public class LatencyHistogram {
+
+    private final static int SUB_BUCKET_BITS = 7;
+    private final static int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private final static int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    private final static int MAX_SHIFT = 63 - SUB_BUCKET_BITS;
+    private final static int BUCKET_LENGTH = SUB_BUCKET_COUNT + MAX_SHIFT * HALF_SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_LENGTH);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalValue = new LongAdder();
+    private final LongAccumulator maxValue = new LongAccumulator(Math::max, 0);
+
+    public void record(long value) {
+        long recordValue = Math.max(value, 0);
+        this.counts.incrementAndGet(indexOf(recordValue));
+        this.totalCount.increment();
+        this.totalValue.add(recordValue);
+        this.maxValue.accumulate(recordValue);
+    }
+
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_LENGTH; i++) {
+            long count = other.counts.get(i);
+            if (count != 0) {
+                this.counts.addAndGet(i, count);
+            }
+        }
+        this.totalCount.add(other.totalCount.sum());
+        this.totalValue.add(other.totalValue.sum());
+        this.maxValue.accumulate(other.maxValue.get());
+    }
+
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    public long getTotalValue() {
+        return totalValue.sum();
+    }
+
+    public long getMaxValue() {
+        return maxValue.get();
+    }
+
+    public double getMean() {
+        long count = getTotalCount();
+        return count == 0 ? 0 : (double) getTotalValue() / count;
+    }
+
+    //percentile(0 ~ 100)에 해당하는 값을 구간의 최대값으로 반환한다.
+    public long getValueAtPercentile(double percentile) {
+        long count = getTotalCount();
+        if (count == 0) {
+            return 0;
+        }
+        long targetCount = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long cumulativeCount = 0;
+        for (int i = 0; i < BUCKET_LENGTH; i++) {
+            cumulativeCount += this.counts.get(i);
+            if (cumulativeCount >= targetCount) {
+                return Math.min(highestValueOf(i), getMaxValue());
+            }
+        }
+        return getMaxValue();
+    }
+
+    //128 미만은 값 그대로, 그 이상은 상위 7비트(64 ~ 127)와 자리수(shift)로 구간을 정한다.
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT + (subBucket - HALF_SUB_BUCKET_COUNT);
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,65 @@
+package metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+//이름으로 지표를 등록하고 조회한다. 같은 이름은 같은 지표를 반환한다.
+public class MetricsRegistry {
+
+    private final static MetricsRegistry DEFAULT_REGISTRY = new MetricsRegistry();
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentHashMap<>();
+    private final List<MetricsReporter> reporters = new CopyOnWriteArrayList<>();
+
+    //EntityManager, JdbcTemplate 등이 기록하는 기본 registry
+    public static MetricsRegistry getDefault() {
+        return DEFAULT_REGISTRY;
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, key -> {
+            Counter counter = new Counter();
+            reporters.forEach(reporter -> reporter.onCounterRegistered(key, counter));
+            return counter;
+        });
+    }
+
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, key -> {
+            Timer timer = new Timer();
+            reporters.forEach(reporter -> reporter.onTimerRegistered(key, timer));
+            return timer;
+        });
+    }
+
+    public Gauge gauge(String name, Gauge gauge) {
+        return gauges.computeIfAbsent(name, key -> {
+            reporters.forEach(reporter -> reporter.onGaugeRegistered(key, gauge));
+            return gauge;
+        });
+    }
+
+    public Map<String, Counter> getCounters() {
+        return Map.copyOf(counters);
+    }
+
+    public Map<String, Timer> getTimers() {
+        return Map.copyOf(timers);
+    }
+
+    public Map<String, Gauge> getGauges() {
+        return Map.copyOf(gauges);
+    }
+
+    //reporter를 추가하고 이미 등록된 지표를 전달한다.
+    public void addReporter(MetricsReporter reporter) {
+        reporters.add(reporter);
+        counters.forEach(reporter::onCounterRegistered);
+        timers.forEach(reporter::onTimerRegistered);
+        gauges.forEach(reporter::onGaugeRegistered);
+    }
+}
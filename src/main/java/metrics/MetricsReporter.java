@@ -0,0 +1,11 @@
+package metrics;
+
+//등록된 지표를 외부로 내보낸다. 등록 시점에 호출되며, 이미 등록된 지표는 reporter 추가 시점에 전달된다.
+public interface MetricsReporter {
+
+    void onCounterRegistered(String name, Counter counter);
+
+    void onTimerRegistered(String name, Timer timer);
+
+    void onGaugeRegistered(String name, Gauge gauge);
+}
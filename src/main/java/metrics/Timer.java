@@ -0,0 +1,36 @@
+package metrics;
+
+//연산의 실행 횟수와 지연 시간(ns) 분포를 기록한다.
+public class Timer {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    public void record(long elapsedNanos) {
+        histogram.record(elapsedNanos);
+    }
+
+    //시작 시각(System.nanoTime)부터 지금까지의 시간을 기록한다.
+    public void recordSince(long startNanos) {
+        histogram.record(System.nanoTime() - startNanos);
+    }
+
+    public long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    public long getTotalNanos() {
+        return histogram.getTotalValue();
+    }
+
+    public long getMaxNanos() {
+        return histogram.getMaxValue();
+    }
+
+    public double getMeanNanos() {
+        return histogram.getMean();
+    }
+
+    public long getNanosAtPercentile(double percentile) {
+        return histogram.getValueAtPercentile(percentile);
+    }
+}
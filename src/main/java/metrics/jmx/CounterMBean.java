@@ -0,0 +1,6 @@
+package metrics.jmx;
+
+public interface CounterMBean {
+
+    long getCount();
+}
@@ -0,0 +1,98 @@
+package metrics.jmx;
+
+import metrics.Counter;
+import metrics.Gauge;
+import metrics.MetricsReporter;
+import metrics.Timer;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+
+//지표를 MBean으로 등록한다. ObjectName은 "persistence.metrics:type={Counter|Timer|Gauge},name={지표명}" 이다.
+public class JmxReporter implements MetricsReporter {
+
+    private final static String DEFAULT_DOMAIN = "persistence.metrics";
+    private final static String FAILED_REGISTER_MBEAN = "MBean 등록에 실패했습니다. name: ";
+    private final static double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final MBeanServer mBeanServer;
+    private final String domain;
+
+    public JmxReporter() {
+        this(ManagementFactory.getPlatformMBeanServer(), DEFAULT_DOMAIN);
+    }
+
+    public JmxReporter(MBeanServer mBeanServer, String domain) {
+        this.mBeanServer = mBeanServer;
+        this.domain = domain;
+    }
+
+    @Override
+    public void onCounterRegistered(String name, Counter counter) {
+        CounterMBean mBean = counter::getCount;
+        register("Counter", name, new StandardMBean(mBean, CounterMBean.class, false));
+    }
+
+    @Override
+    public void onTimerRegistered(String name, Timer timer) {
+        register("Timer", name, new StandardMBean(new TimerAdapter(timer), TimerMBean.class, false));
+    }
+
+    @Override
+    public void onGaugeRegistered(String name, Gauge gauge) {
+        GaugeMBean mBean = gauge::getValue;
+        register("Gauge", name, new StandardMBean(mBean, GaugeMBean.class, false));
+    }
+
+    public ObjectName objectNameOf(String type, String name) throws JMException {
+        return new ObjectName(domain + ":type=" + type + ",name=" + ObjectName.quote(name));
+    }
+
+    //이미 같은 이름의 MBean이 있으면 등록하지 않는다.
+    private void register(String type, String name, StandardMBean mBean) {
+        try {
+            mBeanServer.registerMBean(mBean, objectNameOf(type, name));
+        } catch (InstanceAlreadyExistsException e) {
+            // 다른 reporter 혹은 이전 실행에서 등록된 MBean을 그대로 사용한다.
+        } catch (JMException e) {
+            throw new IllegalStateException(FAILED_REGISTER_MBEAN + name, e);
+        }
+    }
+
+    private record TimerAdapter(Timer timer) implements TimerMBean {
+
+        @Override
+        public long getCount() {
+            return timer.getCount();
+        }
+
+        @Override
+        public double getMeanMillis() {
+            return timer.getMeanNanos() / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public double get50thPercentileMillis() {
+            return timer.getNanosAtPercentile(50) / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public double get99thPercentileMillis() {
+            return timer.getNanosAtPercentile(99) / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public double get999thPercentileMillis() {
+            return timer.getNanosAtPercentile(99.9) / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public double getMaxMillis() {
+            return timer.getMaxNanos() / NANOS_PER_MILLI;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package metrics.jmx;
+
+public interface TimerMBean {
+
+    long getCount();
+
+    double getMeanMillis();
+
+    double get50thPercentileMillis();
+
+    double get99thPercentileMillis();
+
+    double get999thPercentileMillis();
+
+    double getMaxMillis();
+}
@@ -0,0 +1,60 @@
+package persistence;
+
+import builder.dml.query.AggregateFunction;
+import builder.dml.query.Condition;
+
+import java.util.Map;
+
+public class AggregateQuery {
+
+    private final static String ALL_COLUMNS = "*";
+
+    private final Class<?> clazz;
+    private final EntityLoader entityLoader;
+    private Condition condition;
+
+    AggregateQuery(Class<?> clazz, EntityLoader entityLoader) {
+        this.clazz = clazz;
+        this.entityLoader = entityLoader;
+    }
+
+    //조건을 추가한다. 이미 조건이 있으면 AND로 결합한다.
+    public AggregateQuery where(Condition condition) {
+        this.condition = this.condition == null ? condition : this.condition.and(condition);
+        return this;
+    }
+
+    public long count() {
+        return this.entityLoader.aggregate(this.clazz, AggregateFunction.COUNT, ALL_COLUMNS, this.condition, Long.class);
+    }
+
+    public boolean exists() {
+        return this.entityLoader.exists(this.clazz, this.condition);
+    }
+
+    //조회된 행이 없으면 null 을 반환한다.
+    public <R> R sum(String columnName, Class<R> resultType) {
+        return this.entityLoader.aggregate(this.clazz, AggregateFunction.SUM, columnName, this.condition, resultType);
+    }
+
+    public <R> R min(String columnName, Class<R> resultType) {
+        return this.entityLoader.aggregate(this.clazz, AggregateFunction.MIN, columnName, this.condition, resultType);
+    }
+
+    public <R> R max(String columnName, Class<R> resultType) {
+        return this.entityLoader.aggregate(this.clazz, AggregateFunction.MAX, columnName, this.condition, resultType);
+    }
+
+    public Double avg(String columnName) {
+        return this.entityLoader.aggregate(this.clazz, AggregateFunction.AVG, columnName, this.condition, Double.class);
+    }
+
+    //그룹별 행 개수를 그룹 기준 순서로 가져온다.
+    public <K> Map<K, Long> countGroupBy(String groupByExpression, Class<K> keyType) {
+        return groupBy(groupByExpression, keyType, AggregateFunction.COUNT, ALL_COLUMNS, Long.class);
+    }
+
+    public <K, V> Map<K, V> groupBy(String groupByExpression, Class<K> keyType, AggregateFunction function, String columnName, Class<V> valueType) {
+        return this.entityLoader.groupBy(this.clazz, groupByExpression, keyType, function, columnName, valueType, this.condition);
+    }
+}
@@ -3,6 +3,8 @@ package persistence;
 import database.DatabaseServer;
 import database.H2;
 import jdbc.JdbcTemplate;
+import metrics.MetricsRegistry;
+import metrics.jmx.JmxReporter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -11,6 +13,7 @@ public class Application {
 
     public static void main(String[] args) {
         logger.info("Starting application...");
+        MetricsRegistry.getDefault().addReporter(new JmxReporter());
         try {
             final DatabaseServer server = new H2();
             server.start();
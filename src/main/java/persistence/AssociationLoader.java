@@ -0,0 +1,220 @@
+package persistence;
+
+import builder.dml.query.Condition;
+import builder.dml.query.Criteria;
+import builder.dml.query.Order;
+import util.AssociationUtil;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//조회한 Entity의 연관관계 필드를 영속성 컨텍스트를 통해 연결한다.
+class AssociationLoader {
+
+    private final static String BATCH_FETCH_SIZE_PROPERTY = "persistence.batchFetchSize";
+    private final static int DEFAULT_BATCH_FETCH_SIZE = 16;
+    private final static String INVALID_BATCH_FETCH_SIZE_MESSAGE = "batchFetchSize는 1 이상이어야 합니다. batchFetchSize: ";
+    private final static String FAILED_ACCESS_FIELD = "연관관계 필드에 접근을 실패했습니다. field: ";
+
+    //클래스별 @ManyToOne, @OneToMany 필드. 리플렉션 조회는 클래스마다 한번만 한다.
+    private final static ClassValue<Associations> ASSOCIATIONS = new ClassValue<>() {
+        @Override
+        protected Associations computeValue(Class<?> type) {
+            return Associations.of(type);
+        }
+    };
+
+    private final EntityManager entityManager;
+    private final PersistenceContext persistenceContext;
+    //초기화되지 않은 컬렉션. 하나를 초기화할 때 같은 필드의 다른 컬렉션을 함께 조회한다.
+    private final Map<Field, Map<Object, LazyList<?>>> uninitializedCollections = new HashMap<>();
+    private int batchFetchSize = Integer.getInteger(BATCH_FETCH_SIZE_PROPERTY, DEFAULT_BATCH_FETCH_SIZE);
+
+    AssociationLoader(EntityManager entityManager, PersistenceContext persistenceContext) {
+        this.entityManager = entityManager;
+        this.persistenceContext = persistenceContext;
+    }
+
+    //한번의 IN (...) 쿼리로 조회할 최대 Entity 수. 1이면 일괄 조회하지 않는다.
+    void setBatchFetchSize(int batchFetchSize) {
+        if (batchFetchSize < 1) {
+            throw new IllegalArgumentException(INVALID_BATCH_FETCH_SIZE_MESSAGE + batchFetchSize);
+        }
+        this.batchFetchSize = batchFetchSize;
+    }
+
+    //@ManyToOne은 영속성 컨텍스트의 Entity로 바꾸고, @OneToMany는 처음 접근할 때 조회하는 LazyList로 채운다.
+    void resolve(Object entityInstance) {
+        Associations associations = ASSOCIATIONS.get(entityInstance.getClass());
+        if (associations.isEmpty()) {
+            return;
+        }
+        for (Field referenceField : associations.referenceFields()) {
+            resolveReference(entityInstance, referenceField);
+        }
+        Object ownerId = AssociationUtil.idValue(entityInstance);
+        for (CollectionField collectionField : associations.collectionFields()) {
+            setField(collectionField.field(), entityInstance, lazyCollection(collectionField, ownerId));
+        }
+    }
+
+    //목록이 참조하는 Entity 중 영속성 컨텍스트에 없는 것을 batchFetchSize 단위의 IN (...) 쿼리로 미리 조회한다.
+    void prefetchReferences(List<?> entityInstances) {
+        if (entityInstances.isEmpty()) {
+            return;
+        }
+        Associations associations = ASSOCIATIONS.get(entityInstances.get(0).getClass());
+        for (Field referenceField : associations.referenceFields()) {
+            Set<Object> referenceIds = new LinkedHashSet<>();
+            for (Object entityInstance : entityInstances) {
+                Object referenceId = AssociationUtil.idValue(getField(referenceField, entityInstance));
+                if (referenceId != null && this.persistenceContext.getEntityEntryMap(new EntityKey(referenceId, referenceField.getType())) == null) {
+                    referenceIds.add(referenceId);
+                }
+            }
+            String pkName = AssociationUtil.idField(referenceField.getType()).getName();
+            for (List<Object> batch : partition(referenceIds, this.batchFetchSize)) {
+                this.entityManager.findAll(referenceField.getType(), Criteria.createCriteria().where(Condition.in(pkName, batch)));
+            }
+        }
+    }
+
+    //join fetch로 함께 조회한 원소로 컬렉션을 초기화한다. 이미 초기화된 컬렉션은 그대로 둔다.
+    void initializeCollection(Object owner, Field collectionField, List<?> elements) {
+        if (getField(collectionField, owner) instanceof LazyList<?> lazyList && !lazyList.isInitialized()) {
+            initialize(lazyList, elements);
+            Map<Object, LazyList<?>> pending = this.uninitializedCollections.get(collectionField);
+            if (pending != null) {
+                pending.remove(AssociationUtil.idValue(owner));
+            }
+        }
+    }
+
+    private void resolveReference(Object entityInstance, Field referenceField) {
+        Object referenceId = AssociationUtil.idValue(getField(referenceField, entityInstance));
+        if (referenceId == null) {
+            return;
+        }
+        //순환 참조로 조회 중인 Entity를 다시 만나면 FK만 가진 참조로 둔다.
+        EntityEntry entityEntry = this.persistenceContext.getEntityEntryMap(new EntityKey(referenceId, referenceField.getType()));
+        if (entityEntry != null && entityEntry.checkEntityStatus(EntityStatus.LOADING)) {
+            return;
+        }
+        setField(referenceField, entityInstance, this.entityManager.find(referenceField.getType(), referenceId));
+    }
+
+    private <E> LazyList<E> lazyCollection(CollectionField collectionField, Object ownerId) {
+        LazyList<E> lazyList = new LazyList<>(() -> loadCollection(collectionField, ownerId));
+        this.uninitializedCollections.computeIfAbsent(collectionField.field(), field -> new LinkedHashMap<>()).put(ownerId, lazyList);
+        return lazyList;
+    }
+
+    //요청한 컬렉션과 아직 초기화되지 않은 같은 필드의 컬렉션을 한번의 IN (...) 쿼리로 조회한다.
+    @SuppressWarnings("unchecked")
+    private <E> List<E> loadCollection(CollectionField collectionField, Object ownerId) {
+        Map<Object, LazyList<?>> pending = this.uninitializedCollections.getOrDefault(collectionField.field(), new LinkedHashMap<>());
+        pending.remove(ownerId);
+
+        Map<Object, LazyList<?>> siblings = new LinkedHashMap<>();
+        Iterator<Map.Entry<Object, LazyList<?>>> iterator = pending.entrySet().iterator();
+        while (siblings.size() < this.batchFetchSize - 1 && iterator.hasNext()) {
+            Map.Entry<Object, LazyList<?>> entry = iterator.next();
+            siblings.put(entry.getKey(), entry.getValue());
+            iterator.remove();
+        }
+
+        List<Object> ownerIds = new ArrayList<>();
+        ownerIds.add(ownerId);
+        ownerIds.addAll(siblings.keySet());
+        Criteria criteria = Criteria.createCriteria()
+                .where(Condition.in(collectionField.joinColumnName(), ownerIds))
+                .orderBy(Order.asc(collectionField.elementIdName()));
+        List<?> elements = this.entityManager.findAll(collectionField.elementType(), criteria);
+
+        Map<Object, List<Object>> elementsByOwner = new HashMap<>();
+        for (Object element : elements) {
+            Object elementOwnerId = AssociationUtil.idValue(getField(collectionField.mappedByField(), element));
+            elementsByOwner.computeIfAbsent(elementOwnerId, id -> new ArrayList<>()).add(element);
+        }
+        siblings.forEach((siblingOwnerId, lazyList) -> initialize(lazyList, elementsByOwner.getOrDefault(siblingOwnerId, List.of())));
+        return (List<E>) elementsByOwner.getOrDefault(ownerId, List.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E> void initialize(LazyList<E> lazyList, List<?> elements) {
+        lazyList.initialize((List<E>) elements);
+    }
+
+    private static List<List<Object>> partition(Set<Object> values, int size) {
+        List<List<Object>> partitions = new ArrayList<>();
+        List<Object> partition = new ArrayList<>();
+        for (Object value : values) {
+            partition.add(value);
+            if (partition.size() == size) {
+                partitions.add(partition);
+                partition = new ArrayList<>();
+            }
+        }
+        if (!partition.isEmpty()) {
+            partitions.add(partition);
+        }
+        return partitions;
+    }
+
+    private Object getField(Field field, Object entityInstance) {
+        try {
+            return field.get(entityInstance);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(FAILED_ACCESS_FIELD + field.getName(), e);
+        }
+    }
+
+    private void setField(Field field, Object entityInstance, Object value) {
+        try {
+            field.set(entityInstance, value);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(FAILED_ACCESS_FIELD + field.getName(), e);
+        }
+    }
+
+    private record CollectionField(Field field, Class<?> elementType, Field mappedByField, String joinColumnName, String elementIdName) {
+    }
+
+    private record Associations(List<Field> referenceFields, List<CollectionField> collectionFields) {
+
+        private static Associations of(Class<?> entityClass) {
+            List<Field> referenceFields = new ArrayList<>();
+            List<CollectionField> collectionFields = new ArrayList<>();
+            for (Field field : entityClass.getDeclaredFields()) {
+                if (AssociationUtil.isReference(field)) {
+                    field.setAccessible(true);
+                    referenceFields.add(field);
+                } else if (AssociationUtil.isCollection(field)) {
+                    field.setAccessible(true);
+                    Class<?> elementType = AssociationUtil.elementType(field);
+                    Field mappedByField = AssociationUtil.mappedByField(field);
+                    mappedByField.setAccessible(true);
+                    collectionFields.add(new CollectionField(
+                            field,
+                            elementType,
+                            mappedByField,
+                            AssociationUtil.joinColumnName(mappedByField),
+                            AssociationUtil.idField(elementType).getName()
+                    ));
+                }
+            }
+            return new Associations(List.copyOf(referenceFields), List.copyOf(collectionFields));
+        }
+
+        private boolean isEmpty() {
+            return referenceFields.isEmpty() && collectionFields.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package persistence;
+
+import builder.dml.query.Criteria;
+import database.ConnectionPool;
+import jdbc.JdbcTemplate;
+import jdbc.QueryCancelledException;
+import jdbc.QueryDeadline;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+//EntityManager 연산을 가상 스레드에서 실행하고 CompletableFuture로 결과를 반환한다.
+//작업마다 풀에서 커넥션 한개를 빌려 새 EntityManager를 만들므로 영속성 컨텍스트는 작업 사이에 공유되지 않는다.
+public class AsyncEntityManager implements AutoCloseable {
+
+    private final ConnectionPool connectionPool;
+    //동시에 JDBC를 실행하는 가상 스레드 수를 풀 크기로 제한한다.
+    //H2 드라이버는 synchronized 안에서 I/O를 하므로 carrier 스레드가 고정(pinning)되는 수도 풀 크기를 넘지 않는다.
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AsyncEntityManager(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+        this.permits = new Semaphore(connectionPool.getSize(), true);
+    }
+
+    public <T> CompletableFuture<T> find(Class<T> clazz, Object id) {
+        return submit(entityManager -> entityManager.find(clazz, id));
+    }
+
+    public CompletableFuture<Void> persist(Object entityInstance) {
+        return submit(entityManager -> {
+            entityManager.persist(entityInstance);
+            return null;
+        });
+    }
+
+    //스냅샷이 없으므로 전체 컬럼을 수정한다.
+    public CompletableFuture<Void> merge(Object entityInstance) {
+        return submit(entityManager -> {
+            entityManager.merge(entityInstance);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> remove(Object entityInstance) {
+        return submit(entityManager -> {
+            entityManager.remove(entityInstance);
+            return null;
+        });
+    }
+
+    public <T> CompletableFuture<List<T>> findAll(Class<T> clazz, Criteria criteria) {
+        return submit(entityManager -> entityManager.findAll(clazz, criteria));
+    }
+
+    //여러 연산을 한 커넥션, 한 영속성 컨텍스트에서 실행한다.
+    //호출한 스레드에 QueryDeadline이 있으면 같은 기한을 작업에도 적용한다. 실행 대기와 커넥션 대기 시간도 기한에 포함된다.
+    public <R> CompletableFuture<R> submit(Function<EntityManager, R> work) {
+        Long deadlineNanos = QueryDeadline.deadlineNanos();
+        if (deadlineNanos == null) {
+            return CompletableFuture.supplyAsync(() -> execute(work), executor);
+        }
+        return CompletableFuture.supplyAsync(() -> QueryDeadline.until(deadlineNanos, () -> execute(work)), executor);
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private <R> R execute(Function<EntityManager, R> work) {
+        acquirePermit();
+        Connection connection = connectionPool.acquire();
+        try {
+            return work.apply(new EntityManagerImpl(new JdbcTemplate(connection)));
+        } finally {
+            connectionPool.release(connection);
+            permits.release();
+        }
+    }
+
+    //기한이 있으면 남은 시간까지만 기다린다. 기한이 이미 지났으면 커넥션을 빌리지 않고 바로 실패한다.
+    private void acquirePermit() {
+        long remainingNanos = QueryDeadline.remainingNanos();
+        if (remainingNanos == Long.MAX_VALUE) {
+            permits.acquireUninterruptibly();
+            return;
+        }
+        try {
+            if (remainingNanos <= 0 || !permits.tryAcquire(remainingNanos, TimeUnit.NANOSECONDS)) {
+                throw QueryCancelledException.connectionWaitTimedOut();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -23,6 +23,10 @@ public class EntityKey {
         return id;
     }
 
+    public Class<?> getClazz() {
+        return clazz;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -1,22 +1,267 @@
 package persistence;
 
+import builder.ddl.dataType.DB;
+import builder.dialect.Dialect;
+import builder.dml.DMLColumnData;
 import builder.dml.EntityData;
+import builder.dml.builder.AggregateQueryBuilder;
+import builder.dml.builder.ExistsQueryBuilder;
+import builder.dml.builder.GroupByQueryBuilder;
+import builder.dml.builder.JoinFetchQueryBuilder;
 import builder.dml.builder.SelectByIdQueryBuilder;
+import builder.dml.builder.SelectQueryBuilder;
+import builder.dml.query.AggregateFunction;
+import builder.dml.query.Condition;
+import builder.dml.query.Criteria;
+import builder.dml.query.Order;
+import jdbc.ColumnValuesMapper;
 import jdbc.EntityMapper;
 import jdbc.JdbcTemplate;
+import jdbc.PipelineOptions;
+import jfr.EntityLoadEvent;
+import jdbc.ProjectionMapper;
+import jdbc.StreamReader;
+import util.AssociationUtil;
+import util.ColumnUtil;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public class EntityLoader {
 
+    private final static String INVALID_PAGE_SIZE_MESSAGE = "페이지 크기는 1 이상이어야 합니다. pageSize: ";
+
     private final SelectByIdQueryBuilder selectByIdQueryBuilder = new SelectByIdQueryBuilder();
+    private final SelectQueryBuilder selectQueryBuilder;
+    private final AggregateQueryBuilder aggregateQueryBuilder = new AggregateQueryBuilder();
+    private final ExistsQueryBuilder existsQueryBuilder = new ExistsQueryBuilder();
+    private final GroupByQueryBuilder groupByQueryBuilder = new GroupByQueryBuilder();
+    private final JoinFetchQueryBuilder joinFetchQueryBuilder;
     private final JdbcTemplate jdbcTemplate;
+    private final SessionStatistics sessionStatistics;
+    private final Dialect dialect;
 
     public EntityLoader(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, new SessionStatistics());
+    }
+
+    public EntityLoader(JdbcTemplate jdbcTemplate, SessionStatistics sessionStatistics) {
+        this(jdbcTemplate, sessionStatistics, DB.H2.getDialect());
+    }
+
+    public EntityLoader(JdbcTemplate jdbcTemplate, SessionStatistics sessionStatistics, Dialect dialect) {
         this.jdbcTemplate = jdbcTemplate;
+        this.sessionStatistics = sessionStatistics;
+        this.dialect = dialect;
+        this.selectQueryBuilder = new SelectQueryBuilder(dialect);
+        this.joinFetchQueryBuilder = new JoinFetchQueryBuilder(dialect);
     }
 
     //데이터를 조회한다.
     public <T> T find(Class<T> clazz, Object id) {
-        return jdbcTemplate.queryForObject(selectByIdQueryBuilder.buildQuery(EntityData.createEntityData(clazz, id)), resultSet -> EntityMapper.mapRow(resultSet, clazz));
+        EntityLoadEvent event = new EntityLoadEvent();
+        event.begin();
+        T findObject = jdbcTemplate.queryForObject(selectByIdQueryBuilder.buildQuery(clazz), resultSet -> EntityMapper.mapRow(resultSet, clazz), id);
+        event.commitWith(clazz, "find", 1);
+        sessionStatistics.singleRowLoaded(clazz);
+        return findObject;
+    }
+
+    //한 필드의 컬럼만 조회한다. @Basic(fetch = LAZY) 필드를 불러올 때 사용한다.
+    public Object findColumn(Class<?> clazz, Object id, Field field) {
+        EntityLoadEvent event = new EntityLoadEvent();
+        event.begin();
+        EntityData entityData = EntityData.createEntityData(clazz, id);
+        Criteria criteria = columnCriteria(entityData, ColumnUtil.columnName(field));
+        String query = selectQueryBuilder.buildQuery(entityData, criteria);
+        Object value = jdbcTemplate.queryForObject(query, resultSet -> EntityMapper.mapColumnValue(field.getType(), resultSet.getObject(1)), criteria.getParameters(this.dialect));
+        event.commitWith(clazz, "findColumn", 1);
+        sessionStatistics.queryExecuted();
+        return value;
+    }
+
+    //LOB 컬럼을 메모리에 올리지 않고 InputStream으로 읽는다.
+    public <R> R readBinary(Class<?> clazz, Object id, String columnName, StreamReader<InputStream, R> reader) {
+        EntityData entityData = EntityData.createEntityData(clazz, id);
+        Criteria criteria = columnCriteria(entityData, columnName);
+        String query = selectQueryBuilder.buildQuery(entityData, criteria);
+        sessionStatistics.queryExecuted();
+        return jdbcTemplate.queryForBinaryStream(query, reader, criteria.getParameters(this.dialect));
+    }
+
+    //LOB 컬럼을 메모리에 올리지 않고 Reader로 읽는다.
+    public <R> R readCharacters(Class<?> clazz, Object id, String columnName, StreamReader<Reader, R> reader) {
+        EntityData entityData = EntityData.createEntityData(clazz, id);
+        Criteria criteria = columnCriteria(entityData, columnName);
+        String query = selectQueryBuilder.buildQuery(entityData, criteria);
+        sessionStatistics.queryExecuted();
+        return jdbcTemplate.queryForCharacterStream(query, reader, criteria.getParameters(this.dialect));
+    }
+
+    //조건에 맞는 데이터 목록을 조회한다. 필터링, 정렬, 페이징은 DB에서 수행한다.
+    public <T> List<T> findAll(Class<T> clazz, Criteria criteria) {
+        EntityLoadEvent event = new EntityLoadEvent();
+        event.begin();
+        String query = selectQueryBuilder.buildQuery(EntityData.createEntityData(clazz, null), criteria);
+        List<T> findObjects = jdbcTemplate.query(query, resultSet -> EntityMapper.mapRow(resultSet, clazz), criteria.getParameters(this.dialect));
+        event.commitWith(clazz, "findAll", findObjects.size());
+        sessionStatistics.entitiesLoaded(findObjects.size());
+        return findObjects;
+    }
+
+    //연관관계를 LEFT JOIN으로 함께 조회한다. 각 행은 [root Entity, 연관 Entity(없으면 null)] 이다.
+    //@OneToMany는 연관 Entity 수만큼 같은 root가 반복된다.
+    public <T> List<Object[]> findAllJoinFetch(Class<T> clazz, Criteria criteria, Field associationField) {
+        EntityLoadEvent event = new EntityLoadEvent();
+        event.begin();
+        boolean isReference = AssociationUtil.isReference(associationField);
+        Class<?> joinClass = isReference ? associationField.getType() : AssociationUtil.elementType(associationField);
+        EntityData rootEntityData = EntityData.createEntityData(clazz, null);
+        EntityData joinEntityData = EntityData.createEntityData(joinClass, null);
+
+        String query = isReference
+                ? joinFetchQueryBuilder.buildQuery(rootEntityData, joinEntityData, AssociationUtil.joinColumnName(associationField), joinEntityData.getPkNm(), criteria)
+                : joinFetchQueryBuilder.buildQuery(rootEntityData, joinEntityData, rootEntityData.getPkNm(), AssociationUtil.joinColumnName(AssociationUtil.mappedByField(associationField)), criteria);
+
+        String[] rootColumnNames = columnNamesOf(rootEntityData);
+        String[] joinColumnNames = columnNamesOf(joinEntityData);
+        ColumnValuesMapper<T> rootMapper = EntityMapper.valuesMapper(clazz, rootColumnNames);
+        ColumnValuesMapper<?> joinMapper = EntityMapper.valuesMapper(joinClass, joinColumnNames);
+        int joinPkIndex = Arrays.asList(joinColumnNames).indexOf(joinEntityData.getPkNm());
+
+        List<Object[]> rows = jdbcTemplate.query(query, resultSet -> {
+            Object[] values = new Object[rootColumnNames.length + joinColumnNames.length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = resultSet.getObject(i + 1);
+            }
+            Object[] joinValues = Arrays.copyOfRange(values, rootColumnNames.length, values.length);
+            return new Object[]{
+                    rootMapper.mapValues(Arrays.copyOf(values, rootColumnNames.length)),
+                    joinValues[joinPkIndex] == null ? null : joinMapper.mapValues(joinValues)
+            };
+        }, criteria.getParameters(this.dialect));
+        event.commitWith(clazz, "findAllJoinFetch", rows.size());
+        sessionStatistics.entitiesLoaded(rows.size());
+        return rows;
+    }
+
+    //조건에 맞는 데이터를 모으지 않고 한건씩 consumer에 전달한다. 반환값은 조회한 행 수이다.
+    public <T> long scan(Class<T> clazz, Criteria criteria, Consumer<? super T> consumer) {
+        EntityLoadEvent event = new EntityLoadEvent();
+        event.begin();
+        String query = selectQueryBuilder.buildQuery(EntityData.createEntityData(clazz, null), criteria);
+        long rowCount = jdbcTemplate.queryForEach(query, resultSet -> EntityMapper.mapRow(resultSet, clazz), consumer, criteria.getParameters(this.dialect));
+        event.commitWith(clazz, "scan", rowCount);
+        sessionStatistics.queryExecuted();
+        return rowCount;
     }
 
+    //scan과 같지만 ResultSet 읽기와 Entity 변환을 다른 스레드에서 겹쳐 실행한다.
+    public <T> long scanPipelined(Class<T> clazz, Criteria criteria, Consumer<? super T> consumer, PipelineOptions options) {
+        EntityLoadEvent event = new EntityLoadEvent();
+        event.begin();
+        String query = selectQueryBuilder.buildQuery(EntityData.createEntityData(clazz, null), criteria);
+        long rowCount = jdbcTemplate.queryPipelined(query, columnLabels -> EntityMapper.valuesMapper(clazz, columnLabels), consumer, options, criteria.getParameters(this.dialect));
+        event.commitWith(clazz, "scanPipelined", rowCount);
+        sessionStatistics.queryExecuted();
+        return rowCount;
+    }
+
+    //선택한 컬럼만 조회하여 결과 타입의 생성자로 바로 변환한다.
+    public <R> List<R> findProjection(Class<?> entityClass, Class<R> resultType, Criteria criteria) {
+        EntityLoadEvent event = new EntityLoadEvent();
+        event.begin();
+        String query = selectQueryBuilder.buildQuery(EntityData.createEntityData(entityClass, null), criteria);
+        List<R> results = jdbcTemplate.query(query, ProjectionMapper.of(resultType, criteria.getColumnNames().size()), criteria.getParameters(this.dialect));
+        event.commitWith(entityClass, "findProjection", results.size());
+        sessionStatistics.queryExecuted();
+        return results;
+    }
+
+    //토큰의 위치 이후 데이터를 키, PK 순서로 pageSize 만큼 조회한다. (WHERE key > ? OR (key = ? AND pk > ?) ORDER BY key, pk)
+    //키 값이 같은 행은 PK로 이어서 조회하므로 유일하지 않은 키 컬럼도 행을 건너뛰지 않는다.
+    //다음 페이지 존재 여부를 알기 위해 한건을 더 조회한다. 토큰은 같은 클래스, 같은 키 컬럼의 조회에만 사용할 수 있다.
+    public <T> Page<T> findPage(Class<T> clazz, String keyColumnName, String afterToken, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException(INVALID_PAGE_SIZE_MESSAGE + pageSize);
+        }
+        EntityLoadEvent event = new EntityLoadEvent();
+        event.begin();
+        EntityData entityData = EntityData.createEntityData(clazz, null);
+        entityData.confirmColumnName(keyColumnName);
+        String pkName = entityData.getPkNm();
+        boolean isPkKey = pkName.equals(keyColumnName);
+        PageToken.Position after = PageToken.decode(afterToken, clazz, keyColumnName);
+
+        Criteria criteria = Criteria.createCriteria()
+                .orderBy(Order.asc(keyColumnName))
+                .limit(pageSize + 1);
+        if (!isPkKey) {
+            criteria.orderBy(Order.asc(pkName));
+        }
+        if (after != null) {
+            criteria.where(isPkKey
+                    ? Condition.gt(keyColumnName, after.key())
+                    : Condition.gt(keyColumnName, after.key())
+                            .or(Condition.eq(keyColumnName, after.key()).and(Condition.gt(pkName, after.id()))));
+        }
+
+        List<T> rows = jdbcTemplate.query(selectQueryBuilder.buildQuery(entityData, criteria), resultSet -> EntityMapper.mapRow(resultSet, clazz), criteria.getParameters(this.dialect));
+        event.commitWith(clazz, "findPage", rows.size());
+        sessionStatistics.entitiesLoaded(rows.size());
+        if (rows.size() <= pageSize) {
+            return new Page<>(rows, null);
+        }
+
+        List<T> content = new ArrayList<>(rows.subList(0, pageSize));
+        EntityData lastEntityData = EntityData.createEntityData(content.get(pageSize - 1));
+        return new Page<>(content, PageToken.encode(clazz, keyColumnName, lastEntityData.getColumnValue(keyColumnName), lastEntityData.getId()));
+    }
+
+    //집계 결과를 한개의 값으로 조회한다.
+    public <R> R aggregate(Class<?> clazz, AggregateFunction function, String columnName, Condition condition, Class<R> resultType) {
+        String query = aggregateQueryBuilder.buildQuery(EntityData.createEntityData(clazz, null), function, columnName, condition);
+        sessionStatistics.queryExecuted();
+        return jdbcTemplate.queryForObject(query, resultSet -> resultSet.getObject(1, resultType), parametersOf(condition));
+    }
+
+    //조건에 맞는 행이 존재하는지 확인한다.
+    public boolean exists(Class<?> clazz, Condition condition) {
+        String query = existsQueryBuilder.buildQuery(EntityData.createEntityData(clazz, null), condition);
+        sessionStatistics.queryExecuted();
+        return !jdbcTemplate.query(query, resultSet -> resultSet.getInt(1), parametersOf(condition)).isEmpty();
+    }
+
+    //그룹별 집계 결과를 그룹 기준 순서대로 조회한다.
+    public <K, V> Map<K, V> groupBy(Class<?> clazz, String groupByExpression, Class<K> keyType, AggregateFunction function, String columnName, Class<V> valueType, Condition condition) {
+        String query = groupByQueryBuilder.buildQuery(EntityData.createEntityData(clazz, null), groupByExpression, function, columnName, condition);
+        sessionStatistics.queryExecuted();
+        Map<K, V> result = new LinkedHashMap<>();
+        jdbcTemplate.query(query, resultSet -> result.put(resultSet.getObject(1, keyType), resultSet.getObject(2, valueType)), parametersOf(condition));
+        return result;
+    }
+
+    private Criteria columnCriteria(EntityData entityData, String columnName) {
+        return Criteria.createCriteria()
+                .select(columnName)
+                .where(Condition.eq(entityData.getPkNm(), entityData.getId()));
+    }
+
+    private Object[] parametersOf(Condition condition) {
+        return condition == null ? new Object[0] : condition.getParameters().toArray();
+    }
+
+    private String[] columnNamesOf(EntityData entityData) {
+        return entityData.getColumns().stream()
+                .filter(column -> !column.isLazy())
+                .map(DMLColumnData::getColumnName)
+                .toArray(String[]::new);
+    }
 }
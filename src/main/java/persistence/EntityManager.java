@@ -1,5 +1,16 @@
 package persistence;
 
+import builder.dml.query.Condition;
+import builder.dml.query.Criteria;
+import jdbc.StreamReader;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 public interface EntityManager {
 
@@ -7,8 +18,54 @@ public interface EntityManager {
 
     void persist(Object entityInstance);
 
+    void persistAll(Collection<?> entityInstances);
+
+    void upsert(Object entityInstance);
+
     void merge(Object entityInstance);
 
     void remove(Object entityInstance);
 
+    <T> int updateWhere(Class<T> clazz, Map<String, Object> assignments, Condition condition);
+
+    <T> int deleteWhere(Class<T> clazz, Condition condition);
+
+    <T> T findByNaturalId(Class<T> clazz, Object naturalId);
+
+    void setSharedNaturalIdCache(NaturalIdCache sharedNaturalIdCache);
+
+    void setUpdateMode(UpdateMode updateMode);
+
+    <T> TypedQuery<T> createQuery(Class<T> clazz);
+
+    <T> List<T> findAll(Class<T> clazz, Criteria criteria);
+
+    <T> List<T> findAll(Class<T> clazz, Criteria criteria, String joinFetchField);
+
+    <R> ProjectionQuery<R> createProjection(Class<?> entityClass, Class<R> resultType, String... columnNames);
+
+    <R> List<R> findProjection(Class<?> entityClass, Class<R> resultType, Criteria criteria);
+
+    AggregateQuery createAggregate(Class<?> clazz);
+
+    <T> Page<T> page(Class<T> clazz, String orderByColumn, String afterToken, int pageSize);
+
+    <T> Page<T> page(Class<T> clazz, String orderByColumn, String afterToken, int pageSize, boolean managed);
+
+    void initialize(Object entityInstance, String fieldName);
+
+    <R> R readBinary(Class<?> clazz, Object id, String fieldName, StreamReader<InputStream, R> reader);
+
+    <R> R readCharacters(Class<?> clazz, Object id, String fieldName, StreamReader<Reader, R> reader);
+
+    void writeBinary(Class<?> clazz, Object id, String fieldName, InputStream inputStream);
+
+    void writeCharacters(Class<?> clazz, Object id, String fieldName, Reader reader);
+
+    void setBatchFetchSize(int batchFetchSize);
+
+    SessionStatistics getStatistics();
+
+    <T> T withDeadline(Duration timeout, Supplier<T> work);
+
 }
@@ -1,109 +1,605 @@
 package persistence;
 
+import builder.ddl.dataType.DB;
+import builder.dialect.Dialect;
 import builder.dml.DMLColumnData;
 import builder.dml.EntityData;
+import builder.dml.query.Condition;
+import builder.dml.query.Criteria;
+import jdbc.EntityMapper;
 import jdbc.JdbcTemplate;
-
+import jdbc.QueryDeadline;
+import jdbc.StreamReader;
+import jfr.EntityFindEvent;
+import jfr.EntityMergeEvent;
+import jfr.EntityPersistEvent;
+import jfr.EntityRemoveEvent;
+import metrics.Counter;
+import metrics.MetricsRegistry;
+import metrics.Timer;
+import util.AssociationUtil;
+import util.ColumnUtil;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 public class EntityManagerImpl implements EntityManager {
 
+    private final static Timer FIND_TIMER = MetricsRegistry.getDefault().timer("entityManager.find");
+    private final static Timer PERSIST_TIMER = MetricsRegistry.getDefault().timer("entityManager.persist");
+    private final static Timer MERGE_TIMER = MetricsRegistry.getDefault().timer("entityManager.merge");
+    private final static Timer REMOVE_TIMER = MetricsRegistry.getDefault().timer("entityManager.remove");
+    private final static Timer FIND_ALL_TIMER = MetricsRegistry.getDefault().timer("entityManager.findAll");
+    private final static Counter PERSISTENCE_CONTEXT_HIT = MetricsRegistry.getDefault().counter("persistenceContext.hit");
+    private final static Counter PERSISTENCE_CONTEXT_MISS = MetricsRegistry.getDefault().counter("persistenceContext.miss");
+    private final static String FAILED_ACCESS_FIELD = "필드에 접근을 실패했습니다. field: ";
+    private final static String NOT_EXIST_NATURAL_ID_MESSAGE = "@NaturalId 필드가 존재하지 않습니다. class: ";
+    private final static String NOT_SINGLE_RESULT_MESSAGE = "Expected 1 result, got ";
+
     private final EntityLoader entityLoader;
     private final EntityPersister entityPersister;
     private final PersistenceContext persistenceContext;
+    private final SessionStatistics sessionStatistics;
+    private final AssociationLoader associationLoader;
+    private final NaturalIdCache naturalIdCache = new NaturalIdCache();
+    private NaturalIdCache sharedNaturalIdCache;
+    private UpdateMode updateMode = UpdateMode.DIRTY_COLUMNS;
 
     public EntityManagerImpl(JdbcTemplate jdbcTemplate) {
-        this.entityLoader = new EntityLoader(jdbcTemplate);
-        this.entityPersister = new EntityPersister(jdbcTemplate);
-        this.persistenceContext = new PersistenceContextImpl();
+        this(new PersistenceContextImpl(), jdbcTemplate);
     }
 
     public EntityManagerImpl(PersistenceContext persistenceContext, JdbcTemplate jdbcTemplate) {
-        this.entityLoader = new EntityLoader(jdbcTemplate);
-        this.entityPersister = new EntityPersister(jdbcTemplate);
+        this(persistenceContext, jdbcTemplate, new SessionStatistics());
+    }
+
+    //sessionStatistics로 N+1 경고 기준을 지정할 수 있다.
+    public EntityManagerImpl(PersistenceContext persistenceContext, JdbcTemplate jdbcTemplate, SessionStatistics sessionStatistics) {
+        this(persistenceContext, jdbcTemplate, sessionStatistics, DB.H2.getDialect());
+    }
+
+    //dialect는 생성 시 한번 정해지며 이 EntityManager의 모든 쿼리 생성에 사용된다.
+    public EntityManagerImpl(PersistenceContext persistenceContext, JdbcTemplate jdbcTemplate, SessionStatistics sessionStatistics, Dialect dialect) {
+        this.entityLoader = new EntityLoader(jdbcTemplate, sessionStatistics, dialect);
+        this.entityPersister = new EntityPersister(jdbcTemplate, sessionStatistics, dialect);
         this.persistenceContext = persistenceContext;
+        this.sessionStatistics = sessionStatistics;
+        this.associationLoader = new AssociationLoader(this, persistenceContext);
     }
 
     @Override
     public <T> T find(Class<T> clazz, Object id) {
-        EntityKey entityKey = new EntityKey(id, clazz);
-        EntityEntry entityEntry = this.persistenceContext.getEntityEntryMap(entityKey);
+        long startTime = System.nanoTime();
+        EntityFindEvent event = new EntityFindEvent();
+        event.begin();
+        try {
+            EntityKey entityKey = new EntityKey(id, clazz);
+            EntityEntry entityEntry = this.persistenceContext.getEntityEntryMap(entityKey);
+
+            if (entityEntry != null && entityEntry.checkEntityStatus(EntityStatus.MANAGED)) {
+                PERSISTENCE_CONTEXT_HIT.increment();
+                event.persistenceContextHit();
+                this.sessionStatistics.persistenceContextHit();
+                EntityData persistEntityData = this.persistenceContext.findEntity(entityKey);
+                return clazz.cast(persistEntityData.getEntityInstance());
+            }
+
+            PERSISTENCE_CONTEXT_MISS.increment();
+            this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.LOADING);
+            T findObject;
+            try {
+                findObject = this.entityLoader.find(clazz, id);
+            } catch (RuntimeException e) {
+                //조회에 실패하면 LOADING 상태를 남기지 않는다.
+                this.persistenceContext.deleteEntityEntryMap(entityKey);
+                throw e;
+            }
+            this.associationLoader.resolve(findObject);
+            EntityData entityData = EntityData.createEntityData(findObject);
+
+            insertPersistenceContext(entityKey, entityData);
+            this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.MANAGED);
+            registerNaturalId(findObject, id);
+
+            return findObject;
+        } finally {
+            FIND_TIMER.recordSince(startTime);
+            event.commitWith(clazz, id);
+        }
+    }
 
-        if (entityEntry != null && entityEntry.checkEntityStatus(EntityStatus.MANAGED)) {
-            EntityData persistEntityData = this.persistenceContext.findEntity(entityKey);
-            return clazz.cast(persistEntityData.getEntityInstance());
+    @Override
+    public void persist(Object entityInstance) {
+        long startTime = System.nanoTime();
+        EntityPersistEvent event = new EntityPersistEvent();
+        event.begin();
+        EntityData entityData = EntityData.createEntityData(entityInstance);
+        EntityKey entityKey = new EntityKey(entityData);
+        try {
+            //PK를 DB가 생성하면 저장 후 생성된 PK를 Entity에 채우고 그 PK로 관리한다.
+            if (isGeneratedId(entityData)) {
+                entityData = persistWithGeneratedId(entityInstance, entityData);
+                entityKey = new EntityKey(entityData);
+                insertPersistenceContext(entityKey, entityData);
+                this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.MANAGED);
+                registerNaturalId(entityInstance, entityKey.getId());
+                return;
+            }
+
+            EntityEntry entityEntry = this.persistenceContext.getEntityEntryMap(entityKey);
+
+            if (entityEntry != null && !entityEntry.checkEntityStatus(EntityStatus.MANAGED)) {
+                return;
+            }
+
+            this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.SAVING);
+
+            this.entityPersister.persist(entityData);
+
+            insertPersistenceContext(entityKey, entityData);
+            this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.MANAGED);
+            registerNaturalId(entityInstance, entityKey.getId());
+        } finally {
+            PERSIST_TIMER.recordSince(startTime);
+            event.commitWith(entityKey.getClazz(), entityKey.getId());
         }
+    }
 
-        this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.LOADING);
-        T findObject = this.entityLoader.find(clazz, id);
-        EntityData entityData = EntityData.createEntityData(findObject);
+    //같은 Entity 여러건을 multi-row insert로 저장한다.
+    //DB가 PK를 생성하는 Entity와 이미 영속성 컨텍스트에 상태가 있는 Entity는 persist와 같게 처리되도록 한건씩 저장한다.
+    @Override
+    public void persistAll(Collection<?> entityInstances) {
+        Map<Class<?>, List<EntityData>> entityDataByClass = new LinkedHashMap<>();
+        List<EntityKey> savingKeys = new ArrayList<>();
+        try {
+            for (Object entityInstance : entityInstances) {
+                EntityData entityData = EntityData.createEntityData(entityInstance);
+                EntityKey entityKey = new EntityKey(entityData);
+                if (isGeneratedId(entityData) || this.persistenceContext.getEntityEntryMap(entityKey) != null) {
+                    persist(entityInstance);
+                    continue;
+                }
+                this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.SAVING);
+                savingKeys.add(entityKey);
+                entityDataByClass.computeIfAbsent(entityData.getClazz(), key -> new ArrayList<>()).add(entityData);
+            }
+
+            entityDataByClass.values().forEach(entityDataList -> {
+                this.entityPersister.persistAll(entityDataList);
+                for (EntityData entityData : entityDataList) {
+                    EntityKey entityKey = new EntityKey(entityData);
+                    insertPersistenceContext(entityKey, entityData);
+                    this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.MANAGED);
+                    registerNaturalId(entityData.getEntityInstance(), entityKey.getId());
+                }
+            });
+        } catch (RuntimeException e) {
+            //저장하지 못한 Entity는 SAVING 상태를 남기지 않아 다시 persist 할 수 있게 한다.
+            savingKeys.stream()
+                    .filter(entityKey -> isSaving(this.persistenceContext.getEntityEntryMap(entityKey)))
+                    .forEach(this.persistenceContext::deleteEntityEntryMap);
+            throw e;
+        }
+    }
+
+    private boolean isSaving(EntityEntry entityEntry) {
+        return entityEntry != null && entityEntry.checkEntityStatus(EntityStatus.SAVING);
+    }
+
+    //PK가 DB에 존재하면 전체 컬럼을 수정하고 없으면 저장한다. 조회 없이 한번의 쿼리로 실행된다.
+    @Override
+    public void upsert(Object entityInstance) {
+        EntityData entityData = EntityData.createEntityData(entityInstance);
+        EntityKey entityKey = new EntityKey(entityData);
+        evictNaturalId(this.persistenceContext.getDatabaseSnapshot(entityKey));
+
+        this.entityPersister.upsert(entityData);
 
         insertPersistenceContext(entityKey, entityData);
         this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.MANAGED);
+        registerNaturalId(entityInstance, entityKey.getId());
+    }
 
-        return findObject;
+    @Override
+    public void merge(Object entityInstance) {
+        long startTime = System.nanoTime();
+        EntityMergeEvent event = new EntityMergeEvent();
+        event.begin();
+        EntityData entityData = EntityData.createEntityData(entityInstance);
+        EntityKey entityKey = new EntityKey(entityData);
+        try {
+
+            EntityEntry entityEntry = this.persistenceContext.getEntityEntryMap(entityKey);
+
+            if (entityEntry != null && !entityEntry.checkEntityStatus(EntityStatus.MANAGED)) {
+                return;
+            }
+
+            this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.SAVING);
+            evictNaturalId(this.persistenceContext.getDatabaseSnapshot(entityKey));
+
+            List<DMLColumnData> columns = entityData.getColumns();
+            EntityData diffBuilderData = checkDirtyCheck(entityData);
+            event.changedColumns(diffBuilderData.getColumns().size());
+            if (diffBuilderData.getColumns().isEmpty()) {
+                this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.MANAGED);
+                registerNaturalId(entityInstance, entityKey.getId());
+                return;
+            }
+
+            if (this.updateMode == UpdateMode.ALL_COLUMNS) {
+                diffBuilderData = entityData.changeColumns(loadedColumns(columns));
+            }
+
+            this.entityPersister.merge(diffBuilderData);
+
+            //스냅샷에는 변경된 컬럼만이 아닌 전체 컬럼을 저장해야 다음 dirty check가 가능하다.
+            insertPersistenceContext(entityKey, entityData.changeColumns(columns));
+            this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.MANAGED);
+            registerNaturalId(entityInstance, entityKey.getId());
+        } finally {
+            MERGE_TIMER.recordSince(startTime);
+            event.commitWith(entityKey.getClazz(), entityKey.getId());
+        }
     }
 
     @Override
-    public void persist(Object entityInstance) {
+    public void remove(Object entityInstance) {
+        long startTime = System.nanoTime();
+        EntityRemoveEvent event = new EntityRemoveEvent();
+        event.begin();
         EntityData entityData = EntityData.createEntityData(entityInstance);
         EntityKey entityKey = new EntityKey(entityData);
+        try {
 
-        EntityEntry entityEntry = this.persistenceContext.getEntityEntryMap(entityKey);
+            EntityEntry entityEntry = this.persistenceContext.getEntityEntryMap(entityKey);
 
-        if (entityEntry != null && !entityEntry.checkEntityStatus(EntityStatus.MANAGED)) {
-            return;
+            if (entityEntry != null && entityEntry.checkEntityStatus(EntityStatus.GONE)) {
+                return;
+            }
+
+            this.entityPersister.remove(entityData);
+            this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.DELETED);
+            evictNaturalId(this.persistenceContext.getDatabaseSnapshot(entityKey));
+            evictNaturalId(entityData);
+
+            this.persistenceContext.deleteEntity(entityKey);
+            this.persistenceContext.deleteDatabaseSnapshot(entityKey);
+            this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.GONE);
+        } finally {
+            REMOVE_TIMER.recordSince(startTime);
+            event.commitWith(entityKey.getClazz(), entityKey.getId());
         }
+    }
+
+    //한번의 update 쿼리로 일괄 수정 후, 영속성 컨텍스트에서 해당 클래스의 Entity를 제거한다.
+    @Override
+    public <T> int updateWhere(Class<T> clazz, Map<String, Object> assignments, Condition condition) {
+        int updatedCount = this.entityPersister.updateWhere(EntityData.createEntityData(clazz, null), assignments, condition);
+        this.persistenceContext.evictEntities(clazz);
+        evictNaturalIds(clazz);
+        return updatedCount;
+    }
 
-        this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.SAVING);
+    //한번의 delete 쿼리로 일괄 삭제 후, 영속성 컨텍스트에서 해당 클래스의 Entity를 제거한다.
+    @Override
+    public <T> int deleteWhere(Class<T> clazz, Condition condition) {
+        int deletedCount = this.entityPersister.deleteWhere(EntityData.createEntityData(clazz, null), condition);
+        this.persistenceContext.evictEntities(clazz);
+        evictNaturalIds(clazz);
+        return deletedCount;
+    }
 
-        this.entityPersister.persist(entityData);
+    //natural id 캐시에서 PK를 찾으면 PK로 조회하므로, 이미 관리중인 Entity는 쿼리를 실행하지 않는다.
+    //캐시에 없거나, 값이 바뀌었거나, 다른 세션에서 행이 삭제된 경우에만 natural id 컬럼으로 조회한다.
+    @Override
+    public <T> T findByNaturalId(Class<T> clazz, Object naturalId) {
+        Field naturalIdField = NaturalIdCache.naturalIdField(clazz)
+                .orElseThrow(() -> new IllegalArgumentException(NOT_EXIST_NATURAL_ID_MESSAGE + clazz.getName()));
 
-        insertPersistenceContext(entityKey, entityData);
-        this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.MANAGED);
+        Object id = this.naturalIdCache.get(clazz, naturalId);
+        if (id == null && this.sharedNaturalIdCache != null) {
+            id = this.sharedNaturalIdCache.get(clazz, naturalId);
+        }
+        if (id != null) {
+            T findObject = findIfExists(clazz, id);
+            if (findObject != null && Objects.equals(NaturalIdCache.naturalIdOf(findObject), naturalId)) {
+                return findObject;
+            }
+            evictNaturalId(clazz, naturalId);
+        }
+
+        List<T> findObjects = findAll(clazz, Criteria.createCriteria().where(Condition.eq(ColumnUtil.columnName(naturalIdField), naturalId)));
+        if (findObjects.size() != 1) {
+            throw new RuntimeException(NOT_SINGLE_RESULT_MESSAGE + findObjects.size());
+        }
+        return findObjects.get(0);
+    }
+
+    //관리중인 Entity는 영속성 컨텍스트에서 가져오고, 아니면 PK 조건으로 조회한다. 행이 없으면 null을 반환한다.
+    private <T> T findIfExists(Class<T> clazz, Object id) {
+        EntityEntry entityEntry = this.persistenceContext.getEntityEntryMap(new EntityKey(id, clazz));
+        if (entityEntry != null && entityEntry.checkEntityStatus(EntityStatus.MANAGED)) {
+            return find(clazz, id);
+        }
+        String pkName = EntityData.createEntityData(clazz, null).getPkNm();
+        List<T> findObjects = findAll(clazz, Criteria.createCriteria().where(Condition.eq(pkName, id)));
+        return findObjects.isEmpty() ? null : findObjects.get(0);
     }
 
+    //여러 EntityManager가 함께 쓰는 natural id 캐시를 추가한다. 세션 캐시에 없으면 이 캐시를 확인한다.
     @Override
-    public void merge(Object entityInstance) {
-        EntityData entityData = EntityData.createEntityData(entityInstance);
-        EntityKey entityKey = new EntityKey(entityData);
+    public void setSharedNaturalIdCache(NaturalIdCache sharedNaturalIdCache) {
+        this.sharedNaturalIdCache = sharedNaturalIdCache;
+    }
 
-        EntityEntry entityEntry = this.persistenceContext.getEntityEntryMap(entityKey);
+    //merge 시 변경된 컬럼만 수정할지, 전체 컬럼을 수정할지 정한다. 기본값은 DIRTY_COLUMNS 이다.
+    @Override
+    public void setUpdateMode(UpdateMode updateMode) {
+        this.updateMode = updateMode;
+    }
 
-        if (entityEntry != null && !entityEntry.checkEntityStatus(EntityStatus.MANAGED)) {
-            return;
+    @Override
+    public <T> TypedQuery<T> createQuery(Class<T> clazz) {
+        return new TypedQuery<>(clazz, this);
+    }
+
+    //조건에 맞는 Entity 목록을 조회한다. 이미 관리중인 Entity는 영속성 컨텍스트의 객체를 반환한다.
+    @Override
+    public <T> List<T> findAll(Class<T> clazz, Criteria criteria) {
+        long startTime = System.nanoTime();
+        try {
+            List<T> findObjects = this.entityLoader.findAll(clazz, criteria);
+            this.associationLoader.prefetchReferences(findObjects);
+            return findObjects.stream()
+                    .map(findObject -> manage(clazz, findObject))
+                    .toList();
+        } finally {
+            FIND_ALL_TIMER.recordSince(startTime);
         }
+    }
 
-        this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.SAVING);
+    //연관관계 필드를 join으로 함께 조회하여 한번의 쿼리로 root와 연관 Entity를 모두 영속성 컨텍스트에 등록한다.
+    @Override
+    public <T> List<T> findAll(Class<T> clazz, Criteria criteria, String joinFetchField) {
+        long startTime = System.nanoTime();
+        try {
+            Field associationField = AssociationUtil.associationField(clazz, joinFetchField);
+            List<Object[]> rows = this.entityLoader.findAllJoinFetch(clazz, criteria, associationField);
+            if (AssociationUtil.isReference(associationField)) {
+                return manageReferenceRows(clazz, rows);
+            }
+            return manageCollectionRows(clazz, associationField, rows);
+        } finally {
+            FIND_ALL_TIMER.recordSince(startTime);
+        }
+    }
 
-        EntityData diffBuilderData = checkDirtyCheck(entityData);
-        if (diffBuilderData.getColumns().isEmpty()) {
-            return;
+    @Override
+    public <R> ProjectionQuery<R> createProjection(Class<?> entityClass, Class<R> resultType, String... columnNames) {
+        return new ProjectionQuery<>(entityClass, resultType, this, columnNames);
+    }
+
+    //선택한 컬럼만 조회하여 DTO로 변환한다. 스냅샷을 만들지 않고 영속성 컨텍스트에도 등록하지 않는다.
+    @Override
+    public <R> List<R> findProjection(Class<?> entityClass, Class<R> resultType, Criteria criteria) {
+        return this.entityLoader.findProjection(entityClass, resultType, criteria);
+    }
+
+    //count, exists, sum/min/max/avg, groupBy를 DB에서 집계한다. Entity를 조회하지 않는다.
+    @Override
+    public AggregateQuery createAggregate(Class<?> clazz) {
+        return new AggregateQuery(clazz, this.entityLoader);
+    }
+
+    @Override
+    public <T> Page<T> page(Class<T> clazz, String orderByColumn, String afterToken, int pageSize) {
+        return page(clazz, orderByColumn, afterToken, pageSize, true);
+    }
+
+    //키셋 방식으로 한 페이지를 조회한다. managed가 false면 영속성 컨텍스트에 등록하지 않아 메모리가 늘지 않는다.
+    @Override
+    public <T> Page<T> page(Class<T> clazz, String orderByColumn, String afterToken, int pageSize, boolean managed) {
+        Page<T> page = this.entityLoader.findPage(clazz, orderByColumn, afterToken, pageSize);
+        if (!managed) {
+            return page;
         }
+        this.associationLoader.prefetchReferences(page.getContent());
+        List<T> content = page.getContent().stream()
+                .map(findObject -> manage(clazz, findObject))
+                .toList();
+        return new Page<>(content, page.getNextToken());
+    }
 
-        this.entityPersister.merge(diffBuilderData);
+    //@Basic(fetch = LAZY) 필드를 조회해 채운다. 불러온 값이 변경으로 감지되지 않도록 스냅샷에도 반영한다.
+    //스냅샷은 불러온 컬럼 값만 바꾼다. 다른 필드의 아직 반영하지 않은 변경은 다음 merge에서 감지되어야 한다.
+    @Override
+    public void initialize(Object entityInstance, String fieldName) {
+        Class<?> clazz = entityInstance.getClass();
+        Field field = ColumnUtil.columnField(clazz, fieldName);
+        Object id = AssociationUtil.idValue(entityInstance);
+        Object value = this.entityLoader.findColumn(clazz, id, field);
+        setField(field, entityInstance, value);
 
-        insertPersistenceContext(entityKey, entityData);
-        this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.MANAGED);
+        EntityKey entityKey = new EntityKey(id, clazz);
+        EntityData snapshotEntityData = this.persistenceContext.getDatabaseSnapshot(entityKey);
+        if (snapshotEntityData != null) {
+            Object managedInstance = snapshotEntityData.getEntityInstance();
+            setField(field, managedInstance, value);
+            snapshotEntityData.changeColumnValue(ColumnUtil.columnName(field), value);
+        }
     }
 
     @Override
-    public void remove(Object entityInstance) {
-        EntityData entityData = EntityData.createEntityData(entityInstance);
-        EntityKey entityKey = new EntityKey(entityData);
+    public <R> R readBinary(Class<?> clazz, Object id, String fieldName, StreamReader<InputStream, R> reader) {
+        return this.entityLoader.readBinary(clazz, id, ColumnUtil.columnName(ColumnUtil.columnField(clazz, fieldName)), reader);
+    }
 
+    @Override
+    public <R> R readCharacters(Class<?> clazz, Object id, String fieldName, StreamReader<Reader, R> reader) {
+        return this.entityLoader.readCharacters(clazz, id, ColumnUtil.columnName(ColumnUtil.columnField(clazz, fieldName)), reader);
+    }
+
+    //스트림을 그대로 컬럼에 쓴다. 영속성 컨텍스트의 Entity와 스냅샷은 바꾸지 않는다.
+    @Override
+    public void writeBinary(Class<?> clazz, Object id, String fieldName, InputStream inputStream) {
+        writeColumn(clazz, id, fieldName, inputStream);
+    }
+
+    @Override
+    public void writeCharacters(Class<?> clazz, Object id, String fieldName, Reader reader) {
+        writeColumn(clazz, id, fieldName, reader);
+    }
+
+    @Override
+    public void setBatchFetchSize(int batchFetchSize) {
+        this.associationLoader.setBatchFetchSize(batchFetchSize);
+    }
+
+    @Override
+    public SessionStatistics getStatistics() {
+        return this.sessionStatistics;
+    }
+
+    //work 안에서 실행되는 모든 쿼리는 timeout 안에 끝나야 하며, 넘으면 QueryCancelledException이 발생한다.
+    @Override
+    public <T> T withDeadline(Duration timeout, Supplier<T> work) {
+        return QueryDeadline.within(timeout, work);
+    }
+
+    private <T> T manage(Class<T> clazz, T findObject) {
+        EntityKey entityKey = new EntityKey(AssociationUtil.idValue(findObject), clazz);
         EntityEntry entityEntry = this.persistenceContext.getEntityEntryMap(entityKey);
 
-        if (entityEntry != null && entityEntry.checkEntityStatus(EntityStatus.GONE)) {
+        if (entityEntry != null && entityEntry.checkEntityStatus(EntityStatus.MANAGED)) {
+            this.sessionStatistics.persistenceContextHit();
+            return clazz.cast(this.persistenceContext.findEntity(entityKey).getEntityInstance());
+        }
+
+        //스냅샷에 연결된 연관관계가 담기도록 EntityData를 만들기 전에 연결한다.
+        this.associationLoader.resolve(findObject);
+        EntityData entityData = EntityData.createEntityData(findObject);
+        insertPersistenceContext(entityKey, entityData);
+        this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.MANAGED);
+        registerNaturalId(findObject, entityKey.getId());
+        return findObject;
+    }
+
+    //참조 Entity를 먼저 등록해 root의 @ManyToOne이 영속성 컨텍스트에서 바로 연결되도록 한다.
+    private <T> List<T> manageReferenceRows(Class<T> clazz, List<Object[]> rows) {
+        List<T> results = new ArrayList<>();
+        for (Object[] row : rows) {
+            if (row[1] != null) {
+                manageEntity(row[1]);
+            }
+            results.add(manage(clazz, clazz.cast(row[0])));
+        }
+        return results;
+    }
+
+    //root를 먼저 등록한 뒤 원소를 등록하고, 조회한 원소로 root의 컬렉션을 초기화한다.
+    private <T> List<T> manageCollectionRows(Class<T> clazz, Field collectionField, List<Object[]> rows) {
+        Map<Object, T> roots = new LinkedHashMap<>();
+        Map<Object, List<Object>> elementsByRoot = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            Object rootId = AssociationUtil.idValue(row[0]);
+            if (!roots.containsKey(rootId)) {
+                roots.put(rootId, manage(clazz, clazz.cast(row[0])));
+                elementsByRoot.put(rootId, new ArrayList<>());
+            }
+            if (row[1] != null) {
+                elementsByRoot.get(rootId).add(row[1]);
+            }
+        }
+        elementsByRoot.forEach((rootId, elements) -> {
+            List<Object> managedElements = elements.stream()
+                    .map(this::manageEntity)
+                    .toList();
+            this.associationLoader.initializeCollection(roots.get(rootId), collectionField, managedElements);
+        });
+        return new ArrayList<>(roots.values());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object manageEntity(Object findObject) {
+        return manage((Class<Object>) findObject.getClass(), findObject);
+    }
+
+    private void writeColumn(Class<?> clazz, Object id, String fieldName, Object stream) {
+        EntityData entityData = EntityData.createEntityData(clazz, id);
+        String columnName = ColumnUtil.columnName(ColumnUtil.columnField(clazz, fieldName));
+        this.entityPersister.updateWhere(entityData, Map.of(columnName, stream), Condition.eq(entityData.getPkNm(), id));
+    }
+
+    private boolean isGeneratedId(EntityData entityData) {
+        return entityData.getId() == null && ColumnUtil.isIdentity(AssociationUtil.idField(entityData.getClazz()));
+    }
+
+    private EntityData persistWithGeneratedId(Object entityInstance, EntityData entityData) {
+        Field idField = AssociationUtil.idField(entityData.getClazz());
+        Object id = this.entityPersister.persistWithGeneratedId(entityData);
+        setField(idField, entityInstance, EntityMapper.mapColumnValue(idField.getType(), id));
+        return EntityData.createEntityData(entityInstance);
+    }
+
+    private void registerNaturalId(Object entityInstance, Object id) {
+        Object naturalId = NaturalIdCache.naturalIdOf(entityInstance);
+        if (naturalId == null) {
             return;
         }
+        this.naturalIdCache.put(entityInstance.getClass(), naturalId, id);
+        if (this.sharedNaturalIdCache != null) {
+            this.sharedNaturalIdCache.put(entityInstance.getClass(), naturalId, id);
+        }
+    }
 
-        this.entityPersister.remove(entityData);
-        this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.DELETED);
+    //저장된 natural id 값으로 등록된 캐시를 제거한다. 스냅샷이 없으면 아무것도 하지 않는다.
+    private void evictNaturalId(EntityData snapshotEntityData) {
+        if (snapshotEntityData == null || snapshotEntityData.getEntityInstance() == null) {
+            return;
+        }
+        Object naturalId = NaturalIdCache.naturalIdOf(snapshotEntityData.getEntityInstance());
+        if (naturalId != null) {
+            evictNaturalId(snapshotEntityData.getClazz(), naturalId);
+        }
+    }
 
-        this.persistenceContext.deleteEntity(entityKey);
-        this.persistenceContext.deleteDatabaseSnapshot(entityKey);
-        this.persistenceContext.insertEntityEntryMap(entityKey, EntityStatus.GONE);
+    private void evictNaturalId(Class<?> clazz, Object naturalId) {
+        this.naturalIdCache.evict(clazz, naturalId);
+        if (this.sharedNaturalIdCache != null) {
+            this.sharedNaturalIdCache.evict(clazz, naturalId);
+        }
+    }
+
+    private void evictNaturalIds(Class<?> clazz) {
+        this.naturalIdCache.evictAll(clazz);
+        if (this.sharedNaturalIdCache != null) {
+            this.sharedNaturalIdCache.evictAll(clazz);
+        }
+    }
+
+    private void setField(Field field, Object entityInstance, Object value) {
+        try {
+            field.set(entityInstance, value);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(FAILED_ACCESS_FIELD + field.getName(), e);
+        }
+    }
+
+    //불러오지 않은 지연 로딩 컬럼을 제외한 컬럼들
+    private List<DMLColumnData> loadedColumns(List<DMLColumnData> columns) {
+        return columns.stream()
+                .filter(column -> !column.isLazy() || column.getColumnValue() != null)
+                .toList();
     }
 
     private EntityData checkDirtyCheck(EntityData entityBuilderData) {
@@ -111,6 +607,12 @@ public class EntityManagerImpl implements EntityManager {
 
         EntityData snapshotEntityData = this.persistenceContext.getDatabaseSnapshot(entityKey);
 
+        //일괄 수정/삭제로 스냅샷이 제거된 Entity는 전체 컬럼을 수정한다.
+        //불러오지 않은 지연 로딩 컬럼은 NULL로 덮어쓰지 않는다.
+        if (snapshotEntityData == null) {
+            return entityBuilderData.changeColumns(loadedColumns(entityBuilderData.getColumns()));
+        }
+
         List<DMLColumnData> differentColumns = entityBuilderData.getDifferentColumns(snapshotEntityData);
 
         return entityBuilderData.changeColumns(differentColumns);
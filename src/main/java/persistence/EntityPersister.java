@@ -1,39 +1,142 @@
 package persistence;
 
+import builder.ddl.dataType.DB;
+import builder.dialect.Dialect;
 import builder.dml.EntityData;
 import builder.dml.builder.DeleteQueryBuilder;
+import builder.dml.builder.DeleteWhereQueryBuilder;
 import builder.dml.builder.InsertQueryBuilder;
 import builder.dml.builder.SelectByIdQueryBuilder;
 import builder.dml.builder.UpdateQueryBuilder;
+import builder.dml.builder.UpdateWhereQueryBuilder;
+import builder.dml.builder.UpsertQueryBuilder;
+import builder.dml.query.Condition;
 import jdbc.EntityMapper;
 import jdbc.JdbcTemplate;
+import jfr.EntityWriteEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 public class EntityPersister {
 
     private final static String DATA_NOT_EXIST_MESSAGE = "데이터가 존재하지 않습니다. : ";
+    //multi-row insert 한번에 저장할 최대 행 수
+    private final static int MULTI_ROW_INSERT_SIZE = 100;
     private final JdbcTemplate jdbcTemplate;
+    private final SessionStatistics sessionStatistics;
 
-    private final InsertQueryBuilder insertQueryBuilder = new InsertQueryBuilder();
+    private final InsertQueryBuilder insertQueryBuilder;
+    private final UpsertQueryBuilder upsertQueryBuilder;
     private final UpdateQueryBuilder updateQueryBuilder = new UpdateQueryBuilder();
     private final DeleteQueryBuilder deleteQueryBuilder = new DeleteQueryBuilder();
+    private final UpdateWhereQueryBuilder updateWhereQueryBuilder = new UpdateWhereQueryBuilder();
+    private final DeleteWhereQueryBuilder deleteWhereQueryBuilder = new DeleteWhereQueryBuilder();
 
     public EntityPersister(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, new SessionStatistics());
+    }
+
+    public EntityPersister(JdbcTemplate jdbcTemplate, SessionStatistics sessionStatistics) {
+        this(jdbcTemplate, sessionStatistics, DB.H2.getDialect());
+    }
+
+    public EntityPersister(JdbcTemplate jdbcTemplate, SessionStatistics sessionStatistics, Dialect dialect) {
         this.jdbcTemplate = jdbcTemplate;
+        this.sessionStatistics = sessionStatistics;
+        this.insertQueryBuilder = new InsertQueryBuilder(dialect);
+        this.upsertQueryBuilder = new UpsertQueryBuilder(dialect);
     }
 
-    //데이터를 반영한다.
+    //데이터를 반영한다. 컬럼 값은 모두 파라미터로 바인딩한다.
     public void persist(EntityData EntityData) {
-        jdbcTemplate.execute(insertQueryBuilder.buildQuery(EntityData));
+        EntityWriteEvent event = new EntityWriteEvent();
+        event.begin();
+        int rowCount = jdbcTemplate.executeUpdate(insertQueryBuilder.buildQuery(EntityData), EntityData.getParameters());
+        event.commitWith(EntityData.getClazz(), "persist", rowCount);
+        sessionStatistics.queryExecuted();
+    }
+
+    //PK를 DB가 생성하도록 저장하고 생성된 PK를 반환한다.
+    public Object persistWithGeneratedId(EntityData entityData) {
+        EntityWriteEvent event = new EntityWriteEvent();
+        event.begin();
+        Object[] parameters = entityData.getParametersWithoutPk();
+        Object id = insertQueryBuilder.buildInsertReturningQuery(entityData)
+                .map(query -> jdbcTemplate.queryForObject(query, resultSet -> resultSet.getObject(1), parameters))
+                .orElseGet(() -> jdbcTemplate.executeInsertForGeneratedKey(insertQueryBuilder.buildGeneratedIdQuery(entityData), parameters));
+        event.commitWith(entityData.getClazz(), "persist", 1);
+        sessionStatistics.queryExecuted();
+        return id;
+    }
+
+    //같은 Entity 여러건을 MULTI_ROW_INSERT_SIZE 단위의 multi-row insert로 저장한다.
+    public void persistAll(List<EntityData> entityDataList) {
+        for (int from = 0; from < entityDataList.size(); from += MULTI_ROW_INSERT_SIZE) {
+            List<EntityData> chunk = entityDataList.subList(from, Math.min(from + MULTI_ROW_INSERT_SIZE, entityDataList.size()));
+            Object[] parameters = chunk.stream()
+                    .flatMap(entityData -> Arrays.stream(entityData.getParameters()))
+                    .toArray();
+            EntityWriteEvent event = new EntityWriteEvent();
+            event.begin();
+            int rowCount = jdbcTemplate.executeUpdate(insertQueryBuilder.buildQuery(chunk), parameters);
+            event.commitWith(chunk.get(0).getClazz(), "persistAll", rowCount);
+            sessionStatistics.queryExecuted();
+        }
+    }
+
+    //PK가 존재하면 수정하고 없으면 저장한다.
+    public void upsert(EntityData entityData) {
+        EntityWriteEvent event = new EntityWriteEvent();
+        event.begin();
+        int rowCount = jdbcTemplate.executeUpdate(upsertQueryBuilder.buildQuery(entityData), entityData.getParameters());
+        event.commitWith(entityData.getClazz(), "upsert", rowCount);
+        sessionStatistics.queryExecuted();
     }
 
     //데이터를 수정한다.
     public void merge(EntityData EntityData) {
-        jdbcTemplate.execute(updateQueryBuilder.buildQuery(EntityData));
+        EntityWriteEvent event = new EntityWriteEvent();
+        event.begin();
+        int rowCount = jdbcTemplate.executeUpdate(updateQueryBuilder.buildQuery(EntityData), EntityData.getUpdateParameters());
+        event.commitWith(EntityData.getClazz(), "merge", rowCount);
+        sessionStatistics.queryExecuted();
     }
 
     //데이터를 제거한다.
     public void remove(EntityData EntityData) {
-        jdbcTemplate.execute(deleteQueryBuilder.buildQuery(EntityData));
+        EntityWriteEvent event = new EntityWriteEvent();
+        event.begin();
+        int rowCount = jdbcTemplate.executeUpdate(deleteQueryBuilder.buildQuery(EntityData), EntityData.getId());
+        event.commitWith(EntityData.getClazz(), "remove", rowCount);
+        sessionStatistics.queryExecuted();
+    }
+
+    //조건에 해당하는 데이터를 한번의 쿼리로 일괄 수정한다.
+    public int updateWhere(EntityData entityData, Map<String, Object> assignments, Condition condition) {
+        List<Object> parameters = new ArrayList<>(assignments.values());
+        if (condition != null) {
+            parameters.addAll(condition.getParameters());
+        }
+        EntityWriteEvent event = new EntityWriteEvent();
+        event.begin();
+        int updatedCount = jdbcTemplate.executeUpdate(updateWhereQueryBuilder.buildQuery(entityData, assignments, condition), parameters.toArray());
+        event.commitWith(entityData.getClazz(), "updateWhere", updatedCount);
+        sessionStatistics.queryExecuted();
+        return updatedCount;
+    }
+
+    //조건에 해당하는 데이터를 한번의 쿼리로 일괄 삭제한다.
+    public int deleteWhere(EntityData entityData, Condition condition) {
+        Object[] parameters = condition == null ? new Object[0] : condition.getParameters().toArray();
+        EntityWriteEvent event = new EntityWriteEvent();
+        event.begin();
+        int deletedCount = jdbcTemplate.executeUpdate(deleteWhereQueryBuilder.buildQuery(entityData, condition), parameters);
+        event.commitWith(entityData.getClazz(), "deleteWhere", deletedCount);
+        sessionStatistics.queryExecuted();
+        return deletedCount;
     }
 
 }
@@ -0,0 +1,65 @@
+package persistence;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+//@OneToMany 컬렉션. 처음 접근할 때 loader로 조회하고, 이후에는 조회한 목록을 사용한다.
+public class LazyList<E> extends AbstractList<E> {
+
+    private final Supplier<List<E>> loader;
+    private List<E> elements;
+
+    public LazyList(Supplier<List<E>> loader) {
+        this.loader = loader;
+    }
+
+    public boolean isInitialized() {
+        return this.elements != null;
+    }
+
+    //이미 조회한 목록을 채운다. 일괄 조회로 함께 읽은 컬렉션을 초기화할 때 사용한다.
+    void initialize(List<E> elements) {
+        if (this.elements == null) {
+            this.elements = new ArrayList<>(elements);
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return load().get(index);
+    }
+
+    @Override
+    public int size() {
+        return load().size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return load().set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        load().add(index, element);
+    }
+
+    @Override
+    public E remove(int index) {
+        return load().remove(index);
+    }
+
+    @Override
+    public String toString() {
+        return isInitialized() ? this.elements.toString() : "LazyList{uninitialized}";
+    }
+
+    private List<E> load() {
+        if (this.elements == null) {
+            this.elements = new ArrayList<>(this.loader.get());
+        }
+        return this.elements;
+    }
+}
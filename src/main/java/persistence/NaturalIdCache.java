@@ -0,0 +1,88 @@
+package persistence;
+
+import annotation.NaturalId;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+//natural id 값으로 PK를 찾는 캐시. EntityManager마다 하나를 쓰고, getShared()로 여러 세션이 함께 쓰는 캐시를 추가할 수 있다.
+public class NaturalIdCache {
+
+    private final static String MAX_SIZE_PROPERTY = "persistence.naturalIdCache.maxSize";
+    private final static int DEFAULT_MAX_SIZE = 10_000;
+    private final static String FAILED_ACCESS_FIELD = "natural id 필드에 접근을 실패했습니다. field: ";
+    private final static NaturalIdCache SHARED = new NaturalIdCache(Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE));
+
+    //클래스별 @NaturalId 필드. 없으면 Optional.empty() 이다.
+    private final static ClassValue<Optional<Field>> NATURAL_ID_FIELDS = new ClassValue<>() {
+        @Override
+        protected Optional<Field> computeValue(Class<?> type) {
+            return Arrays.stream(type.getDeclaredFields())
+                    .filter(field -> field.isAnnotationPresent(NaturalId.class))
+                    .peek(field -> field.setAccessible(true))
+                    .findFirst();
+        }
+    };
+
+    private final Map<NaturalIdKey, Object> ids = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public NaturalIdCache() {
+        this(Integer.MAX_VALUE);
+    }
+
+    //maxSize를 넘으면 캐시를 비우고 다시 채운다.
+    public NaturalIdCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public static NaturalIdCache getShared() {
+        return SHARED;
+    }
+
+    static Optional<Field> naturalIdField(Class<?> clazz) {
+        return NATURAL_ID_FIELDS.get(clazz);
+    }
+
+    //Entity의 natural id 값. @NaturalId가 없으면 null 이다.
+    static Object naturalIdOf(Object entityInstance) {
+        Optional<Field> naturalIdField = naturalIdField(entityInstance.getClass());
+        if (naturalIdField.isEmpty()) {
+            return null;
+        }
+        try {
+            return naturalIdField.get().get(entityInstance);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(FAILED_ACCESS_FIELD + naturalIdField.get().getName(), e);
+        }
+    }
+
+    public Object get(Class<?> clazz, Object naturalId) {
+        return this.ids.get(new NaturalIdKey(clazz, naturalId));
+    }
+
+    public void put(Class<?> clazz, Object naturalId, Object id) {
+        if (this.ids.size() >= this.maxSize) {
+            this.ids.clear();
+        }
+        this.ids.put(new NaturalIdKey(clazz, naturalId), id);
+    }
+
+    public void evict(Class<?> clazz, Object naturalId) {
+        this.ids.remove(new NaturalIdKey(clazz, naturalId));
+    }
+
+    public void evictAll(Class<?> clazz) {
+        this.ids.keySet().removeIf(key -> key.clazz().equals(clazz));
+    }
+
+    public int size() {
+        return this.ids.size();
+    }
+
+    private record NaturalIdKey(Class<?> clazz, Object naturalId) {
+    }
+}
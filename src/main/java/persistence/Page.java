@@ -0,0 +1,27 @@
+package persistence;
+
+import java.util.List;
+
+public class Page<T> {
+
+    private final List<T> content;
+    private final String nextToken;
+
+    public Page(List<T> content, String nextToken) {
+        this.content = content;
+        this.nextToken = nextToken;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    //다음 페이지를 조회할 때 넘겨줄 토큰. 마지막 페이지면 null 이다.
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public boolean hasNext() {
+        return nextToken != null;
+    }
+}
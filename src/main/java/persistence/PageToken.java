@@ -0,0 +1,100 @@
+package persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class PageToken {
+
+    private final static String NOT_ALLOWED_KEY_TYPE = "페이지 키로 지원하지 않는 타입입니다. type: ";
+    private final static String INVALID_TOKEN_MESSAGE = "올바르지 않은 페이지 토큰입니다. token: ";
+    private final static String MISMATCHED_TOKEN_MESSAGE = "다른 조회에서 발급된 페이지 토큰입니다. token: ";
+    private final static String SEPARATOR = "|";
+    private final static String DELIMITER = ":";
+    private final static String LONG = "L";
+    private final static String INTEGER = "I";
+    private final static String STRING = "S";
+
+    private PageToken() {
+    }
+
+    //마지막 행의 키 값과 PK 값을 발급한 클래스, 키 컬럼과 함께 불투명한 토큰 문자열로 만든다.
+    //값은 타입과 길이를 앞에 붙여 문자열 키에 구분자가 있어도 복원할 수 있다. ex) L2:10
+    public static String encode(Class<?> clazz, String keyColumnName, Object key, Object id) {
+        String raw = clazz.getName() + SEPARATOR + keyColumnName + SEPARATOR + encodeValue(key) + encodeValue(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    //토큰 문자열을 마지막 위치로 복원한다. 토큰이 없으면 첫 페이지로 보고 null을 반환한다.
+    //다른 클래스나 키 컬럼으로 발급된 토큰이면 예외가 발생한다.
+    public static Position decode(String token, Class<?> clazz, String keyColumnName) {
+        if (token == null) {
+            return null;
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_TOKEN_MESSAGE + token, e);
+        }
+        String issuer = clazz.getName() + SEPARATOR + keyColumnName + SEPARATOR;
+        if (!raw.startsWith(issuer)) {
+            throw new IllegalArgumentException(MISMATCHED_TOKEN_MESSAGE + token);
+        }
+        try {
+            Cursor cursor = new Cursor(raw, issuer.length());
+            Position position = new Position(cursor.nextValue(), cursor.nextValue());
+            if (!cursor.isEnd()) {
+                throw new IllegalArgumentException(INVALID_TOKEN_MESSAGE + token);
+            }
+            return position;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException(INVALID_TOKEN_MESSAGE + token, e);
+        }
+    }
+
+    private static String encodeValue(Object value) {
+        String text = String.valueOf(value);
+        return typeOf(value) + text.length() + DELIMITER + text;
+    }
+
+    private static String typeOf(Object key) {
+        if (key instanceof Long) return LONG;
+        if (key instanceof Integer) return INTEGER;
+        if (key instanceof String) return STRING;
+        throw new IllegalArgumentException(NOT_ALLOWED_KEY_TYPE + (key == null ? null : key.getClass()));
+    }
+
+    //마지막으로 조회한 행의 키 값과 PK 값. 키 값이 같은 행은 PK 순서로 이어서 조회한다.
+    public record Position(Object key, Object id) {
+    }
+
+    //토큰에서 타입, 길이가 붙은 값을 앞에서부터 차례로 읽는다.
+    private static class Cursor {
+
+        private final String raw;
+        private int index;
+
+        private Cursor(String raw, int index) {
+            this.raw = raw;
+            this.index = index;
+        }
+
+        private Object nextValue() {
+            String type = raw.substring(index, index + 1);
+            int delimiterIndex = raw.indexOf(DELIMITER, index);
+            int length = Integer.parseInt(raw.substring(index + 1, delimiterIndex));
+            String value = raw.substring(delimiterIndex + 1, delimiterIndex + 1 + length);
+            index = delimiterIndex + 1 + length;
+            return switch (type) {
+                case LONG -> Long.valueOf(value);
+                case INTEGER -> Integer.valueOf(value);
+                case STRING -> value;
+                default -> throw new IllegalArgumentException(type);
+            };
+        }
+
+        private boolean isEnd() {
+            return index == raw.length();
+        }
+    }
+}
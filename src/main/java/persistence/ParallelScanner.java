@@ -0,0 +1,129 @@
+package persistence;
+
+import builder.dml.EntityData;
+import builder.dml.query.AggregateFunction;
+import builder.dml.query.Condition;
+import builder.dml.query.Criteria;
+import database.ConnectionPool;
+import jdbc.JdbcTemplate;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+//테이블의 PK 범위를 나누어 구간마다 별도 커넥션과 가상 스레드에서 읽는다.
+//PK는 정수형이어야 하며, 각 구간은 결과를 모으지 않고 한건씩 EntityMapper로 변환하여 consumer에 전달한다.
+public class ParallelScanner {
+
+    private final static String INVALID_PARTITION_COUNT_MESSAGE = "구간 수는 1 이상이어야 합니다. partitionCount: ";
+    private final static String FAILED_SCAN_MESSAGE = "병렬 조회에 실패하였습니다. class: ";
+
+    private final ConnectionPool connectionPool;
+
+    public ParallelScanner(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    //consumer는 여러 스레드에서 동시에 호출되므로 thread-safe 해야 한다. 반환값은 전체 조회 건수이다.
+    //동시에 실행되는 구간 수는 커넥션 풀 크기를 넘지 않는다.
+    public <T> long scan(Class<T> clazz, int partitionCount, Consumer<? super T> consumer) {
+        if (partitionCount <= 0) {
+            throw new IllegalArgumentException(INVALID_PARTITION_COUNT_MESSAGE + partitionCount);
+        }
+        String pkName = EntityData.createEntityData(clazz, null).getPkNm();
+        List<KeyRange> keyRanges = findKeyRange(clazz, pkName)
+                .map(keyRange -> keyRange.split(partitionCount))
+                .orElse(List.of());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Long>> futures = new ArrayList<>(keyRanges.size());
+            for (KeyRange keyRange : keyRanges) {
+                futures.add(executor.submit(() -> withEntityLoader(entityLoader -> entityLoader.scan(clazz, keyRange.toCriteria(pkName), consumer))));
+            }
+            return sum(clazz, futures);
+        }
+    }
+
+    private <T> Optional<KeyRange> findKeyRange(Class<T> clazz, String pkName) {
+        return withEntityLoader(entityLoader -> {
+            Long min = entityLoader.aggregate(clazz, AggregateFunction.MIN, pkName, null, Long.class);
+            Long max = entityLoader.aggregate(clazz, AggregateFunction.MAX, pkName, null, Long.class);
+            return min == null ? Optional.empty() : Optional.of(new KeyRange(min, max));
+        });
+    }
+
+    private <R> R withEntityLoader(Function<EntityLoader, R> work) {
+        Connection connection = connectionPool.acquire();
+        try {
+            return work.apply(new EntityLoader(new JdbcTemplate(connection)));
+        } finally {
+            connectionPool.release(connection);
+        }
+    }
+
+    //모든 구간이 끝날 때까지 기다린 후, 실패한 구간이 있으면 첫번째 예외를 던진다.
+    private long sum(Class<?> clazz, List<Future<Long>> futures) {
+        long total = 0;
+        RuntimeException failure = null;
+        for (Future<Long> future : futures) {
+            try {
+                total += future.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = new RuntimeException(FAILED_SCAN_MESSAGE + clazz.getName(), e.getCause());
+                } else {
+                    failure.addSuppressed(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(FAILED_SCAN_MESSAGE + clazz.getName(), e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return total;
+    }
+
+    //[from, to] 범위의 PK
+    record KeyRange(long from, long to) {
+
+        //구간 크기가 최대 1 차이나도록 나눈다. 범위보다 많은 구간은 만들지 않는다.
+        //to - from 은 long 범위를 넘을 수 있으므로 부호 없는 값으로 계산한다. width는 범위 크기 - 1 이다.
+        List<KeyRange> split(int partitionCount) {
+            long width = to - from;
+            if (partitionCount <= 1 || width == 0) {
+                return List.of(this);
+            }
+            int count = Long.compareUnsigned(width, partitionCount - 1) < 0 ? (int) width + 1 : partitionCount;
+            long quotient = Long.divideUnsigned(width, count);
+            long remainder = Long.remainderUnsigned(width, count) + 1;
+            long baseSize = remainder == count ? quotient + 1 : quotient;
+            if (remainder == count) {
+                remainder = 0;
+            }
+
+            List<KeyRange> keyRanges = new ArrayList<>(count);
+            long start = from;
+            for (int i = 0; i < count; i++) {
+                long size = baseSize + (i < remainder ? 1 : 0);
+                keyRanges.add(new KeyRange(start, start + size - 1));
+                start += size;
+            }
+            return keyRanges;
+        }
+
+        Criteria toCriteria(String pkName) {
+            return Criteria.createCriteria()
+                    .where(Condition.goe(pkName, from))
+                    .where(Condition.loe(pkName, to));
+        }
+    }
+}
@@ -20,4 +20,10 @@ public interface PersistenceContext {
 
     EntityEntry getEntityEntryMap(EntityKey entityKey);
 
+    void deleteEntityEntryMap(EntityKey entityKey);
+
+    void evictEntities(Class<?> clazz);
+
+    void clear();
+
 }
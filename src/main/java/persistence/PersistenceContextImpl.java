@@ -1,12 +1,22 @@
 package persistence;
 
 import builder.dml.EntityData;
+import metrics.MetricsRegistry;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 public class PersistenceContextImpl implements PersistenceContext {
 
+    //모든 영속성 컨텍스트가 관리중인 Entity 수. 컨텍스트가 Entity를 추가, 제거, clear 할 때 함께 증감한다.
+    //clear 하지 않고 버려진 컨텍스트의 Entity는 계속 집계에 남는다.
+    private final static LongAdder MANAGED_ENTITIES = new LongAdder();
+
+    static {
+        MetricsRegistry.getDefault().gauge("persistenceContext.entities", MANAGED_ENTITIES::sum);
+    }
+
     private final Map<EntityKey, EntityData> entityMap = new HashMap<>();
     private final Map<EntityKey, EntityData> snapShotMap = new HashMap<>();
     private final Map<EntityKey, EntityEntry> entityEntryMap = new HashMap<>();
@@ -18,12 +28,16 @@ public class PersistenceContextImpl implements PersistenceContext {
 
     @Override
     public void insertEntity(EntityKey entityKey, EntityData EntityData) {
-        this.entityMap.put(entityKey, EntityData);
+        if (this.entityMap.put(entityKey, EntityData) == null) {
+            MANAGED_ENTITIES.increment();
+        }
     }
 
     @Override
     public void deleteEntity(EntityKey entityKey) {
-        this.entityMap.remove(entityKey);
+        if (this.entityMap.remove(entityKey) != null) {
+            MANAGED_ENTITIES.decrement();
+        }
     }
 
     @Override
@@ -52,4 +66,28 @@ public class PersistenceContextImpl implements PersistenceContext {
         return this.entityEntryMap.get(entityKey);
     }
 
+    @Override
+    public void deleteEntityEntryMap(EntityKey entityKey) {
+        this.entityEntryMap.remove(entityKey);
+    }
+
+    //해당 클래스의 Entity, 스냅샷, EntityEntry를 모두 제거한다.
+    @Override
+    public void evictEntities(Class<?> clazz) {
+        int size = this.entityMap.size();
+        this.entityMap.keySet().removeIf(entityKey -> entityKey.getClazz().equals(clazz));
+        MANAGED_ENTITIES.add(this.entityMap.size() - size);
+        this.snapShotMap.keySet().removeIf(entityKey -> entityKey.getClazz().equals(clazz));
+        this.entityEntryMap.keySet().removeIf(entityKey -> entityKey.getClazz().equals(clazz));
+    }
+
+    //작업 단위가 끝나면 모든 Entity, 스냅샷, EntityEntry를 제거한다.
+    @Override
+    public void clear() {
+        MANAGED_ENTITIES.add(-this.entityMap.size());
+        this.entityMap.clear();
+        this.snapShotMap.clear();
+        this.entityEntryMap.clear();
+    }
+
 }
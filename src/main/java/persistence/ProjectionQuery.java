@@ -0,0 +1,57 @@
+package persistence;
+
+import builder.dml.query.Condition;
+import builder.dml.query.Criteria;
+import builder.dml.query.Order;
+
+import java.util.List;
+
+public class ProjectionQuery<R> {
+
+    private final static String NOT_SINGLE_RESULT_MESSAGE = "Expected 1 result, got ";
+
+    private final Class<?> entityClass;
+    private final Class<R> resultType;
+    private final EntityManager entityManager;
+    private final Criteria criteria = Criteria.createCriteria();
+
+    public ProjectionQuery(Class<?> entityClass, Class<R> resultType, EntityManager entityManager, String... columnNames) {
+        this.entityClass = entityClass;
+        this.resultType = resultType;
+        this.entityManager = entityManager;
+        this.criteria.select(columnNames);
+    }
+
+    public ProjectionQuery<R> where(Condition condition) {
+        this.criteria.where(condition);
+        return this;
+    }
+
+    public ProjectionQuery<R> orderBy(Order... orders) {
+        this.criteria.orderBy(orders);
+        return this;
+    }
+
+    public ProjectionQuery<R> limit(int limit) {
+        this.criteria.limit(limit);
+        return this;
+    }
+
+    public ProjectionQuery<R> offset(int offset) {
+        this.criteria.offset(offset);
+        return this;
+    }
+
+    //선택한 컬럼만 조회하여 결과 타입으로 바로 변환한다. 영속성 컨텍스트를 거치지 않는다.
+    public List<R> getResultList() {
+        return this.entityManager.findProjection(this.entityClass, this.resultType, this.criteria);
+    }
+
+    public R getSingleResult() {
+        List<R> results = getResultList();
+        if (results.size() != 1) {
+            throw new RuntimeException(NOT_SINGLE_RESULT_MESSAGE + results.size());
+        }
+        return results.get(0);
+    }
+}
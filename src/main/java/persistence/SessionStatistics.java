@@ -0,0 +1,91 @@
+package persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+//EntityManager 한개(세션)에서 실행한 쿼리 수, 조회한 Entity 수, 영속성 컨텍스트 적중 수를 기록한다.
+//같은 클래스를 id로 한건씩 조회한 횟수가 기준을 넘으면 N+1 조회로 보고 경고 로그를 남긴다.
+public class SessionStatistics {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionStatistics.class);
+
+    private final static String THRESHOLD_PROPERTY = "persistence.session.singleRowLoadThreshold";
+    private final static int DEFAULT_SINGLE_ROW_LOAD_THRESHOLD = 10;
+    private final static String INVALID_THRESHOLD_MESSAGE = "N+1 경고 기준은 1 이상이어야 합니다. threshold: ";
+
+    private final int singleRowLoadThreshold;
+    private final Map<Class<?>, Integer> singleRowLoads = new HashMap<>();
+    private final Set<Class<?>> warnedClasses = new HashSet<>();
+    private long queryCount;
+    private long loadedEntityCount;
+    private long persistenceContextHitCount;
+
+    public SessionStatistics() {
+        this(Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_SINGLE_ROW_LOAD_THRESHOLD));
+    }
+
+    public SessionStatistics(int singleRowLoadThreshold) {
+        if (singleRowLoadThreshold <= 0) {
+            throw new IllegalArgumentException(INVALID_THRESHOLD_MESSAGE + singleRowLoadThreshold);
+        }
+        this.singleRowLoadThreshold = singleRowLoadThreshold;
+    }
+
+    public void queryExecuted() {
+        this.queryCount++;
+    }
+
+    public void entitiesLoaded(int count) {
+        this.queryCount++;
+        this.loadedEntityCount += count;
+    }
+
+    public void persistenceContextHit() {
+        this.persistenceContextHitCount++;
+    }
+
+    //id로 한건을 조회한 경우. 기준을 넘는 순간 클래스별로 한번만 경고한다.
+    public void singleRowLoaded(Class<?> clazz) {
+        entitiesLoaded(1);
+        int loadCount = this.singleRowLoads.merge(clazz, 1, Integer::sum);
+        if (loadCount > this.singleRowLoadThreshold && this.warnedClasses.add(clazz)) {
+            logger.warn("N+1 query suspected: {} single-row loads of {} in one session. {}", loadCount, clazz.getSimpleName(), summary());
+        }
+    }
+
+    public long getQueryCount() {
+        return queryCount;
+    }
+
+    public long getLoadedEntityCount() {
+        return loadedEntityCount;
+    }
+
+    public long getPersistenceContextHitCount() {
+        return persistenceContextHitCount;
+    }
+
+    public int getSingleRowLoadCount(Class<?> clazz) {
+        return this.singleRowLoads.getOrDefault(clazz, 0);
+    }
+
+    //기준을 넘어 경고한 클래스 목록
+    public Set<Class<?>> getSuspectedNPlusOne() {
+        return Set.copyOf(this.warnedClasses);
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder()
+                .append("queries=").append(this.queryCount)
+                .append(", entitiesLoaded=").append(this.loadedEntityCount)
+                .append(", persistenceContextHits=").append(this.persistenceContextHitCount);
+        this.singleRowLoads.forEach((clazz, count) ->
+                summary.append(", ").append(count).append(" single-row loads of ").append(clazz.getSimpleName()));
+        return summary.toString();
+    }
+}
@@ -0,0 +1,71 @@
+package persistence;
+
+import builder.dml.query.Condition;
+import builder.dml.query.Criteria;
+import builder.dml.query.Order;
+
+import java.util.List;
+
+public class TypedQuery<T> {
+
+    private final static String NOT_SINGLE_RESULT_MESSAGE = "Expected 1 result, got ";
+
+    private final Class<T> clazz;
+    private final EntityManager entityManager;
+    private final Criteria criteria = Criteria.createCriteria();
+    private String joinFetchField;
+
+    public TypedQuery(Class<T> clazz, EntityManager entityManager) {
+        this.clazz = clazz;
+        this.entityManager = entityManager;
+    }
+
+    public TypedQuery<T> where(Condition condition) {
+        this.criteria.where(condition);
+        return this;
+    }
+
+    public TypedQuery<T> orderBy(Order... orders) {
+        this.criteria.orderBy(orders);
+        return this;
+    }
+
+    public TypedQuery<T> limit(int limit) {
+        this.criteria.limit(limit);
+        return this;
+    }
+
+    public TypedQuery<T> offset(int offset) {
+        this.criteria.offset(offset);
+        return this;
+    }
+
+    //조회한 행에 쓰기 잠금(SELECT ... FOR UPDATE)을 건다.
+    public TypedQuery<T> forUpdate() {
+        this.criteria.forUpdate();
+        return this;
+    }
+
+    //@ManyToOne 또는 @OneToMany 필드를 join으로 함께 조회한다.
+    public TypedQuery<T> joinFetch(String fieldName) {
+        this.joinFetchField = fieldName;
+        return this;
+    }
+
+    //조건에 맞는 Entity 목록을 영속성 컨텍스트에 관리되는 상태로 가져온다.
+    public List<T> getResultList() {
+        if (this.joinFetchField != null) {
+            return this.entityManager.findAll(this.clazz, this.criteria, this.joinFetchField);
+        }
+        return this.entityManager.findAll(this.clazz, this.criteria);
+    }
+
+    //조건에 맞는 Entity가 정확히 한개가 아니면 예외를 발생시킨다.
+    public T getSingleResult() {
+        List<T> results = getResultList();
+        if (results.size() != 1) {
+            throw new RuntimeException(NOT_SINGLE_RESULT_MESSAGE + results.size());
+        }
+        return results.get(0);
+    }
+}
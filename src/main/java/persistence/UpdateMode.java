@@ -0,0 +1,8 @@
+package persistence;
+
+public enum UpdateMode {
+    //변경된 컬럼만 수정한다. 변경된 컬럼 조합마다 update 쿼리가 하나씩 캐시된다.
+    DIRTY_COLUMNS,
+    //변경된 컬럼이 있으면 전체 컬럼을 수정한다. Entity마다 하나의 update 쿼리만 사용한다.
+    ALL_COLUMNS
+}
@@ -1,10 +1,13 @@
 package service.person;
 
+import builder.dml.query.Condition;
 import entity.Person;
 import persistence.EntityManager;
 import service.person.request.PersonRequest;
 import service.person.response.PersonResponse;
 
+import java.util.List;
+
 public class PersonService {
 
     private final EntityManager entityManager;
@@ -18,10 +21,23 @@ public class PersonService {
         entityManager.persist(personRequest.toEntity());
     }
 
-    //id로 Person을 가져온다.
+    //여러 Person을 한번의 insert 쿼리로 저장한다.
+    public void saveAll(List<PersonRequest> personRequests) {
+        entityManager.persistAll(personRequests.stream()
+                .map(PersonRequest::toEntity)
+                .toList());
+    }
+
+    //id로 Person을 가져온다. 응답에 필요한 컬럼만 조회하여 PersonResponse로 바로 변환한다.
     public PersonResponse findById(Long id) {
-        Person person = entityManager.find(Person.class, id);
-        return PersonResponse.of(person);
+        return entityManager.createProjection(Person.class, PersonResponse.class, "id", "nick_name", "old", "email")
+                .where(Condition.eq("id", id))
+                .getSingleResult();
+    }
+
+    //email로 Person을 가져온다. 이미 조회한 Person이면 쿼리를 실행하지 않는다.
+    public PersonResponse findByEmail(String email) {
+        return PersonResponse.of(entityManager.findByNaturalId(Person.class, email));
     }
 
     //id로 Person을 삭제한다.
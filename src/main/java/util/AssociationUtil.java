@@ -0,0 +1,112 @@
+package util;
+
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
+//@ManyToOne, @OneToMany 필드의 매핑 정보를 구한다.
+public class AssociationUtil {
+
+    private final static String JOIN_COLUMN_SUFFIX = "_id";
+    private final static String PK_NOT_EXIST_MESSAGE = "PK 컬럼을 찾을 수 없습니다. class: ";
+    private final static String MAPPED_BY_NOT_EXIST_MESSAGE = "@OneToMany는 mappedBy로 @ManyToOne 필드를 지정해야 합니다. field: ";
+    private final static String ELEMENT_TYPE_NOT_EXIST_MESSAGE = "@OneToMany 컬렉션의 원소 타입을 알 수 없습니다. field: ";
+    private final static String NOT_ASSOCIATION_FIELD_MESSAGE = "@ManyToOne 또는 @OneToMany 필드가 아닙니다. field: ";
+    private final static String GET_ID_ERROR_MESSAGE = "PK 값을 가져오는 중 에러가 발생했습니다. class: ";
+    private final static ClassValue<Field> ID_FIELDS = new ClassValue<>() {
+        @Override
+        protected Field computeValue(Class<?> entityClass) {
+            return findIdField(entityClass);
+        }
+    };
+
+    public static boolean isReference(Field field) {
+        return field.isAnnotationPresent(ManyToOne.class);
+    }
+
+    public static boolean isCollection(Field field) {
+        return field.isAnnotationPresent(OneToMany.class);
+    }
+
+    //@ManyToOne 필드의 FK 컬럼명. @JoinColumn이 없으면 "필드명_id" 이다.
+    public static String joinColumnName(Field referenceField) {
+        if (referenceField.isAnnotationPresent(JoinColumn.class)) {
+            JoinColumn joinColumn = referenceField.getAnnotation(JoinColumn.class);
+            if (!joinColumn.name().isEmpty()) {
+                return joinColumn.name();
+            }
+        }
+        return referenceField.getName() + JOIN_COLUMN_SUFFIX;
+    }
+
+    public static boolean isNullableJoinColumn(Field referenceField) {
+        if (referenceField.isAnnotationPresent(JoinColumn.class)) {
+            return referenceField.getAnnotation(JoinColumn.class).nullable();
+        }
+        return referenceField.getAnnotation(ManyToOne.class).optional();
+    }
+
+    //@OneToMany 필드의 원소 타입. targetEntity가 없으면 List<E>의 E 이다.
+    public static Class<?> elementType(Field collectionField) {
+        OneToMany oneToMany = collectionField.getAnnotation(OneToMany.class);
+        if (oneToMany.targetEntity() != void.class) {
+            return oneToMany.targetEntity();
+        }
+        Type genericType = collectionField.getGenericType();
+        if (genericType instanceof ParameterizedType parameterizedType
+                && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> elementType) {
+            return elementType;
+        }
+        throw new IllegalArgumentException(ELEMENT_TYPE_NOT_EXIST_MESSAGE + collectionField.getName());
+    }
+
+    //@OneToMany(mappedBy)가 가리키는 원소 클래스의 @ManyToOne 필드
+    public static Field mappedByField(Field collectionField) {
+        String mappedBy = collectionField.getAnnotation(OneToMany.class).mappedBy();
+        Class<?> elementType = elementType(collectionField);
+        return Arrays.stream(elementType.getDeclaredFields())
+                .filter(field -> field.getName().equals(mappedBy) && isReference(field))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(MAPPED_BY_NOT_EXIST_MESSAGE + collectionField.getName()));
+    }
+
+    //필드명으로 @ManyToOne 또는 @OneToMany 필드를 찾는다.
+    public static Field associationField(Class<?> entityClass, String fieldName) {
+        return Arrays.stream(entityClass.getDeclaredFields())
+                .filter(field -> field.getName().equals(fieldName) && (isReference(field) || isCollection(field)))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(NOT_ASSOCIATION_FIELD_MESSAGE + fieldName));
+    }
+
+    //클래스마다 한번만 찾고 setAccessible 한 PK 필드를 재사용한다.
+    public static Field idField(Class<?> entityClass) {
+        return ID_FIELDS.get(entityClass);
+    }
+
+    private static Field findIdField(Class<?> entityClass) {
+        Field idField = Arrays.stream(entityClass.getDeclaredFields())
+                .filter(field -> field.isAnnotationPresent(Id.class))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(PK_NOT_EXIST_MESSAGE + entityClass.getName()));
+        idField.setAccessible(true);
+        return idField;
+    }
+
+    //참조하는 Entity의 PK 값. 참조가 없으면 null 이다.
+    public static Object idValue(Object entityInstance) {
+        if (entityInstance == null) {
+            return null;
+        }
+        try {
+            return idField(entityInstance.getClass()).get(entityInstance);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(GET_ID_ERROR_MESSAGE + entityInstance.getClass().getName(), e);
+        }
+    }
+}
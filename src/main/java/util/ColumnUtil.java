@@ -0,0 +1,64 @@
+package util;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Transient;
+
+import java.lang.reflect.Field;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.util.Arrays;
+
+//기본 컬럼 필드의 컬럼명, 컬럼 타입, LOB 여부, 지연 로딩 여부를 구한다.
+public class ColumnUtil {
+
+    private final static String NOT_EXIST_FIELD_MESSAGE = "존재하지 않는 컬럼 필드입니다. field: ";
+
+    //@Column이 없거나 name이 비어있으면 필드명이 컬럼명이다.
+    public static String columnName(Field field) {
+        if (field.isAnnotationPresent(Column.class)) {
+            Column column = field.getAnnotation(Column.class);
+            return column.name().isEmpty() ? field.getName() : column.name();
+        }
+        return field.getName();
+    }
+
+    //@Lob String은 Clob, @Lob byte[]는 Blob 컬럼으로 다룬다.
+    public static Class<?> columnType(Field field) {
+        if (field.isAnnotationPresent(Lob.class)) {
+            if (field.getType() == String.class) return Clob.class;
+            if (field.getType() == byte[].class) return Blob.class;
+        }
+        return field.getType();
+    }
+
+    //SQL 문자열에 값을 넣지 않고 파라미터로 바인딩해야 하는 타입
+    public static boolean isLob(Class<?> columnType) {
+        return columnType == byte[].class || columnType == Blob.class || columnType == Clob.class;
+    }
+
+    //@Basic(fetch = LAZY) 필드는 기본 조회에서 제외한다.
+    public static boolean isLazy(Field field) {
+        return field.isAnnotationPresent(Basic.class) && field.getAnnotation(Basic.class).fetch() == FetchType.LAZY;
+    }
+
+    //@GeneratedValue(strategy = IDENTITY) PK는 DB가 값을 생성한다.
+    public static boolean isIdentity(Field idField) {
+        return idField.isAnnotationPresent(GeneratedValue.class) && idField.getAnnotation(GeneratedValue.class).strategy() == GenerationType.IDENTITY;
+    }
+
+    //필드명으로 컬럼으로 매핑되는 필드를 찾는다.
+    public static Field columnField(Class<?> entityClass, String fieldName) {
+        Field columnField = Arrays.stream(entityClass.getDeclaredFields())
+                .filter(field -> field.getName().equals(fieldName) && !field.isAnnotationPresent(Transient.class))
+                .filter(field -> !AssociationUtil.isReference(field) && !AssociationUtil.isCollection(field))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(NOT_EXIST_FIELD_MESSAGE + fieldName));
+        columnField.setAccessible(true);
+        return columnField;
+    }
+}
@@ -0,0 +1,34 @@
+package allocation;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntConsumer;
+
+//현재 스레드에서 연산 한번당 할당된 바이트 수를 측정한다.
+public class AllocationMeter {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationMeter() {
+    }
+
+    public static boolean isSupported() {
+        return THREAD_MX_BEAN.isThreadAllocatedMemorySupported() && THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled();
+    }
+
+    //JIT 컴파일이 끝나도록 warmUpCount 만큼 먼저 실행한 뒤, measureCount 번 실행한 평균 할당량을 반환한다.
+    //operation 에는 실행 순번이 전달된다. (warm up: 0 ~ warmUpCount-1, 측정: warmUpCount ~)
+    public static long bytesPerOperation(int warmUpCount, int measureCount, IntConsumer operation) {
+        for (int i = 0; i < warmUpCount; i++) {
+            operation.accept(i);
+        }
+
+        long before = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < measureCount; i++) {
+            operation.accept(warmUpCount + i);
+        }
+        long after = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+
+        return (after - before) / measureCount;
+    }
+}
@@ -0,0 +1,151 @@
+package allocation;
+
+import builder.ddl.DDLBuilderData;
+import builder.ddl.builder.CreateQueryBuilder;
+import builder.ddl.builder.DropQueryBuilder;
+import builder.ddl.dataType.DB;
+import builder.dml.EntityMetadata;
+import database.H2DBConnection;
+import entity.Person;
+import jdbc.JdbcTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import persistence.EntityManager;
+import persistence.EntityManagerImpl;
+import persistence.PersistenceContextImpl;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/*
+- 영속성 컨텍스트에 있는 Entity를 find 할때 할당량이 예산을 넘지 않는다.
+- DB에서 Entity를 find 할때 할당량이 예산을 넘지 않는다.
+- persist 할때 할당량이 예산을 넘지 않는다.
+- merge 할때 할당량이 예산을 넘지 않는다.
+- remove 할때 할당량이 예산을 넘지 않는다.
+*/
+class EntityManagerAllocationTest {
+
+    //연산 한번당 할당 예산(byte). 측정값에 약 40%의 여유를 더한 값이다.
+    //DB를 거치는 연산은 같은 쿼리를 JdbcTemplate으로 직접 실행한 할당량을 빼고 EntityManager가 더 할당한 양만 비교한다.
+    //H2, JdbcTemplate의 할당은 양쪽에 같이 포함되므로 DB 버전과 상관없이 EntityManager의 증가만 잡아낸다.
+    private final static long FIND_HIT_BUDGET = 160; //측정 약 112B
+    private final static long FIND_MISS_BUDGET = 5 * 1024; //측정 약 3.7KB (EntityManager 생성 포함)
+    private final static long PERSIST_BUDGET = 3 * 1024; //측정 약 2.3KB
+    private final static long MERGE_BUDGET = 5 * 1024; //측정 약 3.6KB
+    private final static long REMOVE_BUDGET = 3 * 1024; //측정 약 2.0KB
+
+    private final static int WARM_UP_COUNT = 2_000;
+    private final static int MEASURE_COUNT = 1_000;
+    private final static EntityMetadata METADATA = EntityMetadata.getEntityMetadata(Person.class);
+
+    private H2DBConnection h2DBConnection;
+    private JdbcTemplate jdbcTemplate;
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        assumeTrue(AllocationMeter.isSupported());
+
+        this.h2DBConnection = new H2DBConnection();
+        this.jdbcTemplate = this.h2DBConnection.start();
+
+        //테이블 생성
+        CreateQueryBuilder queryBuilder = new CreateQueryBuilder();
+        jdbcTemplate.execute(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Person.class, DB.H2)));
+
+        this.entityManager = new EntityManagerImpl(new PersistenceContextImpl(), jdbcTemplate);
+    }
+
+    //정확한 테스트를 위해 메소드마다 테이블 DROP 후 DB종료
+    @AfterEach
+    void tearDown() {
+        if (this.h2DBConnection == null) {
+            return;
+        }
+        DropQueryBuilder queryBuilder = new DropQueryBuilder();
+        jdbcTemplate.execute(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Person.class, DB.H2)));
+        this.h2DBConnection.stop();
+    }
+
+    @DisplayName("영속성 컨텍스트에 있는 Entity를 find 할때 할당량이 예산을 넘지 않는다.")
+    @Test
+    void findHitAllocationTest() {
+        this.entityManager.persist(createPerson(1));
+
+        long allocatedBytes = AllocationMeter.bytesPerOperation(WARM_UP_COUNT, MEASURE_COUNT,
+                i -> this.entityManager.find(Person.class, 1L));
+
+        assertThat(allocatedBytes).isLessThanOrEqualTo(FIND_HIT_BUDGET);
+    }
+
+    @DisplayName("DB에서 Entity를 find 할때 할당량이 예산을 넘지 않는다.")
+    @Test
+    void findMissAllocationTest() {
+        this.entityManager.persist(createPerson(1));
+
+        long allocatedBytes = AllocationMeter.bytesPerOperation(WARM_UP_COUNT, MEASURE_COUNT,
+                i -> new EntityManagerImpl(new PersistenceContextImpl(), jdbcTemplate).find(Person.class, 1L));
+        long jdbcBytes = AllocationMeter.bytesPerOperation(WARM_UP_COUNT, MEASURE_COUNT,
+                i -> jdbcTemplate.queryForObject(METADATA.getSelectByIdQuery(), resultSet -> resultSet.getObject(1), 1L));
+
+        assertThat(allocatedBytes - jdbcBytes).isLessThanOrEqualTo(FIND_MISS_BUDGET);
+    }
+
+    @DisplayName("persist 할때 할당량이 예산을 넘지 않는다.")
+    @Test
+    void persistAllocationTest() {
+        int totalCount = WARM_UP_COUNT + MEASURE_COUNT;
+
+        long allocatedBytes = AllocationMeter.bytesPerOperation(WARM_UP_COUNT, MEASURE_COUNT,
+                i -> this.entityManager.persist(createPerson(i + 1)));
+        long jdbcBytes = AllocationMeter.bytesPerOperation(WARM_UP_COUNT, MEASURE_COUNT,
+                i -> jdbcTemplate.executeUpdate(METADATA.getInsertQuery(), (long) totalCount + i + 1, "test" + i, 29, "test" + i + "@test.com"));
+
+        assertThat(allocatedBytes - jdbcBytes).isLessThanOrEqualTo(PERSIST_BUDGET);
+    }
+
+    @DisplayName("merge 할때 할당량이 예산을 넘지 않는다.")
+    @Test
+    void mergeAllocationTest() {
+        Person person = createPerson(1);
+        this.entityManager.persist(person);
+
+        long allocatedBytes = AllocationMeter.bytesPerOperation(WARM_UP_COUNT, MEASURE_COUNT, i -> {
+            person.changeEmail("changed" + i + "@test.com");
+            this.entityManager.merge(person);
+        });
+        long jdbcBytes = AllocationMeter.bytesPerOperation(WARM_UP_COUNT, MEASURE_COUNT,
+                i -> jdbcTemplate.executeUpdate(METADATA.getUpdateQuery(List.of("email")), "changed" + i + "@test.com", 1L));
+
+        assertThat(allocatedBytes - jdbcBytes).isLessThanOrEqualTo(MERGE_BUDGET);
+    }
+
+    @DisplayName("remove 할때 할당량이 예산을 넘지 않는다.")
+    @Test
+    void removeAllocationTest() {
+        int totalCount = WARM_UP_COUNT + MEASURE_COUNT;
+        Person[] persons = new Person[totalCount];
+        for (int i = 0; i < totalCount; i++) {
+            persons[i] = createPerson(i + 1);
+            this.entityManager.persist(persons[i]);
+            this.entityManager.persist(createPerson(totalCount + i + 1));
+        }
+
+        long allocatedBytes = AllocationMeter.bytesPerOperation(WARM_UP_COUNT, MEASURE_COUNT,
+                i -> this.entityManager.remove(persons[i]));
+        long jdbcBytes = AllocationMeter.bytesPerOperation(WARM_UP_COUNT, MEASURE_COUNT,
+                i -> jdbcTemplate.executeUpdate(METADATA.getDeleteByIdQuery(), (long) totalCount + i + 1));
+
+        assertThat(allocatedBytes - jdbcBytes).isLessThanOrEqualTo(REMOVE_BUDGET);
+    }
+
+    private Person createPerson(int i) {
+        return new Person((long) i, "test" + i, 29, "test" + i + "@test.com");
+    }
+}
@@ -1,9 +1,13 @@
 package builder;
 
 import builder.ddl.DDLBuilderData;
+import builder.ddl.builder.CreateIndexQueryBuilder;
 import builder.ddl.builder.CreateQueryBuilder;
 import builder.ddl.builder.DropQueryBuilder;
 import builder.ddl.dataType.DB;
+import entity.Document;
+import entity.Member;
+import entity.Team;
 import jakarta.persistence.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +25,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 - create쿼리를 생성 시 @Table이 지정되어있다면 테이블명을 가져온다.
 - create쿼리를 생성 시 @GeneratedValue가 지정되어있다면 AUTOINCREMENT을 추가한다.
 - create쿼리를 생성 시 @Transient가 지정되어있다면 컬럼을 생성하지 않는다.
+- create쿼리를 생성 시 @ManyToOne은 참조 Entity의 PK 타입으로 FK 컬럼을 만들고 @OneToMany는 컬럼을 만들지 않는다.
+- create쿼리를 생성 시 byte[]와 @Lob 필드는 BLOB, CLOB 컬럼으로 만든다.
+- create쿼리를 생성 시 @NaturalId 필드는 UNIQUE 컬럼으로 만든다.
+- create쿼리를 생성 시 @Column(length, unique)와 @Table(uniqueConstraints)를 반영한다.
+- @Table(indexes)로 create index 쿼리를 생성한다.
+- @Table(indexes)의 컬럼이 존재하지 않으면 예외가 발생한다.
 - drop쿼리를 생성한다.
 - drop쿼리를 생성할시 @Entity가 없다면 예외를 발생시킨다.
 */
@@ -243,6 +253,135 @@ class DDLBuilderTest {
         );
     }
 
+    @DisplayName("create쿼리를 생성 시 @ManyToOne은 참조 Entity의 PK 타입으로 FK 컬럼을 만들고 @OneToMany는 컬럼을 만들지 않는다.")
+    @Test
+    void associationColumnTest() {
+        //given
+        CreateQueryBuilder queryBuilder = new CreateQueryBuilder();
+
+        //when, then
+        assertThat(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Member.class, DB.H2))).isEqualTo(
+                "CREATE TABLE members (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255), team_id BIGINT);"
+        );
+        assertThat(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Team.class, DB.H2))).isEqualTo(
+                "CREATE TABLE teams (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255));"
+        );
+    }
+
+    @DisplayName("create쿼리를 생성 시 byte[]와 @Lob 필드는 BLOB, CLOB 컬럼으로 만든다.")
+    @Test
+    void lobColumnTest() {
+        //given
+        CreateQueryBuilder queryBuilder = new CreateQueryBuilder();
+
+        //when, then
+        assertThat(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Document.class, DB.H2))).isEqualTo(
+                "CREATE TABLE documents (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, title VARCHAR(255), summary CLOB, content BLOB);"
+        );
+    }
+
+    @DisplayName("create쿼리를 생성 시 @NaturalId 필드는 UNIQUE 컬럼으로 만든다.")
+    @Test
+    void naturalIdColumnTest() {
+        //given
+        CreateQueryBuilder queryBuilder = new CreateQueryBuilder();
+
+        //when, then
+        assertThat(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(entity.Person.class, DB.H2))).isEqualTo(
+                "CREATE TABLE users (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, nick_name VARCHAR(255), old INTEGER, email VARCHAR(255) NOT NULL UNIQUE);"
+        );
+    }
+
+    @DisplayName("create쿼리를 생성 시 @Column(length, unique)와 @Table(uniqueConstraints)를 반영한다.")
+    @Test
+    void uniqueAndLengthColumnTest() {
+        //given
+        @Table(name = "accounts", uniqueConstraints = @UniqueConstraint(columnNames = {"provider", "provider_id"}))
+        @Entity
+        class Account {
+
+            @Id
+            private Long id;
+
+            @Column(length = 20, unique = true)
+            private String username;
+
+            @Column(length = 30, nullable = false)
+            private String provider;
+
+            @Column(name = "provider_id", length = 64)
+            private String providerId;
+
+            @Column(length = 10)
+            private Integer age;
+
+        }
+        CreateQueryBuilder queryBuilder = new CreateQueryBuilder();
+
+        //when, then
+        assertThat(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Account.class, DB.H2))).isEqualTo(
+                "CREATE TABLE accounts (id BIGINT NOT NULL PRIMARY KEY, username VARCHAR(20) UNIQUE, provider VARCHAR(30) NOT NULL, "
+                        + "provider_id VARCHAR(64), age INTEGER, CONSTRAINT uk_accounts_provider_provider_id UNIQUE (provider, provider_id));"
+        );
+    }
+
+    @DisplayName("@Table(indexes)로 create index 쿼리를 생성한다.")
+    @Test
+    void createIndexTest() {
+        //given
+        @Table(name = "orders", indexes = {
+                @Index(columnList = "member_id, ordered_at DESC"),
+                @Index(name = "uk_orders_number", columnList = "number", unique = true)
+        })
+        @Entity
+        class Order {
+
+            @Id
+            private Long id;
+
+            private String number;
+
+            @Column(name = "member_id")
+            private Long memberId;
+
+            @Column(name = "ordered_at")
+            private Long orderedAt;
+
+        }
+        CreateIndexQueryBuilder queryBuilder = new CreateIndexQueryBuilder();
+
+        //when, then
+        assertThat(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Order.class, DB.H2))).containsExactly(
+                "CREATE INDEX idx_orders_member_id_ordered_at ON orders (member_id, ordered_at DESC);",
+                "CREATE UNIQUE INDEX uk_orders_number ON orders (number);"
+        );
+        assertThat(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Member.class, DB.H2))).containsExactly(
+                "CREATE INDEX idx_members_team_id ON members (team_id);"
+        );
+    }
+
+    @DisplayName("@Table(indexes)의 컬럼이 존재하지 않으면 예외가 발생한다.")
+    @Test
+    void notExistIndexColumnTest() {
+        //given
+        @Table(name = "orders", indexes = @Index(columnList = "memberId"))
+        @Entity
+        class Order {
+
+            @Id
+            private Long id;
+
+            @Column(name = "member_id")
+            private Long memberId;
+
+        }
+
+        //when, then
+        assertThatThrownBy(() -> DDLBuilderData.createDDLBuilderData(Order.class, DB.H2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("인덱스 컬럼이 테이블에 존재하지 않습니다. column: memberId");
+    }
+
     @DisplayName("drop쿼리를 생성한다.")
     @Test
     void createDropQueryTest() {
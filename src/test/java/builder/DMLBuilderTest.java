@@ -5,9 +5,18 @@ import builder.ddl.builder.CreateQueryBuilder;
 import builder.ddl.builder.DropQueryBuilder;
 import builder.ddl.dataType.DB;
 import builder.dml.EntityData;
+import builder.dml.EntityMetadata;
 import builder.dml.builder.*;
+import builder.dml.query.AggregateFunction;
+import builder.dml.query.Condition;
+import builder.dml.query.Criteria;
+import builder.dml.query.Order;
+import builder.dml.query.QueryPlanCache;
+import builder.dml.query.QueryPlanCache.QueryShape;
 import database.H2DBConnection;
+import entity.Member;
 import entity.Person;
+import entity.Team;
 import jdbc.JdbcTemplate;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,18 +25,38 @@ import org.junit.jupiter.api.Test;
 import persistence.*;
 
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.groups.Tuple.tuple;
 
 /*
 - insert 쿼리 문자열 생성하기
 - findAll 쿼리 문자열 생성하기
 - findById 쿼리 문자열 생성하기
+- findById 쿼리는 id 값과 관계없이 미리 만든 같은 쿼리 문자열을 사용한다.
 - Object 인스턴스를 받아 findById 쿼리 문자열 생성한다.
 - Object 인스턴스를 받아 UPDATE 쿼리 문자열 생성한다.
+- 변경된 컬럼만 SET 절에 넣은 update 쿼리와 파라미터를 생성한다.
+- 같은 컬럼 조합의 update 쿼리는 bitmask로 캐시된 쿼리 문자열을 사용한다.
+- 없는 컬럼이나 Entity 컬럼 순서와 다른 수정 컬럼으로는 update 쿼리를 만들지 않는다.
 - deleteById 쿼리 문자열 생성하기
 - Object를 받아 deleteById 쿼리 문자열 생성한다.
+- 조건으로 일괄 update 쿼리 문자열 생성한다.
+- 일괄 update 쿼리 생성시 존재하지 않는 컬럼이면 예외를 발생시킨다.
+- 조건으로 일괄 delete 쿼리 문자열 생성한다.
+- 조건, 정렬, 페이징이 포함된 select 쿼리 문자열 생성한다.
+- 같은 형태의 select 쿼리는 캐시된 쿼리 문자열을 사용한다.
+- IN 조건은 값 개수를 2의 거듭제곱 크기로 맞춰 같은 쿼리 문자열을 사용한다.
+- 쿼리 캐시가 가득 차면 가장 오래 사용하지 않은 형태만 제거한다.
+- 조건과 정렬 컬럼이 Entity의 컬럼이 아니면 select 쿼리를 만들지 않는다.
+- 집계 쿼리 문자열 생성한다.
+- 그룹별 집계 쿼리 문자열 생성한다.
+- 집계 컬럼과 그룹 기준이 Entity의 컬럼이 아니면 쿼리를 만들지 않는다.
+- 연관관계 join fetch 쿼리 문자열 생성한다.
 */
 class DMLBuilderTest {
 
@@ -54,7 +83,7 @@ class DMLBuilderTest {
 
         //when, then
         assertThat(queryBuilder.buildQuery(EntityData.createEntityData(person)))
-                .isEqualTo("INSERT INTO users (id, nick_name, old, email) VALUES (1, 'sangki', 29, 'test@test.com');");
+                .isEqualTo("INSERT INTO users (id, nick_name, old, email) VALUES (?, ?, ?, ?);");
     }
 
     @DisplayName("findAll 쿼리 문자열 생성하기")
@@ -77,17 +106,18 @@ class DMLBuilderTest {
         SelectByIdQueryBuilder queryBuilder = new SelectByIdQueryBuilder();
         //when, then
         assertThat(queryBuilder.buildQuery(EntityData.createEntityData(Person.class, 1)))
-                .isEqualTo("SELECT id, nick_name, old, email FROM users WHERE id = 1;");
+                .isEqualTo("SELECT id, nick_name, old, email FROM users WHERE id = ?;");
     }
 
-    @DisplayName("findById 쿼리 문자열 생성할시 id가 String이면 작은따옴표로 묶어준다.")
+    @DisplayName("findById 쿼리는 id 값과 관계없이 미리 만든 같은 쿼리 문자열을 사용한다.")
     @Test
     void buildFindByIdStringTest() {
         //given
         SelectByIdQueryBuilder queryBuilder = new SelectByIdQueryBuilder();
         //when, then
         assertThat(queryBuilder.buildQuery(EntityData.createEntityData(Person.class, "sangki")))
-                .isEqualTo("SELECT id, nick_name, old, email FROM users WHERE id = 'sangki';");
+                .isSameAs(queryBuilder.buildQuery(EntityData.createEntityData(Person.class, 1L)))
+                .isSameAs(queryBuilder.buildQuery(Person.class));
     }
 
     @DisplayName("Object 인스턴스를 받아 findById 쿼리 문자열 생성한다.")
@@ -100,7 +130,7 @@ class DMLBuilderTest {
 
         //when, then
         assertThat(queryBuilder.buildQuery(EntityData.createEntityData(person)))
-                .isEqualTo("SELECT id, nick_name, old, email FROM users WHERE id = 1;");
+                .isEqualTo("SELECT id, nick_name, old, email FROM users WHERE id = ?;");
     }
 
     @DisplayName("Object 인스턴스를 받아 Update 쿼리 문자열 생성한다.")
@@ -112,7 +142,58 @@ class DMLBuilderTest {
         UpdateQueryBuilder queryBuilder = new UpdateQueryBuilder();
         //when, then
         assertThat(queryBuilder.buildQuery(EntityData.createEntityData(person)))
-                .isEqualTo("UPDATE users SET nick_name='sangki', old=29, email='test@test.com' WHERE id = 1;");
+                .isEqualTo("UPDATE users SET nick_name = ?, old = ?, email = ? WHERE id = ?;");
+    }
+
+    @DisplayName("변경된 컬럼만 SET 절에 넣은 update 쿼리와 파라미터를 생성한다.")
+    @Test
+    void buildUpdateChangedColumnsTest() {
+        //given
+        EntityData snapShot = EntityData.createEntityData(new Person(1L, "sangki", 29, "test@test.com", 1));
+        EntityData entityData = EntityData.createEntityData(new Person(1L, "sangki", 30, "test@test.com", 1));
+        entityData.changeColumns(entityData.getDifferentColumns(snapShot));
+
+        UpdateQueryBuilder queryBuilder = new UpdateQueryBuilder();
+
+        //when, then
+        assertThat(queryBuilder.buildQuery(entityData)).isEqualTo("UPDATE users SET old = ? WHERE id = ?;");
+        assertThat(entityData.getUpdateParameters()).containsExactly(30, 1L);
+    }
+
+    @DisplayName("같은 컬럼 조합의 update 쿼리는 bitmask로 캐시된 쿼리 문자열을 사용한다.")
+    @Test
+    void buildUpdateMaskCacheTest() {
+        //given
+        EntityMetadata metadata = EntityMetadata.getEntityMetadata(Person.class);
+
+        //when
+        String firstQuery = metadata.getUpdateQuery(List.of("nick_name", "email"));
+        String secondQuery = metadata.getUpdateQuery(metadata.getDirtyMask(List.of("nick_name", "email")));
+
+        //then
+        assertThat(metadata.getDirtyMask(List.of("nick_name", "email"))).isEqualTo(0b101L);
+        assertThat(firstQuery).isEqualTo("UPDATE users SET nick_name = ?, email = ? WHERE id = ?;");
+        assertThat(secondQuery).isSameAs(firstQuery);
+        assertThat(metadata.getUpdateQuery(List.of("nick_name", "old", "email")))
+                .isEqualTo("UPDATE users SET nick_name = ?, old = ?, email = ? WHERE id = ?;");
+    }
+
+    @DisplayName("없는 컬럼이나 Entity 컬럼 순서와 다른 수정 컬럼으로는 update 쿼리를 만들지 않는다.")
+    @Test
+    void buildUpdateInvalidColumnsTest() {
+        //given
+        EntityMetadata metadata = EntityMetadata.getEntityMetadata(Person.class);
+
+        //when, then
+        assertThatThrownBy(() -> metadata.getUpdateQuery(List.of("nick_name", "unknown")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("수정할 수 없는 컬럼입니다. : unknown");
+        assertThatThrownBy(() -> metadata.getDirtyMask(List.of("id")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("수정할 수 없는 컬럼입니다. : id");
+        assertThatThrownBy(() -> metadata.getUpdateQuery(List.of("email", "nick_name")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("수정 컬럼은 중복 없이 Entity의 컬럼 순서여야 합니다. : [email, nick_name]");
     }
 
     @DisplayName("deleteById 쿼리 문자열 생성한다.")
@@ -122,7 +203,7 @@ class DMLBuilderTest {
         DeleteQueryBuilder queryBuilder = new DeleteQueryBuilder();
         //when, then
         assertThat(queryBuilder.buildQuery(EntityData.createEntityData(Person.class, "sangki")))
-                .isEqualTo("DELETE FROM users WHERE id = 'sangki';");
+                .isEqualTo("DELETE FROM users WHERE id = ?;");
     }
 
     @DisplayName("Object를 받아 deleteById 쿼리 문자열 생성한다.")
@@ -134,7 +215,193 @@ class DMLBuilderTest {
         DeleteQueryBuilder queryBuilder = new DeleteQueryBuilder();
         //when, then
         assertThat(queryBuilder.buildQuery(EntityData.createEntityData(person)))
-                .isEqualTo("DELETE FROM users WHERE id = 1;");
+                .isEqualTo("DELETE FROM users WHERE id = ?;");
     }
 
+    @DisplayName("조건으로 일괄 update 쿼리 문자열 생성한다.")
+    @Test
+    void buildUpdateWhereTest() {
+        //given
+        Map<String, Object> assignments = new LinkedHashMap<>();
+        assignments.put("email", "changed@test.com");
+        assignments.put("old", 30);
+
+        UpdateWhereQueryBuilder queryBuilder = new UpdateWhereQueryBuilder();
+
+        //when, then
+        assertThat(queryBuilder.buildQuery(EntityData.createEntityData(Person.class, null), assignments, Condition.lt("old", 20).and(Condition.isNotNull("email"))))
+                .isEqualTo("UPDATE users SET email = ?, old = ? WHERE (old < ?) AND (email IS NOT NULL);");
+    }
+
+    @DisplayName("일괄 update 쿼리 생성시 존재하지 않는 컬럼이면 예외를 발생시킨다.")
+    @Test
+    void buildUpdateWhereNotExistColumnTest() {
+        //given
+        UpdateWhereQueryBuilder queryBuilder = new UpdateWhereQueryBuilder();
+
+        //when, then
+        assertThatThrownBy(() -> queryBuilder.buildQuery(EntityData.createEntityData(Person.class, null), Map.of("age", 30), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 컬럼입니다. : age");
+    }
+
+    @DisplayName("조건으로 일괄 delete 쿼리 문자열 생성한다.")
+    @Test
+    void buildDeleteWhereTest() {
+        //given
+        DeleteWhereQueryBuilder queryBuilder = new DeleteWhereQueryBuilder();
+
+        //when, then
+        assertThat(queryBuilder.buildQuery(EntityData.createEntityData(Person.class, null), Condition.eq("nick_name", "sangki")))
+                .isEqualTo("DELETE FROM users WHERE nick_name = ?;");
+    }
+
+    @DisplayName("조건, 정렬, 페이징이 포함된 select 쿼리 문자열 생성한다.")
+    @Test
+    void buildSelectCriteriaTest() {
+        //given
+        Criteria criteria = Criteria.createCriteria()
+                .where(Condition.goe("old", 20))
+                .where(Condition.like("email", "%@test.com"))
+                .orderBy(Order.desc("old"), Order.asc("id"))
+                .offset(10)
+                .limit(5);
+
+        SelectQueryBuilder queryBuilder = new SelectQueryBuilder();
+
+        //when, then
+        assertThat(queryBuilder.buildQuery(EntityData.createEntityData(Person.class, null), criteria))
+                .isEqualTo("SELECT id, nick_name, old, email FROM users WHERE (old >= ?) AND (email LIKE ?) ORDER BY old DESC, id ASC OFFSET ? ROWS FETCH FIRST ? ROWS ONLY;");
+        assertThat(criteria.getParameters()).containsExactly(20, "%@test.com", 10, 5);
+    }
+
+    @DisplayName("같은 형태의 select 쿼리는 캐시된 쿼리 문자열을 사용한다.")
+    @Test
+    void buildSelectCriteriaCacheTest() {
+        //given
+        SelectQueryBuilder queryBuilder = new SelectQueryBuilder();
+        EntityData entityData = EntityData.createEntityData(Person.class, null);
+
+        //when
+        String firstQuery = queryBuilder.buildQuery(entityData, Criteria.createCriteria().where(Condition.eq("old", 20)).limit(1));
+        String secondQuery = queryBuilder.buildQuery(entityData, Criteria.createCriteria().where(Condition.eq("old", 30)).limit(2));
+
+        //then
+        assertThat(secondQuery).isSameAs(firstQuery);
+    }
+
+    @DisplayName("IN 조건은 값 개수를 2의 거듭제곱 크기로 맞춰 같은 쿼리 문자열을 사용한다.")
+    @Test
+    void buildSelectInBucketTest() {
+        //given
+        SelectQueryBuilder queryBuilder = new SelectQueryBuilder();
+        EntityData entityData = EntityData.createEntityData(Person.class, null);
+        Criteria threeValues = Criteria.createCriteria().where(Condition.in("id", List.of(1L, 2L, 3L)));
+        Criteria fourValues = Criteria.createCriteria().where(Condition.in("id", List.of(1L, 2L, 3L, 4L)));
+
+        //when
+        String firstQuery = queryBuilder.buildQuery(entityData, threeValues);
+        String secondQuery = queryBuilder.buildQuery(entityData, fourValues);
+
+        //then
+        assertThat(firstQuery).isEqualTo("SELECT id, nick_name, old, email FROM users WHERE id IN (?, ?, ?, ?);");
+        assertThat(secondQuery).isSameAs(firstQuery);
+        assertThat(threeValues.getParameters()).containsExactly(1L, 2L, 3L, 3L);
+        assertThat(Condition.in("id", List.of(1L, 2L, 3L, 4L, 5L)).getParameters()).hasSize(8);
+    }
+
+    @DisplayName("쿼리 캐시가 가득 차면 가장 오래 사용하지 않은 형태만 제거한다.")
+    @Test
+    void queryPlanCacheEvictionTest() {
+        //given
+        QueryPlanCache queryPlanCache = new QueryPlanCache(2);
+        QueryShape first = QueryShape.of(Person.class, Criteria.createCriteria().limit(1));
+        QueryShape second = QueryShape.of(Person.class, Criteria.createCriteria().offset(1));
+        QueryShape third = QueryShape.of(Person.class, Criteria.createCriteria().forUpdate());
+        queryPlanCache.getOrCreate(first, () -> "first");
+        queryPlanCache.getOrCreate(second, () -> "second");
+
+        //when
+        queryPlanCache.getOrCreate(first, () -> "first again");
+        queryPlanCache.getOrCreate(third, () -> "third");
+
+        //then
+        assertThat(queryPlanCache.size()).isEqualTo(2);
+        assertThat(queryPlanCache.getOrCreate(first, () -> "first again")).isEqualTo("first");
+        assertThat(queryPlanCache.getOrCreate(second, () -> "second again")).isEqualTo("second again");
+    }
+
+    @DisplayName("조건과 정렬 컬럼이 Entity의 컬럼이 아니면 select 쿼리를 만들지 않는다.")
+    @Test
+    void buildSelectInvalidColumnTest() {
+        //given
+        SelectQueryBuilder queryBuilder = new SelectQueryBuilder();
+        EntityData entityData = EntityData.createEntityData(Person.class, null);
+
+        //when, then
+        assertThatThrownBy(() -> queryBuilder.buildQuery(entityData, Criteria.createCriteria().where(Condition.eq("old = 1 OR 1", 1))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 컬럼입니다. : old = 1 OR 1");
+        assertThatThrownBy(() -> queryBuilder.buildQuery(entityData, Criteria.createCriteria().where(Condition.eq("old", 1).and(Condition.in("unknown", List.of(1L))))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 컬럼입니다. : unknown");
+        assertThatThrownBy(() -> queryBuilder.buildQuery(entityData, Criteria.createCriteria().orderBy(Order.asc("(SELECT 1)"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 컬럼입니다. : (SELECT 1)");
+    }
+
+    @DisplayName("집계 쿼리 문자열 생성한다.")
+    @Test
+    void buildAggregateTest() {
+        //given
+        AggregateQueryBuilder queryBuilder = new AggregateQueryBuilder();
+
+        //when, then
+        assertThat(queryBuilder.buildQuery(EntityData.createEntityData(Person.class, null), AggregateFunction.SUM, "old", Condition.isNotNull("email")))
+                .isEqualTo("SELECT SUM(old) FROM users WHERE email IS NOT NULL;");
+    }
+
+    @DisplayName("그룹별 집계 쿼리 문자열 생성한다.")
+    @Test
+    void buildGroupByTest() {
+        //given
+        GroupByQueryBuilder queryBuilder = new GroupByQueryBuilder();
+
+        //when, then
+        assertThat(queryBuilder.buildQuery(EntityData.createEntityData(Person.class, null), "old / 10", AggregateFunction.COUNT, "*", null))
+                .isEqualTo("SELECT old / 10, COUNT(*) FROM users GROUP BY old / 10 ORDER BY old / 10;");
+    }
+
+    @DisplayName("집계 컬럼과 그룹 기준이 Entity의 컬럼이 아니면 쿼리를 만들지 않는다.")
+    @Test
+    void buildAggregateInvalidColumnTest() {
+        //given
+        EntityData entityData = EntityData.createEntityData(Person.class, null);
+
+        //when, then
+        assertThatThrownBy(() -> new AggregateQueryBuilder().buildQuery(entityData, AggregateFunction.SUM, "old) FROM users; DROP TABLE users; --", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AggregateQueryBuilder().buildQuery(entityData, AggregateFunction.SUM, "*", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GroupByQueryBuilder().buildQuery(entityData, "unknown / 10", AggregateFunction.COUNT, "*", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 컬럼입니다. : unknown");
+        assertThatThrownBy(() -> new GroupByQueryBuilder().buildQuery(entityData, "old; DELETE FROM users", AggregateFunction.COUNT, "*", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("그룹 기준은 컬럼 또는 '컬럼 / 정수' 식만 사용할 수 있습니다. : old; DELETE FROM users");
+    }
+
+    @DisplayName("연관관계 join fetch 쿼리 문자열 생성한다.")
+    @Test
+    void buildJoinFetchTest() {
+        //given
+        JoinFetchQueryBuilder queryBuilder = new JoinFetchQueryBuilder();
+        Criteria criteria = Criteria.createCriteria()
+                .where(Condition.eq("name", "개발팀"))
+                .limit(10);
+
+        //when, then
+        assertThat(queryBuilder.buildQuery(EntityData.createEntityData(Team.class, null), EntityData.createEntityData(Member.class, null), "id", "team_id", criteria))
+                .isEqualTo("SELECT r.id, r.name, j.id, j.name, j.team_id FROM (SELECT id, name FROM teams WHERE name = ? FETCH FIRST ? ROWS ONLY) r LEFT JOIN members j ON r.id = j.team_id ORDER BY r.id ASC, j.id ASC;");
+    }
 }
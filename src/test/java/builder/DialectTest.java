@@ -0,0 +1,103 @@
+package builder;
+
+import builder.ddl.dataType.DB;
+import builder.dialect.Dialect;
+import builder.dml.EntityData;
+import builder.dml.builder.InsertQueryBuilder;
+import builder.dml.builder.SelectQueryBuilder;
+import builder.dml.builder.UpsertQueryBuilder;
+import builder.dml.query.Condition;
+import builder.dml.query.Criteria;
+import entity.Person;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+- H2 호환 모드는 LIMIT/OFFSET 순서로 페이징 쿼리와 파라미터를 만든다.
+- 잠금 조회는 FOR UPDATE 를 붙인다.
+- Dialect마다 다른 upsert 쿼리를 만든다.
+- 여러 Entity를 하나의 multi-row insert 쿼리로 만든다.
+- H2는 생성된 PK를 FINAL TABLE로 조회하고, H2 호환 모드는 JDBC generated keys를 사용한다.
+*/
+class DialectTest {
+
+    private final Dialect h2Dialect = DB.H2.getDialect();
+    private final Dialect compatibilityDialect = DB.H2_COMPATIBILITY.getDialect();
+
+    @DisplayName("H2 호환 모드는 LIMIT/OFFSET 순서로 페이징 쿼리와 파라미터를 만든다.")
+    @Test
+    void limitClauseTest() {
+        //given
+        Criteria criteria = Criteria.createCriteria()
+                .where(Condition.goe("old", 20))
+                .offset(10)
+                .limit(5);
+
+        //when
+        String query = new SelectQueryBuilder(compatibilityDialect).buildQuery(EntityData.createEntityData(Person.class, null), criteria);
+
+        //then
+        assertThat(query).isEqualTo("SELECT id, nick_name, old, email FROM users WHERE old >= ? LIMIT ? OFFSET ?;");
+        assertThat(criteria.getParameters(compatibilityDialect)).containsExactly(20, 5, 10);
+        assertThat(criteria.getParameters(h2Dialect)).containsExactly(20, 10, 5);
+    }
+
+    @DisplayName("잠금 조회는 FOR UPDATE 를 붙인다.")
+    @Test
+    void forUpdateTest() {
+        //given
+        Criteria criteria = Criteria.createCriteria()
+                .where(Condition.eq("id", 1L))
+                .forUpdate();
+
+        //when, then
+        assertThat(new SelectQueryBuilder(h2Dialect).buildQuery(EntityData.createEntityData(Person.class, null), criteria))
+                .isEqualTo("SELECT id, nick_name, old, email FROM users WHERE id = ? FOR UPDATE;");
+    }
+
+    @DisplayName("Dialect마다 다른 upsert 쿼리를 만든다.")
+    @Test
+    void upsertTest() {
+        //given
+        EntityData entityData = EntityData.createEntityData(new Person(1L, "sangki", 29, "test@test.com"));
+
+        //when, then
+        assertThat(new UpsertQueryBuilder(h2Dialect).buildQuery(entityData))
+                .isEqualTo("MERGE INTO users (id, nick_name, old, email) KEY (id) VALUES (?, ?, ?, ?);");
+        assertThat(new UpsertQueryBuilder(compatibilityDialect).buildQuery(entityData))
+                .isEqualTo("INSERT INTO users (id, nick_name, old, email) VALUES (?, ?, ?, ?) "
+                        + "ON DUPLICATE KEY UPDATE nick_name = VALUES(nick_name), old = VALUES(old), email = VALUES(email);");
+    }
+
+    @DisplayName("여러 Entity를 하나의 multi-row insert 쿼리로 만든다.")
+    @Test
+    void multiRowInsertTest() {
+        //given
+        List<EntityData> entityDataList = List.of(
+                EntityData.createEntityData(new Person(1L, "test1", 29, "test1@test.com")),
+                EntityData.createEntityData(new Person(2L, "test2", 30, "test2@test.com"))
+        );
+
+        //when, then
+        assertThat(new InsertQueryBuilder(h2Dialect).buildQuery(entityDataList))
+                .isEqualTo("INSERT INTO users (id, nick_name, old, email) VALUES (?, ?, ?, ?), (?, ?, ?, ?);");
+    }
+
+    @DisplayName("H2는 생성된 PK를 FINAL TABLE로 조회하고, H2 호환 모드는 JDBC generated keys를 사용한다.")
+    @Test
+    void generatedIdQueryTest() {
+        //given
+        EntityData entityData = EntityData.createEntityData(new Person(null, "sangki", 29, "test@test.com"));
+
+        //when, then
+        assertThat(new InsertQueryBuilder(h2Dialect).buildInsertReturningQuery(entityData))
+                .contains("SELECT id FROM FINAL TABLE (INSERT INTO users (nick_name, old, email) VALUES (?, ?, ?));");
+        assertThat(new InsertQueryBuilder(compatibilityDialect).buildInsertReturningQuery(entityData)).isEmpty();
+        assertThat(new InsertQueryBuilder(compatibilityDialect).buildGeneratedIdQuery(entityData))
+                .isEqualTo("INSERT INTO users (nick_name, old, email) VALUES (?, ?, ?);");
+    }
+}
@@ -0,0 +1,177 @@
+package builder;
+
+import builder.ddl.DDLBuilderData;
+import builder.ddl.builder.CreateIndexQueryBuilder;
+import builder.ddl.builder.CreateQueryBuilder;
+import builder.ddl.dataType.DB;
+import builder.ddl.schema.SchemaMigrator;
+import builder.ddl.schema.SchemaMode;
+import database.H2DBConnection;
+import entity.Member;
+import entity.Person;
+import jdbc.JdbcTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+- 테이블이 없으면 create table과 create index 쿼리를 만든다.
+- Entity와 같은 스키마면 DDL을 만들지 않는다.
+- 기존 테이블에 없는 컬럼, UNIQUE 제약, 인덱스만 추가하고 다른 컬럼 타입을 변경한다.
+- UPDATE 모드로 실행하면 데이터를 유지한 채 스키마가 Entity와 같아진다.
+- NOT NULL 컬럼은 NULL 허용으로 추가하고, 빈 테이블일 때만 NOT NULL 조건을 추가한다.
+- 행이 있는 테이블에도 NOT NULL 컬럼을 추가하고, 값을 채우면 NOT NULL 조건이 추가된다.
+- NULL 값이 있어 NOT NULL 조건을 추가하지 못한 컬럼은 VALIDATE 모드에서 예외가 발생한다.
+- VALIDATE 모드에서 스키마가 다르면 예외가 발생한다.
+*/
+class SchemaMigratorTest {
+
+    private H2DBConnection h2DBConnection;
+    private JdbcTemplate jdbcTemplate;
+    private SchemaMigrator schemaMigrator;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.h2DBConnection = new H2DBConnection();
+        this.jdbcTemplate = this.h2DBConnection.start();
+        this.schemaMigrator = new SchemaMigrator(jdbcTemplate, DB.H2);
+    }
+
+    //정확한 테스트를 위해 메소드마다 테이블 DROP 후 DB종료
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS members;");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS users;");
+        this.h2DBConnection.stop();
+    }
+
+    @DisplayName("테이블이 없으면 create table과 create index 쿼리를 만든다.")
+    @Test
+    void notExistTableTest() {
+        //when, then
+        assertThat(schemaMigrator.diff(Member.class)).containsExactly(
+                "CREATE TABLE members (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255), team_id BIGINT);",
+                "CREATE INDEX idx_members_team_id ON members (team_id);"
+        );
+    }
+
+    @DisplayName("Entity와 같은 스키마면 DDL을 만들지 않는다.")
+    @Test
+    void sameSchemaTest() {
+        //given
+        jdbcTemplate.execute(new CreateQueryBuilder().buildQuery(DDLBuilderData.createDDLBuilderData(Person.class, DB.H2)));
+        jdbcTemplate.execute(new CreateQueryBuilder().buildQuery(DDLBuilderData.createDDLBuilderData(Member.class, DB.H2)));
+        new CreateIndexQueryBuilder().buildQuery(DDLBuilderData.createDDLBuilderData(Member.class, DB.H2))
+                .forEach(jdbcTemplate::execute);
+
+        //when, then
+        assertThat(schemaMigrator.diff(List.of(Person.class, Member.class)).values()).containsOnly(List.of());
+    }
+
+    @DisplayName("기존 테이블에 없는 컬럼, UNIQUE 제약, 인덱스만 추가하고 다른 컬럼 타입을 변경한다.")
+    @Test
+    void alterTableTest() {
+        //given
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, nick_name VARCHAR(100), email VARCHAR(255));");
+        jdbcTemplate.execute("CREATE TABLE members (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255));");
+
+        //when
+        List<String> personDiff = schemaMigrator.diff(Person.class);
+        List<String> memberDiff = schemaMigrator.diff(Member.class);
+
+        //then
+        assertThat(personDiff).containsExactly(
+                "ALTER TABLE users ALTER COLUMN nick_name SET DATA TYPE VARCHAR(255);",
+                "ALTER TABLE users ADD COLUMN old INTEGER;",
+                "ALTER TABLE users ALTER COLUMN email SET NOT NULL;",
+                "ALTER TABLE users ADD CONSTRAINT uk_users_email UNIQUE (email);"
+        );
+        assertThat(memberDiff).containsExactly(
+                "ALTER TABLE members ADD COLUMN team_id BIGINT;",
+                "CREATE INDEX idx_members_team_id ON members (team_id);"
+        );
+    }
+
+    @DisplayName("UPDATE 모드로 실행하면 데이터를 유지한 채 스키마가 Entity와 같아진다.")
+    @Test
+    void updateTest() {
+        //given
+        jdbcTemplate.execute("CREATE TABLE members (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255));");
+        jdbcTemplate.execute("INSERT INTO members (name) VALUES ('홍길동');");
+
+        //when
+        schemaMigrator.migrate(SchemaMode.UPDATE, List.of(Member.class));
+
+        //then
+        assertThat(schemaMigrator.diff(Member.class)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM members;", resultSet -> resultSet.getString(1)))
+                .isEqualTo("홍길동");
+    }
+
+    @DisplayName("NOT NULL 컬럼은 NULL 허용으로 추가하고, 빈 테이블일 때만 NOT NULL 조건을 추가한다.")
+    @Test
+    void addNotNullColumnTest() {
+        //given
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, nick_name VARCHAR(255), old INTEGER);");
+
+        //when, then
+        assertThat(schemaMigrator.diff(Person.class)).containsExactly(
+                "ALTER TABLE users ADD COLUMN email VARCHAR(255);",
+                "ALTER TABLE users ALTER COLUMN email SET NOT NULL;",
+                "ALTER TABLE users ADD CONSTRAINT uk_users_email UNIQUE (email);"
+        );
+    }
+
+    @DisplayName("행이 있는 테이블에도 NOT NULL 컬럼을 추가하고, 값을 채우면 NOT NULL 조건이 추가된다.")
+    @Test
+    void addNotNullColumnToPopulatedTableTest() {
+        //given
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, nick_name VARCHAR(255), old INTEGER);");
+        jdbcTemplate.execute("INSERT INTO users (nick_name, old) VALUES ('sangki', 29);");
+
+        //when
+        schemaMigrator.migrate(SchemaMode.UPDATE, List.of(Person.class));
+        jdbcTemplate.execute("UPDATE users SET email = 'test@test.com';");
+
+        //then
+        assertThat(jdbcTemplate.queryForObject("SELECT nick_name FROM users;", resultSet -> resultSet.getString(1)))
+                .isEqualTo("sangki");
+        assertThat(schemaMigrator.diff(Person.class)).containsExactly("ALTER TABLE users ALTER COLUMN email SET NOT NULL;");
+        schemaMigrator.migrate(SchemaMode.UPDATE, List.of(Person.class));
+        assertThat(schemaMigrator.diff(Person.class)).isEmpty();
+    }
+
+    @DisplayName("NULL 값이 있어 NOT NULL 조건을 추가하지 못한 컬럼은 VALIDATE 모드에서 예외가 발생한다.")
+    @Test
+    void validateDeferredNotNullTest() {
+        //given
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, nick_name VARCHAR(255), old INTEGER);");
+        jdbcTemplate.execute("INSERT INTO users (nick_name, old) VALUES ('sangki', 29);");
+        schemaMigrator.migrate(SchemaMode.UPDATE, List.of(Person.class));
+
+        //when, then
+        assertThat(schemaMigrator.diff(Person.class)).containsExactly("ALTER TABLE users ALTER COLUMN email SET NOT NULL;");
+        assertThatThrownBy(() -> schemaMigrator.migrate(SchemaMode.VALIDATE, List.of(Person.class)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("ALTER TABLE users ALTER COLUMN email SET NOT NULL;");
+    }
+
+    @DisplayName("VALIDATE 모드에서 스키마가 다르면 예외가 발생한다.")
+    @Test
+    void validateTest() {
+        //given
+        jdbcTemplate.execute("CREATE TABLE members (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, name VARCHAR(255));");
+
+        //when, then
+        assertThatThrownBy(() -> schemaMigrator.migrate(SchemaMode.VALIDATE, List.of(Member.class)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("ALTER TABLE members ADD COLUMN team_id BIGINT;");
+    }
+}
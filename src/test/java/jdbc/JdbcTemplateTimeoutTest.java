@@ -0,0 +1,91 @@
+package jdbc;
+
+import database.H2DBConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+- timeout을 넘은 쿼리는 중단되고 QueryCancelledException이 발생한다.
+- 다른 스레드에서 CancellationHandle로 실행중인 쿼리를 취소한다.
+- 취소된 CancellationHandle로는 쿼리를 실행하지 않는다.
+- 기한이 지난 작업 단위에서는 쿼리를 실행하지 않는다.
+*/
+class JdbcTemplateTimeoutTest {
+
+    //약 10^10 건을 세는 쿼리. timeout 없이는 테스트 시간 안에 끝나지 않는다.
+    private final static String SLOW_QUERY = "SELECT COUNT(*) FROM SYSTEM_RANGE(1, 100000) A, SYSTEM_RANGE(1, 100000) B;";
+
+    private H2DBConnection h2DBConnection;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.h2DBConnection = new H2DBConnection();
+        this.jdbcTemplate = this.h2DBConnection.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.h2DBConnection.stop();
+    }
+
+    @DisplayName("timeout을 넘은 쿼리는 중단되고 QueryCancelledException이 발생한다.")
+    @Test
+    void timeoutTest() {
+        //given
+        JdbcTemplate timeoutJdbcTemplate = jdbcTemplate.withTimeout(Duration.ofMillis(200));
+
+        //when
+        long startTime = System.nanoTime();
+        assertThatThrownBy(() -> timeoutJdbcTemplate.query(SLOW_QUERY, resultSet -> resultSet.getLong(1)))
+                .isInstanceOf(QueryCancelledException.class)
+                .matches(e -> ((QueryCancelledException) e).isTimedOut());
+
+        //then
+        assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @DisplayName("다른 스레드에서 CancellationHandle로 실행중인 쿼리를 취소한다.")
+    @Test
+    void cancelTest() {
+        //given
+        CancellationHandle cancellationHandle = new CancellationHandle();
+        CompletableFuture.runAsync(cancellationHandle::cancel, CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS));
+
+        //when, then
+        assertThatThrownBy(() -> jdbcTemplate.withCancellation(cancellationHandle).query(SLOW_QUERY, resultSet -> resultSet.getLong(1)))
+                .isInstanceOf(QueryCancelledException.class)
+                .matches(e -> !((QueryCancelledException) e).isTimedOut());
+    }
+
+    @DisplayName("취소된 CancellationHandle로는 쿼리를 실행하지 않는다.")
+    @Test
+    void alreadyCancelledTest() {
+        //given
+        CancellationHandle cancellationHandle = new CancellationHandle();
+        cancellationHandle.cancel();
+
+        //when, then
+        assertThatThrownBy(() -> jdbcTemplate.withCancellation(cancellationHandle).query("SELECT 1;", resultSet -> resultSet.getInt(1)))
+                .isInstanceOf(QueryCancelledException.class);
+    }
+
+    @DisplayName("기한이 지난 작업 단위에서는 쿼리를 실행하지 않는다.")
+    @Test
+    void deadlineTest() {
+        assertThatThrownBy(() -> QueryDeadline.within(Duration.ZERO, () -> jdbcTemplate.query("SELECT 1;", resultSet -> resultSet.getInt(1))))
+                .isInstanceOf(QueryCancelledException.class)
+                .matches(e -> ((QueryCancelledException) e).isTimedOut());
+        assertThat(jdbcTemplate.query("SELECT 1;", resultSet -> resultSet.getInt(1))).containsExactly(1);
+    }
+}
@@ -0,0 +1,85 @@
+package jdbc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+- 문자열과 숫자 값은 ?로 바뀐다.
+- 문자열 안의 따옴표와 공백은 값으로 처리된다.
+- 식별자에 붙은 숫자는 유지된다.
+- IN 절의 값 목록은 개수와 상관없이 하나로 묶인다.
+- 값만 다른 쿼리는 같은 fingerprint로 집계된다.
+- 리터럴이 들어간 SQL은 캐시하지 않고, 파라미터 SQL만 캐시한다.
+*/
+class StatementFingerprintTest {
+
+    @DisplayName("문자열과 숫자 값은 ?로 바뀐다.")
+    @Test
+    void literalTest() {
+        String fingerprint = StatementFingerprint.normalize("INSERT INTO users (id, nick_name, old, email) VALUES (1, 'test', 29, 'test@test.com');");
+
+        assertThat(fingerprint).isEqualTo("INSERT INTO users (id, nick_name, old, email) VALUES (?);");
+    }
+
+    @DisplayName("문자열 안의 따옴표와 공백은 값으로 처리된다.")
+    @Test
+    void quotedStringTest() {
+        String fingerprint = StatementFingerprint.normalize("UPDATE users  SET nick_name = 'it''s   me'\n WHERE id = 3;");
+
+        assertThat(fingerprint).isEqualTo("UPDATE users SET nick_name = ? WHERE id = ?;");
+    }
+
+    @DisplayName("식별자에 붙은 숫자는 유지된다.")
+    @Test
+    void identifierTest() {
+        String fingerprint = StatementFingerprint.normalize("SELECT column1 FROM table_2 WHERE old > 10.5;");
+
+        assertThat(fingerprint).isEqualTo("SELECT column1 FROM table_2 WHERE old > ?;");
+    }
+
+    @DisplayName("IN 절의 값 목록은 개수와 상관없이 하나로 묶인다.")
+    @Test
+    void inListTest() {
+        String fingerprint = StatementFingerprint.normalize("SELECT id FROM users WHERE id IN (1, 2, 3);");
+
+        assertThat(fingerprint).isEqualTo(StatementFingerprint.normalize("SELECT id FROM users WHERE id IN (?, ?);"));
+    }
+
+    @DisplayName("값만 다른 쿼리는 같은 fingerprint로 집계된다.")
+    @Test
+    void statisticsTest() {
+        //given
+        StatementStatistics statementStatistics = new StatementStatistics();
+
+        //when
+        statementStatistics.record("DELETE FROM users WHERE id = 1;", 1_000_000L);
+        statementStatistics.record("DELETE FROM users WHERE id = 2;", 3_000_000L);
+        statementStatistics.record("SELECT 1;", 500_000L);
+
+        //then
+        StatementStatistics.StatementStats stats = statementStatistics.getTop(1).get(0);
+        assertThat(stats.fingerprint()).isEqualTo("DELETE FROM users WHERE id = ?;");
+        assertThat(stats.count()).isEqualTo(2);
+        assertThat(stats.totalNanos()).isEqualTo(4_000_000L);
+        assertThat(stats.maxNanos()).isEqualTo(3_000_000L);
+    }
+
+    @DisplayName("리터럴이 들어간 SQL은 캐시하지 않고, 파라미터 SQL만 캐시한다.")
+    @Test
+    void cacheTest() {
+        //given
+        int cacheSize = StatementFingerprint.getCacheSize();
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            assertThat(StatementFingerprint.of("SELECT nick_name FROM users WHERE id = " + i + ";"))
+                    .isEqualTo("SELECT nick_name FROM users WHERE id = ?;");
+        }
+        StatementFingerprint.of("SELECT nick_name, old FROM users WHERE id = ?;");
+
+        //then
+        assertThat(StatementFingerprint.getCacheSize()).isEqualTo(cacheSize + 1);
+    }
+}
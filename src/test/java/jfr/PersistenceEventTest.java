@@ -0,0 +1,125 @@
+package jfr;
+
+import builder.ddl.DDLBuilderData;
+import builder.ddl.builder.CreateQueryBuilder;
+import builder.ddl.builder.DropQueryBuilder;
+import builder.ddl.dataType.DB;
+import database.H2DBConnection;
+import entity.Person;
+import jdbc.JdbcTemplate;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import persistence.EntityManager;
+import persistence.EntityManagerImpl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+- find 하면 영속성 컨텍스트 적중 여부와 함께 EntityFind 이벤트가 기록된다.
+- persist 하면 EntityPersist, EntityWrite, SqlExecution 이벤트가 기록된다.
+- 기록중이 아니면 이벤트가 기록되지 않는다.
+*/
+class PersistenceEventTest {
+
+    private H2DBConnection h2DBConnection;
+    private JdbcTemplate jdbcTemplate;
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.h2DBConnection = new H2DBConnection();
+        this.jdbcTemplate = this.h2DBConnection.start();
+
+        CreateQueryBuilder queryBuilder = new CreateQueryBuilder();
+        jdbcTemplate.execute(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Person.class, DB.H2)));
+
+        this.entityManager = new EntityManagerImpl(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DropQueryBuilder queryBuilder = new DropQueryBuilder();
+        jdbcTemplate.execute(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Person.class, DB.H2)));
+        this.h2DBConnection.stop();
+    }
+
+    @DisplayName("find 하면 영속성 컨텍스트 적중 여부와 함께 EntityFind 이벤트가 기록된다.")
+    @Test
+    void findEventTest() throws IOException {
+        //given
+        this.entityManager.persist(new Person(1L, "test1", 29, "test@test.com"));
+
+        //when
+        List<RecordedEvent> events = record(() -> this.entityManager.find(Person.class, 1L), "persistence.EntityFind");
+
+        //then
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getClass("entityClass").getName()).isEqualTo(Person.class.getName());
+        assertThat(events.get(0).getString("entityId")).isEqualTo("1");
+        assertThat(events.get(0).getBoolean("persistenceContextHit")).isTrue();
+    }
+
+    @DisplayName("persist 하면 EntityPersist, EntityWrite, SqlExecution 이벤트가 기록된다.")
+    @Test
+    void persistEventTest() throws IOException {
+        //when
+        List<RecordedEvent> events = record(() -> this.entityManager.persist(new Person(1L, "test1", 29, "test@test.com")),
+                "persistence.EntityPersist", "persistence.EntityWrite", "persistence.SqlExecution");
+
+        //then
+        List<String> eventNames = events.stream()
+                .map(event -> event.getEventType().getName())
+                .toList();
+        List<Long> sqlRowCounts = events.stream()
+                .filter(event -> event.getEventType().getName().equals("persistence.SqlExecution"))
+                .map(event -> event.getLong("rowCount"))
+                .toList();
+        assertThat(eventNames).containsExactlyInAnyOrder("persistence.EntityPersist", "persistence.EntityWrite", "persistence.SqlExecution");
+        assertThat(sqlRowCounts).containsExactly(1L);
+    }
+
+    @DisplayName("기록중이 아니면 이벤트가 기록되지 않는다.")
+    @Test
+    void notRecordingTest() throws IOException {
+        //given
+        this.entityManager.persist(new Person(1L, "test1", 29, "test1@test.com"));
+        this.entityManager.persist(new Person(2L, "test2", 29, "test2@test.com"));
+
+        //when
+        this.entityManager.find(Person.class, 1L);
+        List<RecordedEvent> events = record(() -> this.entityManager.find(Person.class, 2L), "persistence.EntityFind");
+
+        //then
+        List<String> entityIds = events.stream()
+                .map(event -> event.getString("entityId"))
+                .toList();
+        assertThat(entityIds).containsExactly("2");
+    }
+
+    private List<RecordedEvent> record(Runnable runnable, String... eventNames) throws IOException {
+        Path path = Files.createTempFile("persistence", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String eventName : eventNames) {
+                recording.enable(eventName).withoutThreshold();
+            }
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(path);
+            return RecordingFile.readAllEvents(path);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package metrics;
+
+import metrics.jmx.JmxReporter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+- 같은 이름으로 조회한 Counter는 같은 지표이다.
+- Timer는 기록한 지연 시간의 백분위수를 반환한다.
+- JmxReporter는 이미 등록된 지표와 이후 등록되는 지표를 MBean으로 노출한다.
+*/
+class MetricsRegistryTest {
+
+    @Test
+    @DisplayName("같은 이름으로 조회한 Counter는 같은 지표이다.")
+    void counterTest() {
+        //given
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+        //when
+        metricsRegistry.counter("test.counter").increment();
+        metricsRegistry.counter("test.counter").increment();
+
+        //then
+        assertThat(metricsRegistry.counter("test.counter").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Timer는 기록한 지연 시간의 백분위수를 반환한다.")
+    void timerPercentileTest() {
+        //given
+        Timer timer = new MetricsRegistry().timer("test.timer");
+
+        //when
+        for (int i = 1; i <= 100; i++) {
+            timer.record(i * 1_000L);
+        }
+
+        //then
+        assertThat(timer.getCount()).isEqualTo(100);
+        assertThat(timer.getMaxNanos()).isEqualTo(100_000L);
+        assertThat(timer.getNanosAtPercentile(50)).isBetween(45_000L, 55_000L);
+        assertThat(timer.getNanosAtPercentile(99)).isBetween(95_000L, 105_000L);
+    }
+
+    @Test
+    @DisplayName("JmxReporter는 이미 등록된 지표와 이후 등록되는 지표를 MBean으로 노출한다.")
+    void jmxReporterTest() throws Exception {
+        //given
+        MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+        JmxReporter jmxReporter = new JmxReporter(mBeanServer, "test.metrics");
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+        metricsRegistry.counter("before.counter").increment();
+
+        //when
+        metricsRegistry.addReporter(jmxReporter);
+        metricsRegistry.timer("after.timer").record(1_000_000L);
+
+        //then
+        ObjectName counterName = jmxReporter.objectNameOf("Counter", "before.counter");
+        ObjectName timerName = jmxReporter.objectNameOf("Timer", "after.timer");
+        assertThat(mBeanServer.getAttribute(counterName, "Count")).isEqualTo(1L);
+        assertThat(mBeanServer.getAttribute(timerName, "Count")).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,221 @@
+package persistence;
+
+import builder.ddl.DDLBuilderData;
+import builder.ddl.builder.CreateIndexQueryBuilder;
+import builder.ddl.builder.CreateQueryBuilder;
+import builder.ddl.builder.DropQueryBuilder;
+import builder.ddl.dataType.DB;
+import builder.dml.query.Condition;
+import builder.dml.query.Order;
+import database.H2DBConnection;
+import entity.Member;
+import entity.Team;
+import jdbc.JdbcTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+- @ManyToOne 필드는 FK 컬럼으로 저장되고 조회 시 영속성 컨텍스트의 Entity로 연결된다.
+- @OneToMany 컬렉션은 처음 접근할 때 조회하고, 조회한 원소는 영속성 컨텍스트에서 관리된다.
+- @ManyToOne 참조를 바꾸면 dirty check로 FK 컬럼만 수정된다.
+- 목록 조회 시 참조하는 Entity를 batchFetchSize 단위의 IN 쿼리로 함께 조회한다.
+- 컬렉션 하나를 초기화하면 초기화되지 않은 같은 필드의 컬렉션을 IN 쿼리로 함께 초기화한다.
+- joinFetch로 @ManyToOne 참조를 한번의 쿼리로 함께 조회한다.
+- joinFetch로 @OneToMany 컬렉션을 한번의 쿼리로 초기화한다.
+*/
+class AssociationTest {
+
+    private EntityManager entityManager;
+    private H2DBConnection h2DBConnection;
+    private JdbcTemplate jdbcTemplate;
+    private PersistenceContext persistenceContext;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.h2DBConnection = new H2DBConnection();
+        this.jdbcTemplate = this.h2DBConnection.start();
+
+        //테이블 생성
+        CreateQueryBuilder queryBuilder = new CreateQueryBuilder();
+        jdbcTemplate.execute(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Team.class, DB.H2)));
+        jdbcTemplate.execute(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Member.class, DB.H2)));
+        new CreateIndexQueryBuilder().buildQuery(DDLBuilderData.createDDLBuilderData(Member.class, DB.H2))
+                .forEach(jdbcTemplate::execute);
+
+        this.persistenceContext = new PersistenceContextImpl();
+        this.entityManager = new EntityManagerImpl(persistenceContext, jdbcTemplate);
+    }
+
+    //정확한 테스트를 위해 메소드마다 테이블 DROP 후 DB종료
+    @AfterEach
+    void tearDown() {
+        DropQueryBuilder queryBuilder = new DropQueryBuilder();
+        jdbcTemplate.execute(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Member.class, DB.H2)));
+        jdbcTemplate.execute(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Team.class, DB.H2)));
+        this.h2DBConnection.stop();
+    }
+
+    @DisplayName("@ManyToOne 필드는 FK 컬럼으로 저장되고 조회 시 영속성 컨텍스트의 Entity로 연결된다.")
+    @Test
+    void manyToOneTest() {
+        //given
+        Team team = new Team(1L, "개발팀");
+        entityManager.persist(team);
+        entityManager.persist(new Member(1L, "홍길동", team));
+
+        //when
+        EntityManager otherEntityManager = new EntityManagerImpl(jdbcTemplate);
+        Member member = otherEntityManager.find(Member.class, 1L);
+
+        //then
+        assertThat(member.getTeam().getName()).isEqualTo("개발팀");
+        assertThat(otherEntityManager.getStatistics().getQueryCount()).isEqualTo(2);
+        assertThat(otherEntityManager.find(Team.class, 1L).getName()).isEqualTo("개발팀");
+        assertThat(otherEntityManager.getStatistics().getQueryCount()).isEqualTo(2);
+    }
+
+    @DisplayName("@OneToMany 컬렉션은 처음 접근할 때 조회하고, 조회한 원소는 영속성 컨텍스트에서 관리된다.")
+    @Test
+    void oneToManyTest() {
+        //given
+        Team team = new Team(1L, "개발팀");
+        entityManager.persist(team);
+        entityManager.persist(new Member(1L, "홍길동", team));
+        entityManager.persist(new Member(2L, "김철수", team));
+        entityManager.persist(new Member(3L, "이영희", null));
+
+        EntityManager otherEntityManager = new EntityManagerImpl(jdbcTemplate);
+        Team findTeam = otherEntityManager.find(Team.class, 1L);
+        long queryCount = otherEntityManager.getStatistics().getQueryCount();
+
+        //when
+        List<Member> members = findTeam.getMembers();
+
+        //then
+        assertThat(otherEntityManager.getStatistics().getQueryCount()).isEqualTo(queryCount);
+        assertThat(((LazyList<Member>) members).isInitialized()).isFalse();
+        assertThat(members.stream().map(Member::getName).toList()).containsExactly("홍길동", "김철수");
+        assertThat(((LazyList<Member>) members).isInitialized()).isTrue();
+        assertThat(otherEntityManager.getStatistics().getQueryCount()).isEqualTo(queryCount + 1);
+    }
+
+    @DisplayName("@ManyToOne 참조를 바꾸면 dirty check로 FK 컬럼만 수정된다.")
+    @Test
+    void changeReferenceTest() {
+        //given
+        Team team = new Team(1L, "개발팀");
+        Team otherTeam = new Team(2L, "기획팀");
+        entityManager.persist(team);
+        entityManager.persist(otherTeam);
+        entityManager.persist(new Member(1L, "홍길동", team));
+
+        //when
+        Member member = entityManager.find(Member.class, 1L);
+        member.changeTeam(otherTeam);
+        entityManager.merge(member);
+
+        //then
+        List<Member> members = new EntityManagerImpl(jdbcTemplate).createQuery(Member.class)
+                .where(Condition.eq("team_id", 2L))
+                .getResultList();
+        assertThat(members).hasSize(1);
+        assertThat(members.get(0).getTeam().getName()).isEqualTo("기획팀");
+    }
+
+    @DisplayName("목록 조회 시 참조하는 Entity를 batchFetchSize 단위의 IN 쿼리로 함께 조회한다.")
+    @Test
+    void batchFetchReferenceTest() {
+        //given
+        persistTeamsWithMembers(5);
+        EntityManager otherEntityManager = new EntityManagerImpl(jdbcTemplate);
+        otherEntityManager.setBatchFetchSize(3);
+
+        //when
+        List<Member> members = otherEntityManager.createQuery(Member.class)
+                .orderBy(Order.asc("id"))
+                .getResultList();
+
+        //then
+        assertThat(members).hasSize(10);
+        assertThat(members.stream().map(member -> member.getTeam().getName()).distinct().toList())
+                .containsExactly("팀1", "팀2", "팀3", "팀4", "팀5");
+        assertThat(otherEntityManager.getStatistics().getQueryCount()).isEqualTo(3);
+    }
+
+    @DisplayName("컬렉션 하나를 초기화하면 초기화되지 않은 같은 필드의 컬렉션을 IN 쿼리로 함께 초기화한다.")
+    @Test
+    void batchFetchCollectionTest() {
+        //given
+        persistTeamsWithMembers(5);
+        EntityManager otherEntityManager = new EntityManagerImpl(jdbcTemplate);
+        List<Team> teams = otherEntityManager.createQuery(Team.class)
+                .orderBy(Order.asc("id"))
+                .getResultList();
+        long queryCount = otherEntityManager.getStatistics().getQueryCount();
+
+        //when
+        int firstTeamMemberCount = teams.get(0).getMembers().size();
+
+        //then
+        assertThat(firstTeamMemberCount).isEqualTo(2);
+        assertThat(teams.stream().allMatch(team -> ((LazyList<Member>) team.getMembers()).isInitialized())).isTrue();
+        assertThat(teams.stream().mapToInt(team -> team.getMembers().size()).sum()).isEqualTo(10);
+        assertThat(otherEntityManager.getStatistics().getQueryCount()).isEqualTo(queryCount + 1);
+    }
+
+    @DisplayName("joinFetch로 @ManyToOne 참조를 한번의 쿼리로 함께 조회한다.")
+    @Test
+    void joinFetchReferenceTest() {
+        //given
+        persistTeamsWithMembers(3);
+        entityManager.persist(new Member(100L, "무소속", null));
+        EntityManager otherEntityManager = new EntityManagerImpl(jdbcTemplate);
+
+        //when
+        List<Member> members = otherEntityManager.createQuery(Member.class)
+                .joinFetch("team")
+                .getResultList();
+
+        //then
+        assertThat(members).hasSize(7);
+        assertThat(members.get(0).getTeam().getName()).isEqualTo("팀1");
+        assertThat(members.get(6).getTeam()).isNull();
+        assertThat(otherEntityManager.getStatistics().getQueryCount()).isEqualTo(1);
+    }
+
+    @DisplayName("joinFetch로 @OneToMany 컬렉션을 한번의 쿼리로 초기화한다.")
+    @Test
+    void joinFetchCollectionTest() {
+        //given
+        persistTeamsWithMembers(3);
+        entityManager.persist(new Team(100L, "빈팀"));
+        EntityManager otherEntityManager = new EntityManagerImpl(jdbcTemplate);
+
+        //when
+        List<Team> teams = otherEntityManager.createQuery(Team.class)
+                .joinFetch("members")
+                .getResultList();
+
+        //then
+        assertThat(teams).hasSize(4);
+        assertThat(teams.get(0).getMembers().stream().map(Member::getName).toList()).containsExactly("팀1-멤버1", "팀1-멤버2");
+        assertThat(teams.get(3).getMembers()).isEmpty();
+        assertThat(otherEntityManager.getStatistics().getQueryCount()).isEqualTo(1);
+    }
+
+    private void persistTeamsWithMembers(int teamCount) {
+        for (long teamId = 1; teamId <= teamCount; teamId++) {
+            Team team = new Team(teamId, "팀" + teamId);
+            entityManager.persist(team);
+            entityManager.persist(new Member(teamId * 2 - 1, team.getName() + "-멤버1", team));
+            entityManager.persist(new Member(teamId * 2, team.getName() + "-멤버2", team));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package persistence;
+
+import builder.ddl.DDLBuilderData;
+import builder.ddl.builder.CreateQueryBuilder;
+import builder.ddl.builder.DropQueryBuilder;
+import builder.ddl.dataType.DB;
+import builder.dml.query.Criteria;
+import builder.dml.query.Order;
+import database.ConnectionPool;
+import database.H2DBConnection;
+import entity.Person;
+import jdbc.JdbcTemplate;
+import jdbc.QueryCancelledException;
+import jdbc.QueryDeadline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+- 여러 Entity를 동시에 저장하고 동시에 조회한다.
+- merge는 영속성 컨텍스트가 없어도 전체 컬럼을 수정한다.
+- 연산이 끝나면 빌린 커넥션은 모두 풀에 반납된다.
+- 호출한 스레드의 기한은 커넥션을 기다리는 시간에도 적용된다.
+- 기한이 있으면 커넥션 풀은 남은 시간까지만 커넥션을 기다린다.
+*/
+class AsyncEntityManagerTest {
+
+    private final static int POOL_SIZE = 4;
+
+    private H2DBConnection h2DBConnection;
+    private JdbcTemplate jdbcTemplate;
+    private ConnectionPool connectionPool;
+    private AsyncEntityManager asyncEntityManager;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.h2DBConnection = new H2DBConnection();
+        this.jdbcTemplate = this.h2DBConnection.start();
+
+        CreateQueryBuilder queryBuilder = new CreateQueryBuilder();
+        jdbcTemplate.execute(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Person.class, DB.H2)));
+
+        this.connectionPool = this.h2DBConnection.createConnectionPool(POOL_SIZE);
+        this.asyncEntityManager = new AsyncEntityManager(connectionPool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.asyncEntityManager.close();
+        this.connectionPool.close();
+        DropQueryBuilder queryBuilder = new DropQueryBuilder();
+        jdbcTemplate.execute(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Person.class, DB.H2)));
+        this.h2DBConnection.stop();
+    }
+
+    @DisplayName("여러 Entity를 동시에 저장하고 동시에 조회한다.")
+    @Test
+    void persistAndFindTest() {
+        //given
+        CompletableFuture.allOf(IntStream.rangeClosed(1, 20)
+                .mapToObj(i -> asyncEntityManager.persist(new Person((long) i, "test" + i, 20 + i, "test" + i + "@test.com")))
+                .toArray(CompletableFuture[]::new)).join();
+
+        //when
+        List<CompletableFuture<Person>> futures = IntStream.rangeClosed(1, 20)
+                .mapToObj(i -> asyncEntityManager.find(Person.class, (long) i))
+                .toList();
+
+        //then
+        assertThat(futures.stream().map(CompletableFuture::join).map(Person::getId).toList())
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 20).boxed().toList());
+        assertThat(asyncEntityManager.findAll(Person.class, Criteria.createCriteria().orderBy(Order.asc("id"))).join())
+                .hasSize(20);
+    }
+
+    @DisplayName("merge는 영속성 컨텍스트가 없어도 전체 컬럼을 수정한다.")
+    @Test
+    void mergeTest() {
+        //given
+        asyncEntityManager.persist(new Person(1L, "test1", 29, "test@test.com")).join();
+
+        //when
+        asyncEntityManager.merge(new Person(1L, "changed", 30, "changed@test.com")).join();
+
+        //then
+        Person person = asyncEntityManager.find(Person.class, 1L).join();
+        assertThat(person.getName()).isEqualTo("changed");
+        assertThat(person.getAge()).isEqualTo(30);
+    }
+
+    @DisplayName("연산이 끝나면 빌린 커넥션은 모두 풀에 반납된다.")
+    @Test
+    void releaseConnectionTest() {
+        //when
+        CompletableFuture.allOf(IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> asyncEntityManager.find(Person.class, (long) i).exceptionally(e -> null))
+                .toArray(CompletableFuture[]::new)).join();
+
+        //then
+        assertThat(connectionPool.getIdleCount()).isEqualTo(POOL_SIZE);
+    }
+
+    @DisplayName("호출한 스레드의 기한은 커넥션을 기다리는 시간에도 적용된다.")
+    @Test
+    void deadlineTest() {
+        //given
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        List<CompletableFuture<Object>> holders = IntStream.range(0, POOL_SIZE)
+                .mapToObj(i -> asyncEntityManager.submit(entityManager -> {
+                    release.join();
+                    return null;
+                }))
+                .toList();
+
+        //when
+        CompletableFuture<Person> future = QueryDeadline.within(Duration.ofMillis(100), () -> asyncEntityManager.find(Person.class, 1L));
+
+        //then
+        assertThatThrownBy(future::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(QueryCancelledException.class);
+        release.complete(null);
+        CompletableFuture.allOf(holders.toArray(CompletableFuture[]::new)).join();
+        assertThat(connectionPool.getIdleCount()).isEqualTo(POOL_SIZE);
+    }
+
+    @DisplayName("기한이 있으면 커넥션 풀은 남은 시간까지만 커넥션을 기다린다.")
+    @Test
+    void connectionPoolDeadlineTest() {
+        //given
+        List<Connection> connections = IntStream.range(0, POOL_SIZE)
+                .mapToObj(i -> connectionPool.acquire())
+                .toList();
+
+        //when, then
+        assertThatThrownBy(() -> QueryDeadline.within(Duration.ofMillis(50), () -> connectionPool.acquire()))
+                .isInstanceOf(QueryCancelledException.class);
+        connections.forEach(connectionPool::release);
+        Connection connection = QueryDeadline.within(Duration.ofMillis(50), () -> connectionPool.acquire());
+        assertThat(connection).isNotNull();
+        connectionPool.release(connection);
+    }
+}
@@ -5,15 +5,20 @@ import builder.ddl.builder.CreateQueryBuilder;
 import builder.ddl.builder.DropQueryBuilder;
 import builder.ddl.dataType.DB;
 import builder.dml.EntityData;
+import builder.dml.query.Criteria;
+import builder.dml.query.Order;
 import database.H2DBConnection;
 import entity.Person;
 import jdbc.JdbcTemplate;
+import jdbc.PipelineOptions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -23,6 +28,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 - Persist로 Person 저장 후 영속성 컨텍스트에 존재하는지 확인한다.
 - remove 실행하면 영속성 컨텍스트에 데이터가 제거된다.
 - update 실행하면 영속성컨텍스트 데이터도 수정된다.
+- scanPipelined를 ordered로 실행하면 findAll과 같은 순서로 Entity를 전달한다.
 */
 class EntityLoaderTest {
 
@@ -66,10 +72,32 @@ class EntityLoaderTest {
 
         assertThat(this.entityLoader.find(Person.class, 1L))
                 .extracting("id", "name", "age", "email")
-                .contains(1L, "test1", 29, "test@test.com");
+                .contains(1L, "test1", 29, "test1@test.com");
+    }
+
+    @DisplayName("scanPipelined를 ordered로 실행하면 findAll과 같은 순서로 Entity를 전달한다.")
+    @Test
+    void scanPipelinedTest() {
+        //given
+        for (int i = 1; i <= 1000; i++) {
+            this.entityPersister.persist(EntityData.createEntityData(createPerson(i)));
+        }
+        Criteria criteria = Criteria.createCriteria().orderBy(Order.desc("id"));
+        List<Person> scannedPersons = new ArrayList<>();
+
+        //when
+        long scannedCount = this.entityLoader.scanPipelined(Person.class, criteria, scannedPersons::add, new PipelineOptions(64, 4, 3, true));
+
+        //then
+        assertThat(scannedCount).isEqualTo(1000);
+        assertThat(scannedPersons).extracting("id")
+                .containsExactlyElementsOf(this.entityLoader.findAll(Person.class, criteria).stream().map(Person::getId).toList());
+        assertThat(scannedPersons.get(0))
+                .extracting("id", "name", "age", "email")
+                .contains(1000L, "test1000", 29, "test1000@test.com");
     }
 
     private Person createPerson(int i) {
-        return new Person((long) i, "test" + i, 29, "test@test.com");
+        return new Person((long) i, "test" + i, 29, "test" + i + "@test.com");
     }
 }
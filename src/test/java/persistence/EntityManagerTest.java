@@ -5,26 +5,59 @@ import builder.ddl.builder.CreateQueryBuilder;
 import builder.ddl.builder.DropQueryBuilder;
 import builder.ddl.dataType.DB;
 import builder.dml.EntityData;
+import builder.dml.query.Condition;
+import builder.dml.query.Order;
 import database.H2DBConnection;
 import entity.Person;
 import jdbc.JdbcTemplate;
+import jdbc.QueryCancelledException;
+import jdbc.StatementStatistics;
+import service.person.response.PersonResponse;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
 
 /*
 - Persist로 Person 저장 후 영속성 컨텍스트에 존재하는지 확인한다.
 - remove 실행하면 영속성 컨텍스트에 데이터가 제거된다.
 - update 실행하면 영속성컨텍스트 데이터도 수정된다.
 - update 실행하면 snapShot 데이터도 수정된다.
+- update를 여러번 실행해도 dirty check가 된다.
+- UpdateMode가 ALL_COLUMNS면 변경된 컬럼이 있을 때 전체 컬럼을 수정한다.
+- updateWhere 실행하면 조건에 해당하는 데이터가 일괄 수정되고 영속성 컨텍스트에서 제거된다.
+- deleteWhere 실행하면 조건에 해당하는 데이터가 일괄 삭제되고 영속성 컨텍스트에서 제거된다.
+- createQuery로 조건, 정렬, 페이징에 맞는 데이터를 가져온다.
+- createQuery로 가져온 데이터는 영속성 컨텍스트에서 관리된다.
+- page로 키 순서에 따라 다음 페이지 토큰을 이용해 끝까지 조회한다.
+- page를 유일하지 않은 키 컬럼으로 조회해도 같은 키 값의 행을 건너뛰지 않는다.
+- page는 다른 키 컬럼이나 클래스로 발급된 토큰을 거부한다.
+- page를 managed false로 조회하면 영속성 컨텍스트에 등록하지 않는다.
+- createProjection으로 선택한 컬럼만 DTO로 가져오고 영속성 컨텍스트에 등록하지 않는다.
+- createAggregate로 count, exists, sum, avg를 DB에서 집계한다.
+- createAggregate로 그룹별 개수를 DB에서 집계한다.
+- 한 세션에서 같은 클래스를 id로 기준보다 많이 조회하면 N+1로 판단한다.
+- withDeadline의 기한이 지나면 작업 단위 안의 쿼리는 실행되지 않는다.
+- id 없이 persist하면 DB가 생성한 id가 Entity에 채워진다.
+- persistAll로 여러건을 한번에 저장하고 영속성 컨텍스트에서 관리한다.
+- persistAll은 이미 영속성 컨텍스트에 있는 Entity를 persist와 같이 처리한다.
+- persistAll의 일괄 저장이 실패하면 SAVING 상태를 남기지 않아 다시 저장할 수 있다.
+- upsert는 id가 없으면 저장하고 있으면 수정한다.
 */
 class EntityManagerTest {
 
+    private final static String UPDATE_ALL_COLUMNS_QUERY = "UPDATE users SET nick_name = ?, old = ?, email = ? WHERE id = ?;";
+    private final static String UPDATE_EMAIL_QUERY = "UPDATE users SET email = ? WHERE id = ?;";
+
     private EntityManager entityManager;
     private H2DBConnection h2DBConnection;
     private JdbcTemplate jdbcTemplate;
@@ -63,7 +96,7 @@ class EntityManagerTest {
         EntityData EntityData = this.persistenceContext.findEntity(new EntityKey(person.getId(), person.getClass()));
         assertThat(EntityData.getEntityInstance())
                 .extracting("id", "name", "age", "email")
-                .contains(1L, "test1", 29, "test@test.com");
+                .contains(1L, "test1", 29, "test1@test.com");
     }
 
     @DisplayName("remove 실행하면 영속성 컨텍스트에 데이터가 제거된다.")
@@ -108,7 +141,336 @@ class EntityManagerTest {
                 .contains(1L, "test1", 29, "changed@test.com");
     }
 
+    @DisplayName("update를 여러번 실행해도 dirty check가 된다.")
+    @Test
+    void updateTwiceTest() {
+        Person person = createPerson(1);
+        this.entityManager.persist(person);
+
+        person.changeEmail("changed@test.com");
+        this.entityManager.merge(person);
+        this.entityManager.merge(person);
+        person.changeEmail("twice@test.com");
+        this.entityManager.merge(person);
+
+        this.persistenceContext.evictEntities(Person.class);
+        assertThat(this.entityManager.find(Person.class, 1L))
+                .extracting("email")
+                .isEqualTo("twice@test.com");
+    }
+
+    @DisplayName("UpdateMode가 ALL_COLUMNS면 변경된 컬럼이 있을 때 전체 컬럼을 수정한다.")
+    @Test
+    void updateAllColumnsTest() {
+        //given
+        Person person = createPerson(1);
+        this.entityManager.persist(person);
+        this.entityManager.setUpdateMode(UpdateMode.ALL_COLUMNS);
+        long updateAllCount = statementCount(UPDATE_ALL_COLUMNS_QUERY);
+        long updateEmailCount = statementCount(UPDATE_EMAIL_QUERY);
+
+        //when
+        person.changeEmail("changed@test.com");
+        this.entityManager.merge(person);
+
+        //then
+        assertThat(statementCount(UPDATE_ALL_COLUMNS_QUERY)).isEqualTo(updateAllCount + 1);
+        assertThat(statementCount(UPDATE_EMAIL_QUERY)).isEqualTo(updateEmailCount);
+        Person findPerson = new EntityManagerImpl(new PersistenceContextImpl(), jdbcTemplate).find(Person.class, 1L);
+        assertThat(findPerson)
+                .extracting("id", "name", "age", "email")
+                .containsExactly(1L, "test1", 29, "changed@test.com");
+    }
+
+    @DisplayName("updateWhere 실행하면 조건에 해당하는 데이터가 일괄 수정되고 영속성 컨텍스트에서 제거된다.")
+    @Test
+    void updateWhereTest() {
+        this.entityManager.persist(createPerson(1));
+        this.entityManager.persist(createPerson(2));
+
+        int updatedCount = this.entityManager.updateWhere(Person.class, Map.of("email", "changed@test.com"), Condition.eq("nick_name", "test1"));
+
+        assertThat(updatedCount).isEqualTo(1);
+        assertThat(this.persistenceContext.findEntity(new EntityKey(1L, Person.class))).isNull();
+        assertThat(this.entityManager.find(Person.class, 1L))
+                .extracting("id", "name", "age", "email")
+                .contains(1L, "test1", 29, "changed@test.com");
+        assertThat(this.entityManager.find(Person.class, 2L))
+                .extracting("email")
+                .isEqualTo("test2@test.com");
+    }
+
+    @DisplayName("deleteWhere 실행하면 조건에 해당하는 데이터가 일괄 삭제되고 영속성 컨텍스트에서 제거된다.")
+    @Test
+    void deleteWhereTest() {
+        this.entityManager.persist(createPerson(1));
+        this.entityManager.persist(createPerson(2));
+
+        int deletedCount = this.entityManager.deleteWhere(Person.class, Condition.goe("old", 29));
+
+        assertThat(deletedCount).isEqualTo(2);
+        assertThat(this.persistenceContext.findEntity(new EntityKey(1L, Person.class))).isNull();
+        assertThat(this.persistenceContext.getEntityEntryMap(new EntityKey(2L, Person.class))).isNull();
+    }
+
+    @DisplayName("createQuery로 조건, 정렬, 페이징에 맞는 데이터를 가져온다.")
+    @Test
+    void createQueryTest() {
+        for (int i = 1; i <= 5; i++) {
+            this.entityManager.persist(createPerson(i));
+        }
+
+        List<Person> persons = this.entityManager.createQuery(Person.class)
+                .where(Condition.ne("nick_name", "test2"))
+                .orderBy(Order.desc("id"))
+                .offset(1)
+                .limit(2)
+                .getResultList();
+
+        assertThat(persons)
+                .extracting("id")
+                .containsExactly(4L, 3L);
+    }
+
+    @DisplayName("createQuery로 가져온 데이터는 영속성 컨텍스트에서 관리된다.")
+    @Test
+    void createQueryManagedTest() {
+        this.entityManager.persist(createPerson(1));
+        this.persistenceContext.evictEntities(Person.class);
+
+        Person person = this.entityManager.createQuery(Person.class)
+                .where(Condition.eq("id", 1L))
+                .getSingleResult();
+
+        assertThat(this.persistenceContext.getEntityEntryMap(new EntityKey(1L, Person.class)).checkEntityStatus(EntityStatus.MANAGED)).isTrue();
+        assertThat(person)
+                .extracting("id", "name", "age", "email")
+                .contains(1L, "test1", 29, "test1@test.com");
+    }
+
+    @DisplayName("page로 키 순서에 따라 다음 페이지 토큰을 이용해 끝까지 조회한다.")
+    @Test
+    void pageTest() {
+        for (int i = 1; i <= 5; i++) {
+            this.entityManager.persist(createPerson(i));
+        }
+
+        Page<Person> firstPage = this.entityManager.page(Person.class, "id", null, 2);
+        Page<Person> secondPage = this.entityManager.page(Person.class, "id", firstPage.getNextToken(), 2);
+        Page<Person> lastPage = this.entityManager.page(Person.class, "id", secondPage.getNextToken(), 2);
+
+        assertThat(firstPage.getContent()).extracting("id").containsExactly(1L, 2L);
+        assertThat(secondPage.getContent()).extracting("id").containsExactly(3L, 4L);
+        assertThat(lastPage.getContent()).extracting("id").containsExactly(5L);
+        assertThat(lastPage.hasNext()).isFalse();
+    }
+
+    @DisplayName("page를 유일하지 않은 키 컬럼으로 조회해도 같은 키 값의 행을 건너뛰지 않는다.")
+    @Test
+    void pageNotUniqueKeyTest() {
+        for (int i = 1; i <= 5; i++) {
+            this.entityManager.persist(createPerson(i));
+        }
+
+        Page<Person> firstPage = this.entityManager.page(Person.class, "old", null, 2);
+        Page<Person> secondPage = this.entityManager.page(Person.class, "old", firstPage.getNextToken(), 2);
+        Page<Person> lastPage = this.entityManager.page(Person.class, "old", secondPage.getNextToken(), 2);
+
+        assertThat(firstPage.getContent()).extracting("id").containsExactly(1L, 2L);
+        assertThat(secondPage.getContent()).extracting("id").containsExactly(3L, 4L);
+        assertThat(lastPage.getContent()).extracting("id").containsExactly(5L);
+        assertThat(lastPage.hasNext()).isFalse();
+    }
+
+    @DisplayName("page는 다른 키 컬럼이나 클래스로 발급된 토큰을 거부한다.")
+    @Test
+    void pageMismatchedTokenTest() {
+        for (int i = 1; i <= 3; i++) {
+            this.entityManager.persist(createPerson(i));
+        }
+        String token = this.entityManager.page(Person.class, "id", null, 2).getNextToken();
+
+        assertThatThrownBy(() -> this.entityManager.page(Person.class, "old", token, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("다른 조회에서 발급된 페이지 토큰입니다. token: " + token);
+    }
+
+    @DisplayName("page를 managed false로 조회하면 영속성 컨텍스트에 등록하지 않는다.")
+    @Test
+    void pageNotManagedTest() {
+        this.entityManager.persist(createPerson(1));
+        this.persistenceContext.evictEntities(Person.class);
+
+        Page<Person> page = this.entityManager.page(Person.class, "id", null, 10, false);
+
+        assertThat(page.getContent()).extracting("id").containsExactly(1L);
+        assertThat(this.persistenceContext.getEntityEntryMap(new EntityKey(1L, Person.class))).isNull();
+    }
+
+    @DisplayName("createProjection으로 선택한 컬럼만 DTO로 가져오고 영속성 컨텍스트에 등록하지 않는다.")
+    @Test
+    void createProjectionTest() {
+        this.entityManager.persist(createPerson(1));
+        this.entityManager.persist(createPerson(2));
+        this.persistenceContext.evictEntities(Person.class);
+
+        List<PersonResponse> responses = this.entityManager.createProjection(Person.class, PersonResponse.class, "id", "nick_name", "old", "email")
+                .orderBy(Order.asc("id"))
+                .getResultList();
+
+        assertThat(responses)
+                .extracting("id", "name")
+                .containsExactly(tuple(1L, "test1"), tuple(2L, "test2"));
+        assertThat(this.persistenceContext.getEntityEntryMap(new EntityKey(1L, Person.class))).isNull();
+    }
+
+    @DisplayName("createAggregate로 count, exists, sum, avg를 DB에서 집계한다.")
+    @Test
+    void createAggregateTest() {
+        this.entityManager.persist(createPerson(1));
+        this.entityManager.persist(new Person(2L, "test2", 31, "test2@test.com"));
+
+        AggregateQuery aggregateQuery = this.entityManager.createAggregate(Person.class);
+
+        assertThat(aggregateQuery.count()).isEqualTo(2L);
+        assertThat(aggregateQuery.sum("old", Long.class)).isEqualTo(60L);
+        assertThat(aggregateQuery.max("old", Integer.class)).isEqualTo(31);
+        assertThat(aggregateQuery.avg("old")).isEqualTo(30.0);
+        assertThat(this.entityManager.createAggregate(Person.class).where(Condition.gt("old", 40)).exists()).isFalse();
+    }
+
+    @DisplayName("createAggregate로 그룹별 개수를 DB에서 집계한다.")
+    @Test
+    void createAggregateGroupByTest() {
+        this.entityManager.persist(new Person(1L, "test1", 15, "test1@test.com"));
+        this.entityManager.persist(new Person(2L, "test2", 21, "test2@test.com"));
+        this.entityManager.persist(new Person(3L, "test3", 29, "test3@test.com"));
+
+        Map<Integer, Long> countByAge = this.entityManager.createAggregate(Person.class)
+                .countGroupBy("old / 10", Integer.class);
+
+        assertThat(countByAge).containsExactly(Map.entry(1, 1L), Map.entry(2, 2L));
+    }
+
+    @DisplayName("한 세션에서 같은 클래스를 id로 기준보다 많이 조회하면 N+1로 판단한다.")
+    @Test
+    void sessionStatisticsTest() {
+        //given
+        for (int i = 1; i <= 4; i++) {
+            this.entityManager.persist(createPerson(i));
+        }
+        EntityManager sessionEntityManager = new EntityManagerImpl(new PersistenceContextImpl(), jdbcTemplate, new SessionStatistics(3));
+
+        //when
+        for (long id = 1; id <= 4; id++) {
+            sessionEntityManager.find(Person.class, id);
+        }
+        sessionEntityManager.find(Person.class, 1L);
+
+        //then
+        SessionStatistics sessionStatistics = sessionEntityManager.getStatistics();
+        assertThat(sessionStatistics.getQueryCount()).isEqualTo(4);
+        assertThat(sessionStatistics.getPersistenceContextHitCount()).isEqualTo(1);
+        assertThat(sessionStatistics.getSuspectedNPlusOne()).containsExactly(Person.class);
+    }
+
+    @DisplayName("withDeadline의 기한이 지나면 작업 단위 안의 쿼리는 실행되지 않는다.")
+    @Test
+    void withDeadlineTest() {
+        //given
+        this.entityManager.persist(createPerson(1));
+        EntityManager sessionEntityManager = new EntityManagerImpl(new PersistenceContextImpl(), jdbcTemplate);
+
+        //when, then
+        assertThatThrownBy(() -> sessionEntityManager.withDeadline(Duration.ZERO, () -> sessionEntityManager.find(Person.class, 1L)))
+                .isInstanceOf(QueryCancelledException.class);
+        assertThat(sessionEntityManager.withDeadline(Duration.ofSeconds(5), () -> sessionEntityManager.find(Person.class, 1L)))
+                .isNotNull();
+    }
+
+    @DisplayName("id 없이 persist하면 DB가 생성한 id가 Entity에 채워진다.")
+    @Test
+    void persistGeneratedIdTest() {
+        //given
+        Person person = new Person(null, "test1", 29, "test1@test.com");
+
+        //when
+        this.entityManager.persist(person);
+
+        //then
+        assertThat(person.getId()).isNotNull();
+        assertThat(this.persistenceContext.findEntity(new EntityKey(person.getId(), Person.class))).isNotNull();
+    }
+
+    @DisplayName("persistAll로 여러건을 한번에 저장하고 영속성 컨텍스트에서 관리한다.")
+    @Test
+    void persistAllTest() {
+        //given
+        SessionStatistics sessionStatistics = new SessionStatistics();
+        EntityManager sessionEntityManager = new EntityManagerImpl(this.persistenceContext, jdbcTemplate, sessionStatistics);
+
+        //when
+        sessionEntityManager.persistAll(List.of(createPerson(1), createPerson(2), createPerson(3)));
+
+        //then
+        assertThat(sessionStatistics.getQueryCount()).isEqualTo(1);
+        assertThat(this.persistenceContext.findEntity(new EntityKey(3L, Person.class))).isNotNull();
+        assertThat(new EntityManagerImpl(new PersistenceContextImpl(), jdbcTemplate).createAggregate(Person.class).count())
+                .isEqualTo(3);
+    }
+
+    @DisplayName("persistAll은 이미 영속성 컨텍스트에 있는 Entity를 persist와 같이 처리한다.")
+    @Test
+    void persistAllManagedEntityTest() {
+        //given
+        this.entityManager.persist(createPerson(1));
+
+        //when, then
+        assertThatThrownBy(() -> this.entityManager.persistAll(List.of(createPerson(1), createPerson(2))))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(new EntityManagerImpl(new PersistenceContextImpl(), jdbcTemplate).createAggregate(Person.class).count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("persistAll의 일괄 저장이 실패하면 SAVING 상태를 남기지 않아 다시 저장할 수 있다.")
+    @Test
+    void persistAllFailureTest() {
+        //given
+        new EntityManagerImpl(new PersistenceContextImpl(), jdbcTemplate).persist(createPerson(3));
+
+        //when
+        assertThatThrownBy(() -> this.entityManager.persistAll(List.of(createPerson(2), createPerson(3))))
+                .isInstanceOf(RuntimeException.class);
+        this.entityManager.persist(createPerson(2));
+
+        //then
+        assertThat(this.persistenceContext.getEntityEntryMap(new EntityKey(2L, Person.class)).checkEntityStatus(EntityStatus.MANAGED)).isTrue();
+        assertThat(this.persistenceContext.getEntityEntryMap(new EntityKey(3L, Person.class))).isNull();
+        assertThat(new EntityManagerImpl(new PersistenceContextImpl(), jdbcTemplate).createAggregate(Person.class).count())
+                .isEqualTo(2);
+    }
+
+    @DisplayName("upsert는 id가 없으면 저장하고 있으면 수정한다.")
+    @Test
+    void upsertTest() {
+        //given
+        this.entityManager.upsert(createPerson(1));
+
+        //when
+        this.entityManager.upsert(new Person(1L, "update", 30, "test1@test.com"));
+
+        //then
+        Person person = new EntityManagerImpl(new PersistenceContextImpl(), jdbcTemplate).find(Person.class, 1L);
+        assertThat(person).extracting("name", "age").containsExactly("update", 30);
+    }
+
     private Person createPerson(int i) {
-        return new Person((long) i, "test" + i, 29, "test@test.com");
+        return new Person((long) i, "test" + i, 29, "test" + i + "@test.com");
+    }
+
+    //실행된 쿼리 형태별 실행 횟수
+    private long statementCount(String sql) {
+        StatementStatistics.StatementStats stats = StatementStatistics.getDefault().get(sql);
+        return stats == null ? 0 : stats.count();
     }
-}
\ No newline at end of file
+}
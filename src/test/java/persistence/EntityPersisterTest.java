@@ -59,7 +59,7 @@ public class EntityPersisterTest {
 
         assertThat(findPerson)
                 .extracting("id", "name", "age", "email")
-                .contains(1L, "test1", 29, "test@test.com");
+                .contains(1L, "test1", 29, "test1@test.com");
     }
 
     @DisplayName("remove 실행한다.")
@@ -91,6 +91,6 @@ public class EntityPersisterTest {
     }
 
     private Person createPerson(int i) {
-        return new Person((long) i, "test" + i, 29, "test@test.com");
+        return new Person((long) i, "test" + i, 29, "test" + i + "@test.com");
     }
 }
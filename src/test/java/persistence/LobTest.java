@@ -0,0 +1,145 @@
+package persistence;
+
+import builder.ddl.DDLBuilderData;
+import builder.ddl.builder.CreateQueryBuilder;
+import builder.ddl.builder.DropQueryBuilder;
+import builder.ddl.dataType.DB;
+import database.H2DBConnection;
+import entity.Document;
+import jdbc.JdbcTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+- @Lob 컬럼을 저장하고 조회한다. @Basic(fetch = LAZY) 컬럼은 find 시 조회하지 않는다.
+- initialize로 지연 로딩 필드를 불러오면 변경으로 감지되지 않는다.
+- initialize 전에 바꾼 다른 필드는 merge로 반영된다.
+- LOB 컬럼을 스트림으로 쓰고 메모리에 올리지 않고 스트림으로 읽는다.
+*/
+class LobTest {
+
+    private EntityManager entityManager;
+    private H2DBConnection h2DBConnection;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.h2DBConnection = new H2DBConnection();
+        this.jdbcTemplate = this.h2DBConnection.start();
+
+        //테이블 생성
+        CreateQueryBuilder queryBuilder = new CreateQueryBuilder();
+        jdbcTemplate.execute(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Document.class, DB.H2)));
+
+        this.entityManager = new EntityManagerImpl(new PersistenceContextImpl(), jdbcTemplate);
+    }
+
+    //정확한 테스트를 위해 메소드마다 테이블 DROP 후 DB종료
+    @AfterEach
+    void tearDown() {
+        DropQueryBuilder queryBuilder = new DropQueryBuilder();
+        jdbcTemplate.execute(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Document.class, DB.H2)));
+        this.h2DBConnection.stop();
+    }
+
+    @DisplayName("@Lob 컬럼을 저장하고 조회한다. @Basic(fetch = LAZY) 컬럼은 find 시 조회하지 않는다.")
+    @Test
+    void lazyLobTest() {
+        //given
+        entityManager.persist(new Document(1L, "계약서", "긴 요약 ".repeat(1000), "본문".getBytes(StandardCharsets.UTF_8)));
+
+        //when
+        EntityManager otherEntityManager = new EntityManagerImpl(jdbcTemplate);
+        Document document = otherEntityManager.find(Document.class, 1L);
+
+        //then
+        assertThat(document.getTitle()).isEqualTo("계약서");
+        assertThat(document.getSummary()).isEqualTo("긴 요약 ".repeat(1000));
+        assertThat(document.getContent()).isNull();
+    }
+
+    @DisplayName("initialize로 지연 로딩 필드를 불러오면 변경으로 감지되지 않는다.")
+    @Test
+    void initializeTest() {
+        //given
+        entityManager.persist(new Document(1L, "계약서", "요약", "본문".getBytes(StandardCharsets.UTF_8)));
+        EntityManager otherEntityManager = new EntityManagerImpl(jdbcTemplate);
+        Document document = otherEntityManager.find(Document.class, 1L);
+
+        //when
+        otherEntityManager.initialize(document, "content");
+        long queryCount = otherEntityManager.getStatistics().getQueryCount();
+        otherEntityManager.merge(document);
+
+        //then
+        assertThat(new String(document.getContent(), StandardCharsets.UTF_8)).isEqualTo("본문");
+        assertThat(otherEntityManager.getStatistics().getQueryCount()).isEqualTo(queryCount);
+    }
+
+    @DisplayName("initialize 전에 바꾼 다른 필드는 merge로 반영된다.")
+    @Test
+    void initializeKeepsChangesTest() {
+        //given
+        entityManager.persist(new Document(1L, "계약서", "요약", "본문".getBytes(StandardCharsets.UTF_8)));
+        EntityManager otherEntityManager = new EntityManagerImpl(jdbcTemplate);
+        otherEntityManager.find(Document.class, 1L);
+        Document document = otherEntityManager.find(Document.class, 1L); // 영속성 컨텍스트가 관리하는 Entity
+        document.changeTitle("변경된 계약서");
+
+        //when
+        otherEntityManager.initialize(document, "content");
+        otherEntityManager.merge(document);
+
+        //then
+        Document findDocument = new EntityManagerImpl(jdbcTemplate).find(Document.class, 1L);
+        assertThat(findDocument.getTitle()).isEqualTo("변경된 계약서");
+        assertThat(document.getContent()).isEqualTo("본문".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @DisplayName("LOB 컬럼을 스트림으로 쓰고 메모리에 올리지 않고 스트림으로 읽는다.")
+    @Test
+    void streamTest() {
+        //given
+        int size = 8 * 1024 * 1024;
+        entityManager.persist(new Document(1L, "영상", null, null));
+        InputStream source = new InputStream() {
+            private int position;
+
+            @Override
+            public int read() {
+                return position < size ? (position++ % 128) : -1;
+            }
+        };
+
+        //when
+        entityManager.writeBinary(Document.class, 1L, "content", source);
+        entityManager.writeCharacters(Document.class, 1L, "summary", new StringReader("스트림 요약"));
+
+        //then
+        long readSize = entityManager.readBinary(Document.class, 1L, "content", inputStream -> {
+            long count = 0;
+            byte[] buffer = new byte[8192];
+            for (int read = inputStream.read(buffer); read != -1; read = inputStream.read(buffer)) {
+                count += read;
+            }
+            return count;
+        });
+        String summary = entityManager.readCharacters(Document.class, 1L, "summary", reader -> {
+            StringWriter writer = new StringWriter();
+            reader.transferTo(writer);
+            return writer.toString();
+        });
+        assertThat(readSize).isEqualTo(size);
+        assertThat(summary).isEqualTo("스트림 요약");
+    }
+}
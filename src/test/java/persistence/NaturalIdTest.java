@@ -0,0 +1,146 @@
+package persistence;
+
+import builder.ddl.DDLBuilderData;
+import builder.ddl.builder.CreateQueryBuilder;
+import builder.ddl.builder.DropQueryBuilder;
+import builder.ddl.dataType.DB;
+import database.H2DBConnection;
+import entity.Person;
+import jdbc.JdbcTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+- 이미 관리중인 Entity를 natural id로 조회하면 쿼리를 실행하지 않는다.
+- 캐시에 없는 natural id는 한 번만 조회하고 이후에는 캐시를 사용한다.
+- 공유 캐시를 설정하면 다른 EntityManager에서 등록한 natural id로 PK를 찾는다.
+- merge로 natural id가 변경되면 변경된 값으로 캐시가 갱신된다.
+- 캐시된 PK의 행이 다른 EntityManager에서 삭제되면 natural id 컬럼으로 다시 조회한다.
+*/
+class NaturalIdTest {
+
+    private EntityManager entityManager;
+    private H2DBConnection h2DBConnection;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.h2DBConnection = new H2DBConnection();
+        this.jdbcTemplate = this.h2DBConnection.start();
+
+        //테이블 생성
+        CreateQueryBuilder queryBuilder = new CreateQueryBuilder();
+        jdbcTemplate.execute(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Person.class, DB.H2)));
+
+        this.entityManager = new EntityManagerImpl(new PersistenceContextImpl(), jdbcTemplate);
+    }
+
+    //정확한 테스트를 위해 메소드마다 테이블 DROP 후 DB종료
+    @AfterEach
+    void tearDown() {
+        DropQueryBuilder queryBuilder = new DropQueryBuilder();
+        jdbcTemplate.execute(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Person.class, DB.H2)));
+        this.h2DBConnection.stop();
+    }
+
+    @DisplayName("이미 관리중인 Entity를 natural id로 조회하면 쿼리를 실행하지 않는다.")
+    @Test
+    void managedEntityTest() {
+        //given
+        entityManager.persist(createPerson(1));
+        long queryCount = entityManager.getStatistics().getQueryCount();
+
+        //when
+        Person person = entityManager.findByNaturalId(Person.class, "test1@test.com");
+
+        //then
+        assertThat(person.getId()).isEqualTo(1L);
+        assertThat(entityManager.getStatistics().getQueryCount()).isEqualTo(queryCount);
+    }
+
+    @DisplayName("캐시에 없는 natural id는 한 번만 조회하고 이후에는 캐시를 사용한다.")
+    @Test
+    void cacheMissTest() {
+        //given
+        entityManager.persist(createPerson(1));
+        EntityManager otherEntityManager = new EntityManagerImpl(jdbcTemplate);
+
+        //when
+        Person person = otherEntityManager.findByNaturalId(Person.class, "test1@test.com");
+        Person cachedPerson = otherEntityManager.findByNaturalId(Person.class, "test1@test.com");
+
+        //then
+        assertThat(person.getId()).isEqualTo(1L);
+        assertThat(cachedPerson.getId()).isEqualTo(1L);
+        assertThat(otherEntityManager.getStatistics().getQueryCount()).isEqualTo(1);
+    }
+
+    @DisplayName("공유 캐시를 설정하면 다른 EntityManager에서 등록한 natural id로 PK를 찾는다.")
+    @Test
+    void sharedCacheTest() {
+        //given
+        NaturalIdCache sharedNaturalIdCache = new NaturalIdCache();
+        entityManager.setSharedNaturalIdCache(sharedNaturalIdCache);
+        entityManager.persist(createPerson(1));
+
+        EntityManager otherEntityManager = new EntityManagerImpl(jdbcTemplate);
+        otherEntityManager.setSharedNaturalIdCache(sharedNaturalIdCache);
+
+        //when
+        Person person = otherEntityManager.findByNaturalId(Person.class, "test1@test.com");
+
+        //then
+        assertThat(person.getId()).isEqualTo(1L);
+        assertThat(sharedNaturalIdCache.get(Person.class, "test1@test.com")).isEqualTo(1L);
+    }
+
+    @DisplayName("merge로 natural id가 변경되면 변경된 값으로 캐시가 갱신된다.")
+    @Test
+    void changeNaturalIdTest() {
+        //given
+        entityManager.persist(createPerson(1));
+
+        //when
+        entityManager.merge(new Person(1L, "test1", 29, "changed@test.com"));
+        long queryCount = entityManager.getStatistics().getQueryCount();
+
+        //then
+        assertThat(entityManager.findByNaturalId(Person.class, "changed@test.com").getId()).isEqualTo(1L);
+        assertThat(entityManager.getStatistics().getQueryCount()).isEqualTo(queryCount);
+    }
+
+    @DisplayName("캐시된 PK의 행이 다른 EntityManager에서 삭제되면 natural id 컬럼으로 다시 조회한다.")
+    @Test
+    void deletedCachedIdTest() {
+        //given
+        NaturalIdCache sharedNaturalIdCache = new NaturalIdCache();
+        entityManager.setSharedNaturalIdCache(sharedNaturalIdCache);
+        entityManager.persist(createPerson(1));
+
+        EntityManager deleteEntityManager = new EntityManagerImpl(jdbcTemplate);
+        deleteEntityManager.remove(deleteEntityManager.find(Person.class, 1L));
+        deleteEntityManager.persist(new Person(2L, "test2", 29, "test1@test.com"));
+
+        PersistenceContext persistenceContext = new PersistenceContextImpl();
+        EntityManager otherEntityManager = new EntityManagerImpl(persistenceContext, jdbcTemplate);
+        otherEntityManager.setSharedNaturalIdCache(sharedNaturalIdCache);
+
+        //when
+        Person person = otherEntityManager.findByNaturalId(Person.class, "test1@test.com");
+
+        //then
+        assertThat(person.getId()).isEqualTo(2L);
+        assertThat(sharedNaturalIdCache.get(Person.class, "test1@test.com")).isEqualTo(2L);
+        assertThat(persistenceContext.getEntityEntryMap(new EntityKey(1L, Person.class))).isNull();
+    }
+
+    private Person createPerson(int i) {
+        return new Person((long) i, "test" + i, 29, "test" + i + "@test.com");
+    }
+}
@@ -0,0 +1,111 @@
+package persistence;
+
+import builder.ddl.DDLBuilderData;
+import builder.ddl.builder.CreateQueryBuilder;
+import builder.ddl.builder.DropQueryBuilder;
+import builder.ddl.dataType.DB;
+import database.ConnectionPool;
+import database.H2DBConnection;
+import entity.Person;
+import jdbc.JdbcTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+- PK 범위를 구간 크기가 최대 1 차이나도록 나눈다.
+- long 범위 끝에 걸친 PK 범위도 overflow 없이 나눈다.
+- 모든 구간을 병렬로 조회하여 전체 데이터를 한번씩 consumer에 전달한다.
+- 데이터가 없으면 조회하지 않는다.
+*/
+class ParallelScannerTest {
+
+    private H2DBConnection h2DBConnection;
+    private JdbcTemplate jdbcTemplate;
+    private ConnectionPool connectionPool;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.h2DBConnection = new H2DBConnection();
+        this.jdbcTemplate = this.h2DBConnection.start();
+
+        CreateQueryBuilder queryBuilder = new CreateQueryBuilder();
+        jdbcTemplate.execute(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Person.class, DB.H2)));
+
+        this.connectionPool = this.h2DBConnection.createConnectionPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.connectionPool.close();
+        DropQueryBuilder queryBuilder = new DropQueryBuilder();
+        jdbcTemplate.execute(queryBuilder.buildQuery(DDLBuilderData.createDDLBuilderData(Person.class, DB.H2)));
+        this.h2DBConnection.stop();
+    }
+
+    @DisplayName("PK 범위를 구간 크기가 최대 1 차이나도록 나눈다.")
+    @Test
+    void splitTest() {
+        List<ParallelScanner.KeyRange> keyRanges = new ParallelScanner.KeyRange(1, 10).split(3);
+
+        assertThat(keyRanges).containsExactly(
+                new ParallelScanner.KeyRange(1, 4),
+                new ParallelScanner.KeyRange(5, 7),
+                new ParallelScanner.KeyRange(8, 10)
+        );
+        assertThat(new ParallelScanner.KeyRange(5, 6).split(8)).hasSize(2);
+    }
+
+    @DisplayName("long 범위 끝에 걸친 PK 범위도 overflow 없이 나눈다.")
+    @Test
+    void splitBoundaryTest() {
+        assertThat(new ParallelScanner.KeyRange(Long.MIN_VALUE, Long.MAX_VALUE).split(4)).containsExactly(
+                new ParallelScanner.KeyRange(Long.MIN_VALUE, -(1L << 62) - 1),
+                new ParallelScanner.KeyRange(-(1L << 62), -1),
+                new ParallelScanner.KeyRange(0, (1L << 62) - 1),
+                new ParallelScanner.KeyRange(1L << 62, Long.MAX_VALUE)
+        );
+        assertThat(new ParallelScanner.KeyRange(Long.MAX_VALUE - 2, Long.MAX_VALUE).split(2)).containsExactly(
+                new ParallelScanner.KeyRange(Long.MAX_VALUE - 2, Long.MAX_VALUE - 1),
+                new ParallelScanner.KeyRange(Long.MAX_VALUE, Long.MAX_VALUE)
+        );
+        assertThat(new ParallelScanner.KeyRange(Long.MIN_VALUE, Long.MAX_VALUE).split(1))
+                .containsExactly(new ParallelScanner.KeyRange(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @DisplayName("모든 구간을 병렬로 조회하여 전체 데이터를 한번씩 consumer에 전달한다.")
+    @Test
+    void scanTest() {
+        //given
+        EntityManager entityManager = new EntityManagerImpl(jdbcTemplate);
+        for (long id = 1; id <= 100; id++) {
+            entityManager.persist(new Person(id, "test" + id, 29, "test" + id + "@test.com"));
+        }
+        Queue<Long> scannedIds = new ConcurrentLinkedQueue<>();
+
+        //when
+        long scannedCount = new ParallelScanner(connectionPool).scan(Person.class, 8, person -> scannedIds.add(person.getId()));
+
+        //then
+        assertThat(scannedCount).isEqualTo(100);
+        assertThat(scannedIds).containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, 100).boxed().toList());
+        assertThat(connectionPool.getIdleCount()).isEqualTo(4);
+    }
+
+    @DisplayName("데이터가 없으면 조회하지 않는다.")
+    @Test
+    void emptyScanTest() {
+        long scannedCount = new ParallelScanner(connectionPool).scan(Person.class, 4, person -> {});
+
+        assertThat(scannedCount).isZero();
+    }
+}
@@ -2,6 +2,8 @@ package persistence;
 
 import builder.dml.EntityData;
 import entity.Person;
+import metrics.Gauge;
+import metrics.MetricsRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -15,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 - 영속성 컨텍스트에서 스냅샷을 생성한다.
 - 영속성 컨텍스트에서 스냅샷을 가져온다.
 - 영속성 컨텍스트에서 EntityStatus를 저장 후 저장되어있는 EntityEntry 객체를 가져온다.
+- 관리중인 Entity 수 gauge는 Entity를 제거하거나 컨텍스트를 clear 하면 줄어든다.
 */
 class PersistenceContextImplTest {
 
@@ -81,6 +84,28 @@ class PersistenceContextImplTest {
                 .extracting("entityStatus").isEqualTo(EntityStatus.MANAGED);
     }
 
+    @DisplayName("관리중인 Entity 수 gauge는 Entity를 제거하거나 컨텍스트를 clear 하면 줄어든다.")
+    @Test
+    void managedEntityGaugeTest() {
+        //given
+        PersistenceContextImpl persistenceContext = new PersistenceContextImpl();
+        Gauge gauge = MetricsRegistry.getDefault().getGauges().get("persistenceContext.entities");
+        long before = gauge.getValue();
+        IntStream.range(1, 4).forEach(i -> persistenceContext.insertEntity(new EntityKey(i, Person.class), EntityData.createEntityData(createPerson(i))));
+        persistenceContext.insertEntity(new EntityKey(1, Person.class), EntityData.createEntityData(createPerson(1)));
+
+        //when
+        long managed = gauge.getValue();
+        persistenceContext.deleteEntity(new EntityKey(1, Person.class));
+        long deleted = gauge.getValue();
+        persistenceContext.clear();
+
+        //then
+        assertThat(managed).isEqualTo(before + 3);
+        assertThat(deleted).isEqualTo(before + 2);
+        assertThat(gauge.getValue()).isEqualTo(before);
+    }
+
     private Person createPerson(int i) {
         return new Person((long) i, "test" + i, 29, "test@test.com");
     }
@@ -0,0 +1,71 @@
+package persistence;
+
+import entity.Person;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+- 같은 클래스의 단건 조회가 기준 이하이면 N+1로 판단하지 않는다.
+- 같은 클래스의 단건 조회가 기준을 넘으면 N+1로 판단한다.
+- 목록 조회는 쿼리 한번으로 기록되고 조회된 Entity 수가 누적된다.
+- 기준이 1보다 작으면 예외가 발생한다.
+*/
+class SessionStatisticsTest {
+
+    @DisplayName("같은 클래스의 단건 조회가 기준 이하이면 N+1로 판단하지 않는다.")
+    @Test
+    void underThresholdTest() {
+        //given
+        SessionStatistics sessionStatistics = new SessionStatistics(3);
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            sessionStatistics.singleRowLoaded(Person.class);
+        }
+
+        //then
+        assertThat(sessionStatistics.getSingleRowLoadCount(Person.class)).isEqualTo(3);
+        assertThat(sessionStatistics.getSuspectedNPlusOne()).isEmpty();
+    }
+
+    @DisplayName("같은 클래스의 단건 조회가 기준을 넘으면 N+1로 판단한다.")
+    @Test
+    void overThresholdTest() {
+        //given
+        SessionStatistics sessionStatistics = new SessionStatistics(3);
+
+        //when
+        for (int i = 0; i < 4; i++) {
+            sessionStatistics.singleRowLoaded(Person.class);
+        }
+
+        //then
+        assertThat(sessionStatistics.getSuspectedNPlusOne()).containsExactly(Person.class);
+        assertThat(sessionStatistics.summary()).contains("4 single-row loads of Person");
+    }
+
+    @DisplayName("목록 조회는 쿼리 한번으로 기록되고 조회된 Entity 수가 누적된다.")
+    @Test
+    void entitiesLoadedTest() {
+        //given
+        SessionStatistics sessionStatistics = new SessionStatistics(3);
+
+        //when
+        sessionStatistics.entitiesLoaded(5);
+        sessionStatistics.singleRowLoaded(Person.class);
+
+        //then
+        assertThat(sessionStatistics.getQueryCount()).isEqualTo(2);
+        assertThat(sessionStatistics.getLoadedEntityCount()).isEqualTo(6);
+    }
+
+    @DisplayName("기준이 1보다 작으면 예외가 발생한다.")
+    @Test
+    void invalidThresholdTest() {
+        assertThatThrownBy(() -> new SessionStatistics(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
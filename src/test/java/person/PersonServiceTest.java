@@ -17,6 +17,7 @@ import service.person.request.PersonRequest;
 import service.person.response.PersonResponse;
 
 import java.sql.SQLException;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -25,6 +26,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 - Person 1L 데이터를 가져온다.
 - Person 데이터를 가져올 시 존재하지 않는 데이터면 RuntimeException 이 발생한다.
 - Person 1L 데이터를 삭제한다.
+- 여러 Person 데이터를 한번에 저장한다.
 */
 class PersonServiceTest {
 
@@ -67,7 +69,7 @@ class PersonServiceTest {
 
         assertThat(personResponse)
                 .extracting("id", "name", "age", "email")
-                .containsExactly(1L, "test1", 29, "test@test.com");
+                .containsExactly(1L, "test1", 29, "test1@test.com");
     }
 
     @DisplayName("Person 데이터를 가져올 시 존재하지 않는 데이터면 RuntimeException 이 발생한다.")
@@ -87,7 +89,20 @@ class PersonServiceTest {
                 .hasMessage("Expected 1 result, got 0");
     }
 
+    @DisplayName("여러 Person 데이터를 한번에 저장한다.")
+    @Test
+    void saveAllTest() {
+        personService.saveAll(List.of(createPersonRequest(3), createPersonRequest(4)));
+
+        assertThat(personService.findById(3L))
+                .extracting("id", "email")
+                .containsExactly(3L, "test3@test.com");
+        assertThat(personService.findById(4L))
+                .extracting("id", "email")
+                .containsExactly(4L, "test4@test.com");
+    }
+
     private PersonRequest createPersonRequest(int i) {
-        return new PersonRequest((long) i, "test" + i, 29, "test@test.com");
+        return new PersonRequest((long) i, "test" + i, 29, "test" + i + "@test.com");
     }
 }